@@ -0,0 +1,103 @@
+package garabu.garabuServer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import garabu.garabuServer.dto.CategoryDto;
+import garabu.garabuServer.event.BookEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 비용 비교 (기존 타입 포함 JSON vs 버전 헤더 + Smile)
+ *
+ * <ul>
+ *   <li>payload=categories: 가계부 통합 카테고리 캐시 (CategoryDto 30개 목록)</li>
+ *   <li>payload=event: 기록 생성 Pub/Sub 이벤트 (BookEvent + 기록 Map)</li>
+ * </ul>
+ *
+ * 직렬화 크기(bytes)는 Setup 에서 출력합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"categories", "event"})
+    private String payload;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> smile;
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper redisObjectMapper = new RedisConfig().redisObjectMapper();
+        json = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        smile = new VersionedRedisSerializer(redisObjectMapper, VersionedRedisSerializer.Format.SMILE);
+
+        value = "event".equals(payload) ? ledgerEvent() : categories();
+        jsonBytes = json.serialize(value);
+        smileBytes = smile.serialize(value);
+        System.out.printf("%n[%s] json=%d bytes, smile=%d bytes (%.1f%%)%n",
+                payload, jsonBytes.length, smileBytes.length, 100.0 * smileBytes.length / jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] smileSerialize() {
+        return smile.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object smileDeserialize() {
+        return smile.deserialize(smileBytes);
+    }
+
+    private static List<CategoryDto> categories() {
+        List<CategoryDto> categories = new ArrayList<>();
+        for (long i = 1; i <= 30; i++) {
+            boolean isDefault = i <= 20;
+            categories.add(new CategoryDto(i, "카테고리" + i, "🍽️", isDefault,
+                    isDefault ? null : 1L, isDefault ? null : 7L));
+        }
+        return categories;
+    }
+
+    private static BookEvent ledgerEvent() {
+        Map<String, Object> ledger = new LinkedHashMap<>();
+        ledger.put("id", 12345L);
+        ledger.put("date", "2025-01-15");
+        ledger.put("amount", 45000L);
+        ledger.put("description", "마트 장보기");
+        ledger.put("memo", "주말 식료품");
+        ledger.put("amountType", "EXPENSE");
+        ledger.put("categoryId", 3L);
+        ledger.put("paymentId", 2L);
+        ledger.put("spender", "홍길동");
+
+        BookEvent event = BookEvent.ledgerCreated(1L, 7L, ledger);
+        event.setEventId("1736900000000-0");
+        return event;
+    }
+}
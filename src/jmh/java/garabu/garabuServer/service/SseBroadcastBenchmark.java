@@ -0,0 +1,84 @@
+package garabu.garabuServer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import garabu.garabuServer.event.BookEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 브로드캐스트 직렬화 비용 비교
+ *
+ * <ul>
+ *   <li>perEmitter: 기존 방식, 구독자마다 SseEventBuilder 를 만들고 data 를 Jackson 으로 직렬화</li>
+ *   <li>sharedFrame: 이벤트를 {@link SseFrame} 으로 한 번만 인코딩하고 모든 구독자가 공유</li>
+ * </ul>
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SseBroadcastBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int subscribers;
+
+    private ObjectMapper objectMapper;
+    private SseService.SseEvent event;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        Map<String, Object> ledger = new LinkedHashMap<>();
+        ledger.put("id", 12345L);
+        ledger.put("date", LocalDate.of(2025, 1, 15).toString());
+        ledger.put("amount", new BigDecimal("45000"));
+        ledger.put("description", "마트 장보기");
+        ledger.put("memo", "주말 식료품");
+        ledger.put("amountType", "EXPENSE");
+        ledger.put("categoryId", 3L);
+        ledger.put("paymentId", 2L);
+        ledger.put("spender", "홍길동");
+
+        BookEvent bookEvent = BookEvent.ledgerCreated(1L, 7L, ledger);
+        bookEvent.setEventId("1736900000000-0");
+        event = new SseService.SseEvent(bookEvent.getEventType(), bookEvent, bookEvent.getTimestamp());
+    }
+
+    @Benchmark
+    public void perEmitter(Blackhole bh) throws Exception {
+        for (int i = 0; i < subscribers; i++) {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .id("1736900000000-0")
+                    .name(event.type)
+                    .data(event);
+            // 메시지 컨버터가 구독자마다 수행하던 JSON 직렬화
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                Object data = part.getData();
+                bh.consume(data instanceof String ? data : objectMapper.writeValueAsBytes(data));
+            }
+        }
+    }
+
+    @Benchmark
+    public void sharedFrame(Blackhole bh) {
+        SseFrame frame = SseFrame.of("1736900000000-0", event.type, event, objectMapper);
+        for (int i = 0; i < subscribers; i++) {
+            for (ResponseBodyEmitter.DataWithMediaType part : frame.build()) {
+                bh.consume(part.getData());
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.tencoding.garabu.dto.notification;
 
 import lombok.Data;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 @Data
@@ -37,4 +39,9 @@ public class NotificationPreferenceRequest {
     
     private String quietHoursStart; // HH:mm 형식
     private String quietHoursEnd; // HH:mm 형식
+    
+    // 새 거래 알림 묶음 시간 (초, 0 이면 즉시 발송, 비우면 서버 기본값)
+    @Min(value = 0, message = "알림 묶음 시간은 0초 이상이어야 합니다")
+    @Max(value = 3600, message = "알림 묶음 시간은 3600초 이하여야 합니다")
+    private Integer transactionDigestSeconds;
 } 
\ No newline at end of file
@@ -25,6 +25,7 @@ public class NotificationPreferenceResponse {
     private Boolean weekendAlert;
     private String quietHoursStart;
     private String quietHoursEnd;
+    private Integer transactionDigestSeconds;
     
     public static NotificationPreferenceResponse fromEntity(NotificationPreference preference) {
         return NotificationPreferenceResponse.builder()
@@ -42,6 +43,7 @@ public class NotificationPreferenceResponse {
                 .weekendAlert(preference.getWeekendAlert())
                 .quietHoursStart(preference.getQuietHoursStart())
                 .quietHoursEnd(preference.getQuietHoursEnd())
+                .transactionDigestSeconds(preference.getTransactionDigestSeconds())
                 .build();
     }
 } 
\ No newline at end of file
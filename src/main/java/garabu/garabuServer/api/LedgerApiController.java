@@ -1,15 +1,18 @@
 package garabu.garabuServer.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import garabu.garabuServer.domain.*;
+import garabu.garabuServer.dto.LedgerCursor;
+import garabu.garabuServer.dto.LedgerCursorPageDTO;
 import garabu.garabuServer.dto.LedgerDTO;
 import garabu.garabuServer.dto.LedgerSearchConditionDTO;
 import garabu.garabuServer.dto.CreateLedgerRequest;
 import garabu.garabuServer.dto.CreateLedgerResponse;
+import garabu.garabuServer.dto.LedgerImportResult;
 import garabu.garabuServer.dto.request.CreateTransferRequest;
 import garabu.garabuServer.event.BookEvent;
 import garabu.garabuServer.event.BookEventPublisher;
 import garabu.garabuServer.service.*;
-import garabu.garabuServer.service.PushNotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -20,6 +23,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.RequestBody;
 import jakarta.validation.constraints.NotNull;
@@ -35,6 +40,8 @@ import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -43,6 +50,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -74,8 +82,9 @@ public class LedgerApiController {
     private final LedgerService   ledgerService;
     private final MemberService   memberService;
     private final UserBookService userBookService;
-    private final PushNotificationService pushNotificationService;
     private final BookEventPublisher bookEventPublisher;
+    private final LedgerImportService ledgerImportService;
+    private final LedgerExportService ledgerExportService;
 
     // ───────────────────────── 테스트 엔드포인트 ─────────────────────────
     @PostMapping("/test-json")
@@ -139,11 +148,11 @@ public class LedgerApiController {
             Book book = bookService.findById(request.getBookId());
             
             // 사용자의 가계부 권한 확인
-            UserBook userBook = userBookService.findByBookIdAndMemberId(book.getId(), currentMember.getId())
+            BookRole role = userBookService.findRole(book.getId(), currentMember.getId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 가계부에 접근 권한이 없습니다."));
             
             // VIEWER는 기록 작성 불가
-            if (userBook.getBookRole() == BookRole.VIEWER) {
+            if (role == BookRole.VIEWER) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "조회 권한만 있습니다. 기록을 작성할 수 없습니다.");
             }
 
@@ -189,7 +198,8 @@ public class LedgerApiController {
             }
 
             /* ────── 5. 저장 ────── */
-            Long id = ledgerService.registLedger(ledger);
+            // 새 거래 알림은 같은 트랜잭션에서 아웃박스에 기록되고 커밋 후 워커가 발송
+            Long id = ledgerService.registLedgerWithNotification(ledger);
             logger.info("Ledger registered with id={} by user={}", id, currentMember.getUsername());
 
             /* ────── 6. 생성된 기록 조회하여 상세 정보 반환 ────── */
@@ -216,17 +226,6 @@ public class LedgerApiController {
             
             logger.info("가계부 이벤트 발행 완료 - 타입: LEDGER_CREATED, 가계부: {}", book.getId());
             
-            // 푸시 알림 발송 (새 거래 내역 추가)
-            try {
-                // 알림을 위해서는 실제 엔티티가 필요하므로 엔티티를 가져옴
-                Ledger ledgerEntity = ledgerService.findById(id);
-                pushNotificationService.sendNewTransactionNotification(ledgerEntity, currentMember);
-                logger.info("새 거래 내역 푸시 알림 발송 완료 - LedgerId: {}", createdLedger.getId());
-            } catch (Exception e) {
-                logger.error("푸시 알림 발송 실패 - LedgerId: {}", createdLedger.getId(), e);
-                // 푸시 알림 실패는 전체 트랜잭션에 영향을 주지 않음
-            }
-            
             return ResponseEntity.status(201).body(response);
 
         } catch (Exception e) {
@@ -297,6 +296,13 @@ public class LedgerApiController {
     public ResponseEntity<ListLedgerResponse> getLedgersByBook(
             @Parameter(description = "가계부 ID", example = "1")
             @PathVariable Long bookId,
+
+            @Parameter(description = "커서 페이지네이션 토큰. 빈 값이면 첫 페이지, 이후 응답의 nextCursor 사용 (지정 시 page/sort 무시)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "커서 모드에서 전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+
             @ParameterObject Pageable pageable
     ) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -306,6 +312,13 @@ public class LedgerApiController {
         
         // 가계부 접근 권한 확인
         userBookService.validateBookAccess(currentMember, book);
+
+        // 커서(keyset) 모드
+        if (cursor != null) {
+            LedgerCursorPageDTO cursorPage = ledgerService.findLedgersByBookWithCursor(
+                    book, decodeCursor(cursor), pageable.getPageSize(), includeTotal);
+            return ResponseEntity.ok(ListLedgerResponse.fromCursorPage(cursorPage));
+        }
         
         Page<LedgerDTO> page = ledgerService.findLedgersByBook(book, pageable);
 
@@ -353,6 +366,12 @@ public class LedgerApiController {
             @Parameter(description = "결제 수단", example = "카드")           
             @RequestParam(required = false) String payment,
 
+            @Parameter(description = "커서 페이지네이션 토큰. 빈 값이면 첫 페이지, 이후 응답의 nextCursor 사용 (지정 시 page/sort 무시)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "커서 모드에서 전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+
             @ParameterObject Pageable pageable
     ) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -367,6 +386,13 @@ public class LedgerApiController {
                 bookId, startDate, endDate, amountType, category, payment
         );
 
+        // 커서(keyset) 모드
+        if (cursor != null) {
+            LedgerCursorPageDTO cursorPage = ledgerService.searchLedgersWithCursor(
+                    cond, decodeCursor(cursor), pageable.getPageSize(), includeTotal);
+            return ResponseEntity.ok(ListLedgerResponse.fromCursorPage(cursorPage));
+        }
+
         Page<LedgerDTO> page = ledgerService.searchLedgers(cond, pageable);
 
         List<LedgerDto> dtoList = page.getContent().stream()
@@ -376,6 +402,66 @@ public class LedgerApiController {
         return ResponseEntity.ok(new ListLedgerResponse(dtoList, page.getTotalElements()));
     }
 
+    // ───────────────────────── 기록 내보내기 ─────────────────────────
+    /**
+     * 가계부 기록을 CSV 로 내보냅니다.
+     * 기록을 한 행씩 읽어 응답 스트림에 바로 쓰므로 기록 수와 관계없이 메모리 사용량이 일정합니다.
+     */
+    @GetMapping("/{bookId}/export")
+    @Operation(
+            summary     = "가계부 기록 CSV 내보내기",
+            description = """
+        검색과 같은 조건으로 기록을 날짜순 CSV(UTF-8 BOM)로 내려받습니다.
+        헤더는 일괄 가져오기 CSV 와 같습니다.
+        """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공 (text/csv)"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public void exportLedgers(
+            @Parameter(description = "가계부 ID", example = "1")
+            @PathVariable Long bookId,
+
+            @Parameter(description = "시작 날짜(yyyy-MM-dd)", example = "2025-01-01")
+            @RequestParam(required = false) LocalDate startDate,
+
+            @Parameter(description = "종료 날짜(yyyy-MM-dd)", example = "2025-12-31")
+            @RequestParam(required = false) LocalDate endDate,
+
+            @Parameter(description = "금액 유형(INCOME/EXPENSE/TRANSFER)",
+                    schema = @Schema(allowableValues = {"INCOME","EXPENSE","TRANSFER"}))
+            @RequestParam(required = false) AmountType amountType,
+
+            @Parameter(description = "카테고리명", example = "식비")
+            @RequestParam(required = false) String category,
+
+            @Parameter(description = "결제 수단", example = "카드")
+            @RequestParam(required = false) String payment,
+
+            HttpServletResponse httpResponse
+    ) throws IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Member currentMember = memberService.findMemberByUsername(auth.getName());
+
+        Book book = bookService.findById(bookId);
+
+        // 가계부 접근 권한 확인
+        userBookService.validateBookAccess(currentMember, book);
+
+        LedgerSearchConditionDTO cond = new LedgerSearchConditionDTO(
+                bookId, startDate, endDate, amountType, category, payment
+        );
+
+        httpResponse.setContentType("text/csv;charset=UTF-8");
+        httpResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("ledger-" + bookId + "-" + LocalDate.now() + ".csv")
+                .build().toString());
+
+        long rows = ledgerExportService.exportCsv(cond, httpResponse.getOutputStream());
+        logger.info("가계부 기록 내보내기 - 가계부: {}, 사용자: {}, 행 수: {}", bookId, currentMember.getUsername(), rows);
+    }
+
     // ───────────────────────── 이체 기록 생성 ─────────────────────────
     /**
      * 이체 기록을 생성합니다.
@@ -408,10 +494,10 @@ public class LedgerApiController {
             // 2. 가계부 권한 확인
             Book book = bookService.findById(request.getBookId());
             
-            UserBook userBook = userBookService.findByBookIdAndMemberId(book.getId(), currentMember.getId())
+            BookRole role = userBookService.findRole(book.getId(), currentMember.getId())
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 가계부에 접근 권한이 없습니다."));
             
-            if (userBook.getBookRole() == BookRole.VIEWER) {
+            if (role == BookRole.VIEWER) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "조회 권한만 있습니다. 이체 기록을 작성할 수 없습니다.");
             }
 
@@ -438,6 +524,78 @@ public class LedgerApiController {
         }
     }
 
+    // ───────────────────────── 기록 일괄 가져오기 ─────────────────────────
+    /**
+     * CSV 또는 NDJSON 본문으로 가계부 기록을 일괄 등록합니다.
+     *
+     * @param bookId 대상 가계부 ID
+     * @param httpRequest 요청 (본문을 스트리밍으로 읽음)
+     * @return 가져오기 결과 (행별 오류 포함)
+     */
+    @PostMapping(value = "/{bookId}/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(
+            summary = "가계부 기록 일괄 가져오기",
+            description = """
+        은행 내보내기 CSV(첫 줄 헤더: date, amount, amountType, category, payment, description, memo, spender)
+        또는 NDJSON(한 줄에 기록 하나, 단건 생성 요청과 같은 필드)으로 기록을 일괄 등록합니다.
+        잘못된 행은 건너뛰고 줄 번호와 함께 결과에 포함됩니다.
+        """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200",
+                    description  = "가져오기 완료",
+                    content      = @Content(schema = @Schema(implementation = LedgerImportResult.class))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식 또는 CSV 헤더 오류"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (VIEWER는 작성 불가)"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<LedgerImportResult> importLedgers(
+            @Parameter(description = "가계부 ID", example = "1")
+            @PathVariable Long bookId,
+            HttpServletRequest httpRequest
+    ) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        Member currentMember = memberService.findMemberByUsername(auth.getName());
+
+        Book book = bookService.findById(bookId);
+        BookRole role = userBookService.findRole(book.getId(), currentMember.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 가계부에 접근 권한이 없습니다."));
+        if (role == BookRole.VIEWER) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "조회 권한만 있습니다. 기록을 작성할 수 없습니다.");
+        }
+
+        LedgerImportResult result;
+        try {
+            LedgerImportService.Format format = LedgerImportService.Format.fromContentType(httpRequest.getContentType());
+            result = ledgerImportService.importLedgers(book, currentMember, httpRequest.getInputStream(), format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IOException e) {
+            logger.error("가계부 기록 가져오기 중 오류 발생 - 가계부: {}", bookId, e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "가계부 기록 가져오기 중 오류가 발생했습니다.", e);
+        }
+
+        // 행마다 이벤트를 보내지 않고 가져오기 완료 이벤트 한 번만 발행 (클라이언트는 목록 재조회)
+        if (result.getImportedRows() > 0) {
+            Map<String, Object> eventData = new HashMap<>();
+            eventData.put("importedRows", result.getImportedRows());
+            bookEventPublisher.publishBookEvent(BookEvent.ledgersImported(book.getId(), currentMember.getId(), eventData));
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 커서 토큰 디코딩 (형식 오류는 400)
+     */
+    private LedgerCursor decodeCursor(String cursor) {
+        try {
+            return LedgerCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     /**
      * Ledger 엔티티를 응답 DTO로 변환
      */
@@ -475,9 +633,33 @@ public class LedgerApiController {
         @Schema(description = "Ledger 배열")
         private List<LedgerDto> ledgers;
 
+        @Schema(description = "다음 페이지 커서 (커서 모드, 마지막 페이지면 null)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부 (커서 모드)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean hasNext;
+
+        @Schema(description = "전체 건수 (커서 모드에서 includeTotal=true 인 경우)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long totalElements;
+
         public ListLedgerResponse(List<LedgerDto> ledgers, long totalElements) {
             this.ledgers = ledgers;
         }
+
+        static ListLedgerResponse fromCursorPage(LedgerCursorPageDTO cursorPage) {
+            List<LedgerDto> dtoList = cursorPage.getContent().stream()
+                    .map(LedgerDto::fromDTO)
+                    .toList();
+
+            ListLedgerResponse response = new ListLedgerResponse(dtoList, 0);
+            response.nextCursor = cursorPage.getNextCursor();
+            response.hasNext = cursorPage.isHasNext();
+            response.totalElements = cursorPage.getTotalElements();
+            return response;
+        }
     }
 
     /** Ledger 요약 DTO */
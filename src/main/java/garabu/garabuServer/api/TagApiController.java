@@ -1,13 +1,18 @@
 package garabu.garabuServer.api;
 
+import garabu.garabuServer.dto.LedgerCursor;
 import garabu.garabuServer.dto.tag.*;
 import garabu.garabuServer.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +20,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -99,6 +105,21 @@ public class TagApiController {
         return ResponseEntity.noContent().build();
     }
     
+    @PostMapping("/{tagId}/transactions")
+    @Operation(summary = "여러 거래 내역에 태그 추가", description = "같은 가계부의 여러 거래 내역에 태그를 한 번에 추가합니다. 이미 태그가 있는 거래는 건너뜁니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "추가 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "404", description = "태그를 찾을 수 없음")
+    })
+    public ResponseEntity<BulkTagResponse> addTagToTransactions(
+            @Parameter(description = "태그 ID") @PathVariable Long tagId,
+            @Valid @RequestBody BulkTagRequest request) {
+        
+        BulkTagResponse response = tagService.addTagToTransactions(tagId, request.getLedgerIds());
+        return ResponseEntity.ok(response);
+    }
+    
     @DeleteMapping("/transactions/{ledgerId}/tags/{tagId}")
     @Operation(summary = "거래 내역에서 태그 제거", description = "거래 내역에서 태그를 제거합니다.")
     @ApiResponses({
@@ -114,17 +135,33 @@ public class TagApiController {
     }
     
     @GetMapping("/books/{bookId}/search")
-    @Operation(summary = "태그로 거래 내역 검색", description = "특정 태그가 지정된 거래 내역을 검색합니다.")
+    @Operation(summary = "태그로 거래 내역 검색",
+               description = "특정 태그가 지정된 거래 내역을 검색합니다. tagName 을 여러 번 지정하면 match 조건(ANY/ALL)으로 검색하며 " +
+                             "(쉼표는 나누지 않고 태그 이름의 일부로 처리), " +
+                             "cursor 를 지정하면(첫 페이지는 빈 값) 커서 방식으로 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "검색 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
         @ApiResponse(responseCode = "404", description = "태그를 찾을 수 없음")
     })
+    @Parameter(name = "tagName", in = ParameterIn.QUERY, required = true,
+               description = "태그 이름 (여러 번 지정 가능)", array = @ArraySchema(schema = @Schema(type = "string")))
     public ResponseEntity<TagSearchResponse> searchTransactionsByTag(
             @Parameter(description = "가계부 ID") @PathVariable Long bookId,
-            @Parameter(description = "태그 이름") @RequestParam String tagName,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @Parameter(description = "여러 태그의 일치 조건 (ANY: 하나라도, ALL: 모두)") @RequestParam(defaultValue = "ANY") TagMatchMode match,
+            @Parameter(description = "커서 (이전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 조회 시 전체 건수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal,
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(hidden = true) HttpServletRequest httpRequest) {
         
-        TagSearchResponse response = tagService.searchTransactionsByTag(bookId, tagName, pageable);
+        List<String> tagName = tagNames(httpRequest);
+        if (cursor != null) {
+            TagSearchResponse response = tagService.searchTransactionsByTagWithCursor(
+                    bookId, tagName, match, decodeCursor(cursor), pageable.getPageSize(), includeTotal);
+            return ResponseEntity.ok(response);
+        }
+        
+        TagSearchResponse response = tagService.searchTransactionsByTag(bookId, tagName, match, pageable);
         return ResponseEntity.ok(response);
     }
     
@@ -142,4 +179,26 @@ public class TagApiController {
         tagService.mergeTags(sourceTagId, targetTagId);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 반복 지정한 tagName 값 (@RequestParam 의 List 변환은 값 하나를 쉼표로 나누므로 원본 값을 그대로 사용)
+     */
+    private List<String> tagNames(HttpServletRequest httpRequest) {
+        String[] values = httpRequest.getParameterValues("tagName");
+        if (values == null || values.length == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "태그 이름은 필수입니다.");
+        }
+        return List.of(values);
+    }
+
+    /**
+     * 커서 토큰 디코딩 (형식 오류는 400)
+     */
+    private LedgerCursor decodeCursor(String cursor) {
+        try {
+            return LedgerCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
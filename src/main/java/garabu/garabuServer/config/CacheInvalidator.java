@@ -0,0 +1,111 @@
+package garabu.garabuServer.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 노드 내 캐시 무효화 및 전파
+ *
+ * <p>제거는 즉시 반영하고, 트랜잭션 안이면 커밋 후 한 번 더 제거한 뒤 Redis Pub/Sub 으로 다른 노드에 전파합니다.
+ * (커밋 전에 다른 요청이 이전 값을 다시 채워 넣는 경우 대비)</p>
+ *
+ * <p>제거할 때마다 세대 번호를 올리므로, 조회 전에 {@link #generation()} 을 읽어 두고
+ * 조회 후 {@link #unchangedSince(long)} 로 확인하면 조회 중 제거된 값을 캐시에 넣지 않을 수 있습니다.</p>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+public class CacheInvalidator {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+
+    // 제거가 일어날 때마다 증가
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CacheInvalidator(RedisTemplate<String, Object> redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    /**
+     * 지금 제거하고, 커밋 후 다시 제거한 뒤 전파
+     *
+     * @param evict 로컬 캐시 제거
+     * @param event 다른 노드에 보낼 이벤트 (발행 시점에 생성)
+     */
+    public void invalidate(Runnable evict, Supplier<Object> event) {
+        evict(evict);
+        afterCommit(evict, event);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 다시 제거하고 전파, 아니면 바로 전파
+     * (호출 측에서 이미 제거한 경우)
+     */
+    public void afterCommit(Runnable evictAgain, Supplier<Object> event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(evictAgain);
+                    publish(event.get());
+                }
+            });
+        } else {
+            publish(event.get());
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 다시 제거만 하고 전파하지 않음
+     * (모든 노드가 같은 Redis 캐시를 보고 로컬 사본이 없는 경우)
+     */
+    public void evictAfterCommit(Runnable evictAgain) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(evictAgain);
+                }
+            });
+        }
+    }
+
+    /**
+     * 로컬 캐시에서 제거 (Pub/Sub 수신 시 포함), 세대 번호 증가
+     */
+    public void evict(Runnable evict) {
+        evictions.incrementAndGet();
+        evict.run();
+    }
+
+    /**
+     * 현재 세대 번호 (조회 시작 전에 읽음)
+     */
+    public long generation() {
+        return evictions.get();
+    }
+
+    /**
+     * 읽어 둔 세대 이후 제거가 없었으면 true (조회 결과를 캐시해도 됨)
+     */
+    public boolean unchangedSince(long generation) {
+        return evictions.get() == generation;
+    }
+
+    private void publish(Object event) {
+        try {
+            redisTemplate.convertAndSend(channel, event);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료로 반영
+            log.error("캐시 무효화 이벤트 발행 실패 - 채널: {}, 이벤트: {}", channel, event, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package garabu.garabuServer.config;
+
+import garabu.garabuServer.service.InviteCodeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 초대 코드 인덱스 마이그레이션
+ *
+ * 애플리케이션 시작 시 인덱스 도입 전에 만든 초대 코드의 인덱스를 채우고 Redis 에 완료 표시를 남깁니다.
+ * 완료 표시가 있으면 아무것도 하지 않으며, 이후 모든 인스턴스는 조회 시 SCAN 을 하지 않습니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class InviteCodeIndexInitializer {
+
+    private final InviteCodeService inviteCodeService;
+
+    @Bean
+    public CommandLineRunner migrateInviteCodeIndexes() {
+        return args -> {
+            try {
+                inviteCodeService.migrateIndexes();
+            } catch (Exception e) {
+                // 완료 표시가 없으므로 조회 시 SCAN 폴백을 유지하고 다음 시작 때 다시 시도
+                log.error("초대 코드 인덱스 마이그레이션 실패", e);
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package garabu.garabuServer.config;
+
+import garabu.garabuServer.repository.LedgerSummaryVersionRepository;
+import garabu.garabuServer.service.LedgerSummaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 월별 가계부 집계 백필
+ *
+ * 집계 재구축 버전(ledger.summary.rebuild-version)보다 낮은 버전으로 집계된 가계부를
+ * 애플리케이션 시작 시 기록 테이블로부터 다시 계산합니다. 가계부 단위 트랜잭션으로 처리하며,
+ * 가계부 행을 잠근 인스턴스만 재계산하므로 여러 인스턴스가 동시에 시작해도 가계부마다 한 번만 재구축됩니다.
+ * 집계를 쓰지 않는 이전 버전과 함께 실행되는 롤링 배포 중에는 집계가 어긋날 수 있으므로,
+ * 배포가 끝난 뒤 재구축 버전을 올려 다시 백필합니다. backfill-enabled 로 백필할 인스턴스를 지정할 수 있습니다.
+ */
+@Slf4j
+@Configuration
+public class LedgerSummaryInitializer {
+
+    private final LedgerSummaryVersionRepository versionRepository;
+    private final LedgerSummaryService ledgerSummaryService;
+    private final int rebuildVersion;
+    private final boolean backfillEnabled;
+
+    public LedgerSummaryInitializer(LedgerSummaryVersionRepository versionRepository,
+                                    LedgerSummaryService ledgerSummaryService,
+                                    @Value("${ledger.summary.rebuild-version:1}") int rebuildVersion,
+                                    @Value("${ledger.summary.backfill-enabled:true}") boolean backfillEnabled) {
+        this.versionRepository = versionRepository;
+        this.ledgerSummaryService = ledgerSummaryService;
+        this.rebuildVersion = rebuildVersion;
+        this.backfillEnabled = backfillEnabled;
+    }
+
+    @Bean
+    public CommandLineRunner backfillLedgerSummaries() {
+        return args -> {
+            if (!backfillEnabled) {
+                return;
+            }
+            try {
+                List<Long> bookIds = versionRepository.findBookIdsBelowVersion(rebuildVersion);
+                if (bookIds.isEmpty()) {
+                    return;
+                }
+
+                log.info("월별 집계 백필 시작 - 대상 가계부: {}개, 버전: {}", bookIds.size(), rebuildVersion);
+                int rebuilt = 0;
+                for (Long bookId : bookIds) {
+                    try {
+                        if (ledgerSummaryService.rebuildBook(bookId, rebuildVersion)) {
+                            rebuilt++;
+                        }
+                    } catch (Exception e) {
+                        log.error("월별 집계 백필 실패 - 가계부: {}", bookId, e);
+                    }
+                }
+                log.info("월별 집계 백필 완료 - 재구축: {}개", rebuilt);
+            } catch (Exception e) {
+                log.error("월별 집계 백필 중 오류 발생", e);
+            }
+        };
+    }
+}
@@ -7,8 +7,8 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,11 +18,11 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableCaching  // 캐시 기능 활성화
@@ -36,6 +36,21 @@ public class RedisConfig {
     
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
+    
+    // 값 쓰기 형식 (json | smile), 읽기는 두 형식 모두 지원
+    // 이전 버전 노드가 smile 값을 읽지 못하므로 기본은 json, 모든 노드 배포 후 smile 로 전환
+    @Value("${redis.serializer.format:json}")
+    private String serializerFormat;
+    
+    // 로컬(L1) 캐시 설정
+    @Value("${cache.local.max-size:1000}")
+    private long localCacheMaxSize;
+    
+    @Value("${cache.local.static-ttl-seconds:600}")
+    private long localStaticTtlSeconds;
+    
+    @Value("${cache.local.book-ttl-seconds:60}")
+    private long localBookTtlSeconds;
 
     @Bean
     public LettuceConnectionFactory redisConnectionFactory() {
@@ -88,30 +103,42 @@ public class RedisConfig {
         return objectMapper;
     }
 
+    /**
+     * Redis 값 직렬화기 (캐시, RedisTemplate, Pub/Sub 공용)
+     * 기본은 헤더 없는 JSON 으로 기록하고, redis.serializer.format=smile 이면 버전 헤더 + Smile 로 기록
+     * 읽기는 설정과 관계없이 두 형식 모두 지원
+     */
+    @Bean
+    public VersionedRedisSerializer redisValueSerializer(ObjectMapper redisObjectMapper) {
+        return new VersionedRedisSerializer(redisObjectMapper, VersionedRedisSerializer.Format.from(serializerFormat));
+    }
+
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory cf, ObjectMapper redisObjectMapper) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory cf, VersionedRedisSerializer redisValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(cf);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer(redisObjectMapper));
+        template.setValueSerializer(redisValueSerializer);
         return template;
     }
 
+    /**
+     * 2단계 캐시 매니저 (L1: 프로세스 내, L2: Redis)
+     * 카테고리/결제수단 목록만 L1 을 함께 사용하고 나머지 캐시는 Redis 만 사용
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory cf, ObjectMapper redisObjectMapper) {
-        // 커스텀 ObjectMapper를 사용한 JSON 직렬화기
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
-        
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory cf, VersionedRedisSerializer redisValueSerializer,
+                                             RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
         // 기본 캐시 설정 (5분 TTL)
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(5))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(jsonSerializer))
+                        .fromSerializer(redisValueSerializer))
                 .disableCachingNullValues();
         
-        return RedisCacheManager.builder(cf)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cf)
                 .cacheDefaults(defaultConfig)
                 // Category 관련 캐시 (1시간 TTL - 정적 데이터)
                 .withCacheConfiguration("categories", 
@@ -120,14 +147,14 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .withCacheConfiguration("categoriesAll", 
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofHours(1))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 // Category DTO 캐시 (1시간 TTL - 정적 데이터)
                 .withCacheConfiguration("categoriesAllDto", 
                     RedisCacheConfiguration.defaultCacheConfig()
@@ -135,14 +162,14 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .withCacheConfiguration("defaultCategoriesDto", 
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofHours(1))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 // Payment 관련 캐시 (1시간 TTL - 정적 데이터)
                 .withCacheConfiguration("paymentMethods", 
                     RedisCacheConfiguration.defaultCacheConfig()
@@ -150,14 +177,14 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .withCacheConfiguration("paymentMethodsAll", 
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofHours(1))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 // 가계부별 카테고리/결제수단 캐시 (30분 TTL)
                 .withCacheConfiguration("categoriesByBook", 
                     RedisCacheConfiguration.defaultCacheConfig()
@@ -165,7 +192,7 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 // 가계부별 Category DTO 캐시 (30분 TTL)
                 .withCacheConfiguration("categoriesByBookDto", 
                     RedisCacheConfiguration.defaultCacheConfig()
@@ -173,28 +200,28 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .withCacheConfiguration("combinedCategoriesDto", 
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofMinutes(30))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .withCacheConfiguration("userCategoriesDto", 
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofMinutes(30))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .withCacheConfiguration("paymentMethodsByBook", 
                     RedisCacheConfiguration.defaultCacheConfig()
                         .entryTtl(Duration.ofMinutes(30))
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 // Payment DTO 캐시 (30분 TTL)
                 .withCacheConfiguration("paymentMethodsByBookDto", 
                     RedisCacheConfiguration.defaultCacheConfig()
@@ -202,7 +229,7 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 // 사용자 가계부 목록 캐시 (10분 TTL - 동적 데이터)
                 .withCacheConfiguration("userBooks", 
                     RedisCacheConfiguration.defaultCacheConfig()
@@ -210,7 +237,21 @@ public class RedisConfig {
                         .serializeKeysWith(RedisSerializationContext.SerializationPair
                                 .fromSerializer(new StringRedisSerializer()))
                         .serializeValuesWith(RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonSerializer)))
+                                .fromSerializer(redisValueSerializer)))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        
+        // L1 TTL 은 L2 보다 짧게 두고, 다른 노드 변경은 Pub/Sub 무효화로 반영
+        Duration staticTtl = Duration.ofSeconds(localStaticTtlSeconds);
+        Duration bookTtl = Duration.ofSeconds(localBookTtlSeconds);
+        Map<String, Duration> localTtls = Map.of(
+                "categoriesAllDto", staticTtl,
+                "defaultCategoriesDto", staticTtl,
+                "categoriesByBookDto", bookTtl,
+                "combinedCategoriesDto", bookTtl,
+                "userCategoriesDto", bookTtl,
+                "paymentMethodsByBookDto", bookTtl);
+        
+        return new TwoLevelCacheManager(redisCacheManager, localTtls, localCacheMaxSize, redisTemplate, meterRegistry);
     }
 }
@@ -1,10 +1,18 @@
 package garabu.garabuServer.config;
 
+import garabu.garabuServer.event.BlacklistEventListener;
+import garabu.garabuServer.event.BookAccessEventListener;
 import garabu.garabuServer.event.BookEventListener;
+import garabu.garabuServer.event.CacheEvictEventListener;
+import garabu.garabuServer.event.FcmTokenEventListener;
+import garabu.garabuServer.jwt.JWTConstants;
+import garabu.garabuServer.service.BookAccessCache;
+import garabu.garabuServer.service.FcmTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
@@ -16,6 +24,10 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class RedisPubSubConfig {
     
     private final BookEventListener bookEventListener;
+    private final BlacklistEventListener blacklistEventListener;
+    private final BookAccessEventListener bookAccessEventListener;
+    private final CacheEvictEventListener cacheEvictEventListener;
+    private final FcmTokenEventListener fcmTokenEventListener;
     
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
@@ -24,22 +36,37 @@ public class RedisPubSubConfig {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         
-        // 가계부 이벤트 구독
+        // 가계부(book-events:{id}) / 사용자(user-events:{id}) 이벤트는
+        // 로컬 SSE 구독자가 있는 채널만 SseTopicSubscriptionManager가 동적으로 구독
+        
+        // 브로드캐스트 이벤트 구독
         container.addMessageListener(
             new MessageListenerAdapter(bookEventListener),
-            new PatternTopic("book-events:*")
+            new PatternTopic("broadcast-events")
         );
         
-        // 사용자 이벤트 구독
+        // 토큰 블랙리스트 변경 구독 (near-cache 동기화)
         container.addMessageListener(
-            new MessageListenerAdapter(bookEventListener),
-            new PatternTopic("user-events:*")
+            new MessageListenerAdapter(blacklistEventListener),
+            new ChannelTopic(JWTConstants.BLACKLIST_CHANNEL)
         );
         
-        // 브로드캐스트 이벤트 구독
+        // 가계부 권한 변경 구독 (권한 캐시 무효화)
         container.addMessageListener(
-            new MessageListenerAdapter(bookEventListener),
-            new PatternTopic("broadcast-events")
+            new MessageListenerAdapter(bookAccessEventListener),
+            new ChannelTopic(BookAccessCache.CHANNEL)
+        );
+        
+        // 캐시 제거 구독 (로컬 L1 캐시 무효화)
+        container.addMessageListener(
+            new MessageListenerAdapter(cacheEvictEventListener),
+            new ChannelTopic(TwoLevelCacheManager.CHANNEL)
+        );
+        
+        // FCM 토큰 변경 구독 (토큰 캐시 무효화)
+        container.addMessageListener(
+            new MessageListenerAdapter(fcmTokenEventListener),
+            new ChannelTopic(FcmTokenCache.CHANNEL)
         );
         
         return container;
@@ -3,6 +3,7 @@ package garabu.garabuServer.config;
 import garabu.garabuServer.jwt.CustomLogoutFilter;
 import garabu.garabuServer.jwt.JWTFilter;
 import garabu.garabuServer.jwt.JWTUtil;
+import garabu.garabuServer.jwt.VerifiedTokenCache;
 import garabu.garabuServer.jwt.LoginFilter;
 import garabu.garabuServer.oauth2.CustomSuccessHandler;
 import garabu.garabuServer.service.CustomOAuth2UserService;
@@ -63,6 +64,7 @@ public class SecurityConfig {
     private final RefreshTokenService refreshTokenService;
     private final CustomSuccessHandler customSuccessHandler;
     private final BlacklistService blacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
     
     @Value("${cors.allowed-origins:http://localhost:5173,http://localhost:4000,http://localhost:8081}")
     private List<String> allowedOrigins;
@@ -73,12 +75,14 @@ public class SecurityConfig {
                          JWTUtil jwtUtil,
                          RefreshTokenService refreshTokenService,
                          BlacklistService blacklistService,
+                         VerifiedTokenCache verifiedTokenCache,
                          AuthenticationConfiguration authenticationConfiguration) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.customSuccessHandler = customSuccessHandler;
         this.jwtUtil = jwtUtil;
         this.refreshTokenService = refreshTokenService;
         this.blacklistService = blacklistService;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.authenticationConfiguration = authenticationConfiguration;
     }
 
@@ -167,7 +171,7 @@ public class SecurityConfig {
                         .successHandler(customSuccessHandler)
                 );
         http
-                .addFilterAfter(new JWTFilter(jwtUtil, blacklistService), OAuth2LoginAuthenticationFilter.class);
+                .addFilterAfter(new JWTFilter(verifiedTokenCache, blacklistService), OAuth2LoginAuthenticationFilter.class);
 
         http
                 .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenService, blacklistService), LogoutFilter.class);
@@ -189,7 +193,7 @@ public class SecurityConfig {
 
         //JWTFilter 등록
         http
-                .addFilterBefore(new JWTFilter(jwtUtil, blacklistService), LoginFilter.class);
+                .addFilterBefore(new JWTFilter(verifiedTokenCache, blacklistService), LoginFilter.class);
 
         http
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenService), UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,53 @@
+package garabu.garabuServer.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 키 단위 단일 로딩
+ *
+ * 같은 키의 캐시 미스가 동시에 발생하면 첫 요청만 loader 를 실행하고
+ * 나머지는 그 결과를 기다려 함께 사용합니다. (DB 조회 1회)
+ * 다른 키는 서로 막지 않습니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+final class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key 캐시 키 (예외 정보용)
+     * @param flightKey 동시 로딩을 묶는 기준 키
+     * @throws Cache.ValueRetrievalException loader 실패 시 (대기 중이던 요청 포함)
+     */
+    @SuppressWarnings("unchecked")
+    <T> T load(Object key, String flightKey, Callable<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                throw new Cache.ValueRetrievalException(key, loader, e.getCause());
+            }
+        }
+
+        try {
+            T value = loader.call();
+            mine.complete(value);
+            return value;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw new Cache.ValueRetrievalException(key, loader, e);
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+}
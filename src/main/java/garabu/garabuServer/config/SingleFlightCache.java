@@ -0,0 +1,101 @@
+package garabu.garabuServer.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Redis 전용 캐시에 키 단위 단일 로딩만 더한 캐시
+ *
+ * {@code @Cacheable(sync = true)} 의 동시 미스를 키별로 묶어 DB 조회를 한 번만 수행합니다.
+ * (RedisCache 의 동기 조회는 캐시 전체를 잠그므로 사용하지 않음)
+ *
+ * {@code @CacheEvict} 는 메서드 실행 후(커밋 전) 제거하므로, 트랜잭션 안이면 커밋 후 한 번 더 제거하여
+ * 커밋 전에 다른 요청이 이전 값을 다시 채워 넣은 경우도 지웁니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheInvalidator invalidator;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    public SingleFlightCache(Cache delegate, CacheInvalidator invalidator) {
+        this.delegate = delegate;
+        this.invalidator = invalidator;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        return singleFlight.load(key, String.valueOf(key), () -> {
+            T value = valueLoader.call();
+            if (value != null) {
+                delegate.put(key, value);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        invalidator.evictAfterCommit(() -> delegate.evict(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        invalidator.evictAfterCommit(() -> delegate.evict(key));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        invalidator.evictAfterCommit(delegate::clear);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = delegate.invalidate();
+        invalidator.evictAfterCommit(delegate::clear);
+        return present;
+    }
+}
@@ -0,0 +1,220 @@
+package garabu.garabuServer.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ *
+ * <p>조회는 L1 → L2 순서로 하고, L2 에서 찾은 값은 L1 에 채웁니다.
+ * 둘 다 없으면 같은 키의 동시 로딩을 하나로 묶어 DB 조회를 한 번만 수행합니다.
+ * 제거는 두 단계 모두에서 하고 {@link TwoLevelCacheManager} 를 통해 다른 노드의 L1 에도 전파합니다.</p>
+ *
+ * <p>L1 값은 역직렬화 없이 여러 요청이 같은 인스턴스를 공유하므로 읽기 전용으로 사용해야 합니다.</p>
+ *
+ * <p>메트릭: cache.tiered.gets{cache, tier=local|redis, result=hit|miss},
+ * cache.tiered.hit.ratio{cache, tier}, cache.tiered.local.size{cache}</p>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final TwoLevelCacheManager manager;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoLevelCache(String name,
+                         Cache<String, ValueWrapper> local,
+                         org.springframework.cache.Cache remote,
+                         TwoLevelCacheManager manager,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.localMisses = counter(meterRegistry, "local", "miss");
+        this.remoteHits = counter(meterRegistry, "redis", "hit");
+        this.remoteMisses = counter(meterRegistry, "redis", "miss");
+
+        ratioGauge(meterRegistry, "local", localHits, localMisses);
+        ratioGauge(meterRegistry, "redis", remoteHits, remoteMisses);
+        Gauge.builder("cache.tiered.local.size", local, Cache::estimatedSize)
+                .tag("cache", name)
+                .description("로컬(L1) 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        ValueWrapper value = remote.get(key);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(localKey, new SimpleValueWrapper(value.get()));
+        } else {
+            remoteMisses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다. 요청 타입: " + type.getName() + ", 값: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = localKey(key);
+        return singleFlight.load(key, localKey, () -> {
+            // 먼저 끝난 로딩이 이미 채웠으면 그 값을 사용
+            ValueWrapper loaded = local.getIfPresent(localKey);
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+            T value = valueLoader.call();
+            if (value != null) {
+                remote.put(key, value);
+                local.put(localKey, new SimpleValueWrapper(value));
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(localKey(key), existing != null ? new SimpleValueWrapper(existing.get()) : new SimpleValueWrapper(value));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        local.invalidate(localKey);
+        manager.afterCommit(name, localKey, () -> {
+            remote.evict(key);
+            local.invalidate(localKey);
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean present = remote.evictIfPresent(key);
+        local.invalidate(localKey);
+        manager.afterCommit(name, localKey, () -> {
+            remote.evict(key);
+            local.invalidate(localKey);
+        });
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.afterCommit(name, null, () -> {
+            remote.clear();
+            local.invalidateAll();
+        });
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = remote.invalidate();
+        local.invalidateAll();
+        manager.afterCommit(name, null, () -> {
+            remote.clear();
+            local.invalidateAll();
+        });
+        return present;
+    }
+
+    /**
+     * 다른 노드의 무효화 이벤트 반영 (L1 만 제거, L2 는 발행 노드가 이미 제거)
+     *
+     * @param key 제거할 키, null 이면 전체
+     */
+    public void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    // Redis 캐시 키와 같게 문자열로 맞춤 (이벤트로 전달된 키와 비교 가능)
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tiered.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("2단계 캐시 단계별 조회 수")
+                .register(meterRegistry);
+    }
+
+    private void ratioGauge(MeterRegistry meterRegistry, String tier, Counter hits, Counter misses) {
+        Gauge.builder("cache.tiered.hit.ratio", () -> {
+                    double total = hits.count() + misses.count();
+                    return total == 0 ? 0.0 : hits.count() / total;
+                })
+                .tag("cache", name)
+                .tag("tier", tier)
+                .description("2단계 캐시 단계별 적중률")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,116 @@
+package garabu.garabuServer.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import garabu.garabuServer.event.CacheEvictEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 매니저 (L1: 프로세스 내, L2: Redis)
+ *
+ * <p>로컬 TTL 이 지정된 캐시만 {@link TwoLevelCache} 로 감싸고, 나머지는 Redis 캐시에
+ * 키 단위 단일 로딩만 더한 {@link SingleFlightCache} 로 반환합니다.
+ * 거의 바뀌지 않지만 자주 읽는 카테고리/결제수단 목록이 대상이며, L1 적중 시 네트워크 왕복과
+ * 타입 정보 포함 JSON 역직렬화를 생략합니다.</p>
+ *
+ * <p>제거는 즉시 반영하고, 트랜잭션 안이면 커밋 후 한 번 더 제거한 뒤
+ * Redis Pub/Sub({@link #CHANNEL})으로 다른 노드의 L1 에서도 제거합니다.
+ * Redis 전용 캐시는 L1 이 없으므로 커밋 후 다시 제거만 하고 전파하지 않습니다.</p>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    public static final String CHANNEL = "cache-evict-events";
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, Duration> localTtls;
+    private final long localMaxSize;
+    private final CacheInvalidator invalidator;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param remoteCacheManager L2 (Redis) 캐시 매니저
+     * @param localTtls 캐시 이름별 L1 TTL (없는 캐시는 L2 만 사용)
+     * @param localMaxSize 캐시별 L1 최대 항목 수
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Map<String, Duration> localTtls,
+                                long localMaxSize,
+                                RedisTemplate<String, Object> redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localTtls = Map.copyOf(localTtls);
+        this.localMaxSize = localMaxSize;
+        this.invalidator = new CacheInvalidator(redisTemplate, CHANNEL);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> decorate(n, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드의 무효화 이벤트 반영
+     */
+    public void onEvict(CacheEvictEvent event) {
+        if (nodeId.equals(event.getSourceId())) {
+            return;
+        }
+        if (caches.get(event.getCacheName()) instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictLocal(event.getKey());
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 다시 제거하고 전파, 아니면 바로 전파
+     * (커밋 전에 다른 요청이 이전 값을 다시 채워 넣는 경우 대비)
+     */
+    void afterCommit(String cacheName, String key, Runnable evictAgain) {
+        invalidator.afterCommit(evictAgain, () -> CacheEvictEvent.builder()
+                .cacheName(cacheName)
+                .key(key)
+                .sourceId(nodeId)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    private Cache decorate(String name, Cache remote) {
+        Duration ttl = localTtls.get(name);
+        if (ttl == null || ttl.isZero()) {
+            return new SingleFlightCache(remote, invalidator);
+        }
+        return new TwoLevelCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaxSize)
+                        .expireAfterWrite(ttl)
+                        .build(),
+                remote, this, meterRegistry);
+    }
+}
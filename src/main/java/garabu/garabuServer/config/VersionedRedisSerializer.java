@@ -0,0 +1,122 @@
+package garabu.garabuServer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 버전 헤더가 붙은 Redis 값 직렬화기 (캐시, RedisTemplate, Pub/Sub 공용)
+ *
+ * <p>기존 JSON 과 같은 ObjectMapper 설정(타입 정보 포함)을 Smile(바이너리 JSON)로 인코딩합니다.
+ * 반복되는 프로퍼티 이름과 클래스 이름 문자열을 역참조로 한 번만 기록하므로
+ * DTO 목록이나 이벤트 페이로드가 JSON 보다 작고 파싱도 빠릅니다.</p>
+ *
+ * <p>형식: [0xFE][버전][코덱] + 본문. 0xFE 는 UTF-8 JSON 의 첫 바이트가 될 수 없으므로
+ * 헤더가 없는 값은 기존 JSON 으로 읽습니다. 롤링 배포 시에는 {@link Format#JSON} 으로 먼저 배포해
+ * 모든 노드가 두 형식을 읽을 수 있게 한 뒤 {@link Format#SMILE} 로 전환합니다.</p>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    /** 쓰기 형식 (읽기는 항상 두 형식 모두 지원) */
+    public enum Format {
+        JSON, SMILE;
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 Redis 직렬화 형식입니다: " + value);
+            }
+        }
+    }
+
+    static final byte MAGIC = (byte) 0xFE;
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 3;
+
+    // 코덱 (헤더 세 번째 바이트)
+    static final byte CODEC_SMILE = 1;
+    static final byte CODEC_NULL_VALUE = 2;
+
+    private final Format writeFormat;
+    private final GenericJackson2JsonRedisSerializer json;
+    private final ObjectMapper smileMapper;
+
+    /**
+     * @param objectMapper 타입 정보 설정이 된 Redis 용 ObjectMapper (JSON 과 Smile 이 같은 설정을 사용)
+     */
+    public VersionedRedisSerializer(ObjectMapper objectMapper, Format writeFormat) {
+        this.writeFormat = writeFormat;
+        this.json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        this.smileMapper = objectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (writeFormat == Format.JSON) {
+            return json.serialize(value);
+        }
+        if (value instanceof NullValue) {
+            // 캐시의 null 표시는 인스턴스 비교를 하므로 별도 코덱으로 기록
+            return new byte[]{MAGIC, VERSION, CODEC_NULL_VALUE};
+        }
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            out.write(MAGIC);
+            out.write(VERSION);
+            out.write(CODEC_SMILE);
+            smileMapper.writeValue(out, value);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 직렬화에 실패했습니다: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            // 헤더 없는 기존 JSON
+            return json.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Redis 값 헤더가 올바르지 않습니다.");
+        }
+        if (bytes[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 Redis 직렬화 버전입니다: " + bytes[1]);
+        }
+
+        return switch (bytes[2]) {
+            case CODEC_NULL_VALUE -> NullValue.INSTANCE;
+            case CODEC_SMILE -> readSmile(bytes);
+            default -> throw new SerializationException("지원하지 않는 Redis 직렬화 코덱입니다: " + bytes[2]);
+        };
+    }
+
+    private Object readSmile(byte[] bytes) {
+        try {
+            return smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -23,7 +23,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -305,13 +304,8 @@ public class ReissueController {
      */
     private void handleSecurityBreach(String username, String reason) {
         try {
-            // 1. 사용자의 모든 토큰 JTI 조회
-            List<String> userJtis = refreshTokenService.getUserTokenJtis(username);
-            
-            // 2. 모든 토큰을 블랙리스트에 추가
-            for (String jti : userJtis) {
-                blacklistService.addToBlacklist(jti, reason, JWTConstants.BLACKLIST_TTL);
-            }
+            // 1~2. 사용자의 모든 토큰을 블랙리스트에 추가 (일괄 저장 후 한 번에 전파)
+            blacklistService.blacklistAllUserTokens(username, reason);
             
             // 3. 사용자의 모든 리프레시 토큰 삭제
             refreshTokenService.deleteAllUserTokens(username);
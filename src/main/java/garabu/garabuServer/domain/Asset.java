@@ -26,7 +26,8 @@ public class Asset {
     @Column(name = "asset_type", nullable = false)
     private AssetType assetType;
 
-    @Column(name = "balance", nullable = false)
+    // 잔액은 AssetBalanceService 의 원자적 UPDATE 로만 변경 (엔티티 저장 시 오래된 잔액을 덮어쓰지 않음)
+    @Column(name = "balance", nullable = false, updatable = false)
     private Long balance = 0L;
 
     @Column(name = "description", length = 500)
@@ -67,20 +68,6 @@ public class Asset {
         this.book = book;
     }
 
-    // 잔액 업데이트 메서드
-    public void updateBalance(Long amount, String operation) {
-        if ("ADD".equals(operation)) {
-            this.balance += amount;
-        } else if ("SUBTRACT".equals(operation)) {
-            this.balance -= amount;
-        }
-        
-        // 잔액이 음수가 되지 않도록 보장 (신용카드 제외)
-        if (this.balance < 0 && this.assetType != AssetType.CREDIT_CARD) {
-            throw new IllegalArgumentException("잔액이 부족합니다.");
-        }
-    }
-
     // 정보 업데이트 메서드
     public void updateInfo(String name, String description, String accountNumber, 
                           String bankName, String cardType) {
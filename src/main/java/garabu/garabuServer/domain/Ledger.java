@@ -21,6 +21,10 @@ import static jakarta.persistence.FetchType.LAZY;
  * @version 1.0
  */
 @Entity
+@Table(name = "ledger",
+       indexes = {
+           @Index(name = "idx_ledger_book_date_id", columnList = "book_id, date, ledger_id")
+       })
 @Getter @Setter
 public class Ledger {
 
@@ -81,7 +85,8 @@ public class Ledger {
     @JoinTable(
         name = "ledger_tags",
         joinColumns = @JoinColumn(name = "ledger_id"),
-        inverseJoinColumns = @JoinColumn(name = "tag_id")
+        inverseJoinColumns = @JoinColumn(name = "tag_id"),
+        indexes = @Index(name = "idx_ledger_tags_tag_ledger", columnList = "tag_id, ledger_id")
     )
     private Set<Tag> tags = new HashSet<>();
 
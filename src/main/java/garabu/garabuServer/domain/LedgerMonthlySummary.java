@@ -0,0 +1,74 @@
+package garabu.garabuServer.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 가계부 집계 엔티티
+ *
+ * (가계부, 년월, 금액 유형, 카테고리) 단위로 합계 금액과 건수를 미리 집계해 둡니다.
+ * 가계부 기록이 생성/삭제될 때마다 증분 갱신되며, 예산 요약처럼
+ * 월간 합계가 필요한 조회가 전체 기록을 스캔하지 않도록 합니다.
+ *
+ * - 카테고리가 없는 기록(이체 등)은 category_id = 0 으로 집계
+ */
+@Entity
+@Table(name = "ledger_monthly_summary",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_ledger_summary_book_month_type_category",
+           columnNames = {"book_id", "summary_month", "amount_type", "category_id"}
+       ),
+       indexes = {
+           @Index(name = "idx_ledger_summary_book_month", columnList = "book_id, summary_month")
+       })
+@Getter @Setter
+@Schema(description = "월별 가계부 집계 엔티티")
+public class LedgerMonthlySummary {
+
+    /** 카테고리가 없는 기록을 집계할 때 사용하는 카테고리 ID */
+    public static final long NO_CATEGORY = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long id;
+
+    @Schema(description = "가계부 ID")
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Schema(description = "집계 년월", example = "2025-01")
+    @Column(name = "summary_month", nullable = false, length = 7)
+    private String summaryMonth; // YYYY-MM 형식
+
+    @Schema(description = "금액 유형")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "amount_type", nullable = false, length = 20)
+    private AmountType amountType;
+
+    @Schema(description = "카테고리 ID (없으면 0)")
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Schema(description = "합계 금액")
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount = 0L;
+
+    @Schema(description = "기록 건수")
+    @Column(name = "ledger_count", nullable = false)
+    private Long ledgerCount = 0L;
+
+    @Schema(description = "마지막 갱신 시각")
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
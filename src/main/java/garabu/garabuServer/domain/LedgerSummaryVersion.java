@@ -0,0 +1,32 @@
+package garabu.garabuServer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가계부별 월별 집계 재구축 버전
+ *
+ * 가계부의 집계를 기록 테이블로부터 마지막으로 다시 계산한 버전을 남깁니다.
+ * 설정된 재구축 버전보다 낮은 가계부만 백필 대상이 되므로, 배포 중 이전 버전 인스턴스가 집계 없이
+ * 기록을 저장해 집계가 어긋났다면 배포 완료 후 버전을 올려 모든 가계부를 한 번 더 재계산합니다.
+ */
+@Entity
+@Table(name = "ledger_summary_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerSummaryVersion {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @Column(name = "rebuilt_at", nullable = false)
+    private LocalDateTime rebuiltAt;
+}
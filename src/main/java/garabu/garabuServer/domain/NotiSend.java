@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
  * 푸시 발송 마스터 테이블
  */
 @Entity
+@Table(indexes = @Index(name = "idx_noti_send_notice_dt", columnList = "NOTICE_DT"))
 @Getter
 @Setter
 @NoArgsConstructor
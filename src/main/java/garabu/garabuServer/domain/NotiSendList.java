@@ -8,6 +8,7 @@ import lombok.*;
  * 개별 사용자에게 발송된 푸시 메시지 상태를 저장
  */
 @Entity
+@Table(indexes = @Index(name = "idx_noti_send_list_notice", columnList = "NOTICE_NO, APP_ID"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
  * 푸시 메시지 발송 과정 중 단계별 실행 로그를 기록
  */
 @Entity
+@Table(indexes = @Index(name = "idx_noti_send_stack_notice", columnList = "NOTICE_NO, APP_ID"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -9,6 +9,7 @@ import lombok.*;
  * 사용자별 푸시 발송 결과(성공 여부, 실패 메시지 등)를 저장
  */
 @Entity
+@Table(indexes = @Index(name = "idx_noti_send_user_notice", columnList = "NOTICE_NO, APP_ID"))
 @Getter
 @Setter
 @NoArgsConstructor
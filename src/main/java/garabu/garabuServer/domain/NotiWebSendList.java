@@ -8,6 +8,7 @@ import lombok.*;
  * 사용자별 발송 결과, 토큰, 실패 메시지 등을 저장
  */
 @Entity
+@Table(indexes = @Index(name = "idx_noti_web_send_list_notice", columnList = "NOTICE_NO, APP_ID"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,54 @@
+package garabu.garabuServer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 새 거래 알림 묶음
+ *
+ * (가계부, 수신자) 단위로 묶음 시간 동안 발생한 새 거래 알림 수를 모아 둡니다.
+ * 묶음 시간의 첫 알림이 행을 만들고 발송 예약(아웃박스)을 남기며, 이후 알림은 건수만 증가시킵니다.
+ * 예약 시각이 되면 한 건의 알림으로 발송하고 행을 삭제하므로, 다음 알림부터 새 묶음이 시작됩니다.
+ */
+@Entity
+@Table(name = "notification_digests",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_notification_digest_book_recipient",
+           columnNames = {"book_id", "recipient_id"}
+       ))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationDigest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "digest_id")
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    // 묶인 새 거래 알림 수
+    @Column(name = "pending_count", nullable = false)
+    private Integer pendingCount;
+
+    // 마지막으로 묶인 기록/작성자 (한 건만 묶였으면 기존 알림 형식으로 발송)
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId;
+
+    @Column(name = "last_actor_id", nullable = false)
+    private Long lastActorId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,76 @@
+package garabu.garabuServer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 아웃박스
+ *
+ * 알림을 발생시킨 업무 트랜잭션(가계부 기록 생성 등)과 같은 트랜잭션에서 저장되고,
+ * 커밋 이후 워커가 폴링하여 푸시 알림을 발송합니다.
+ * 요청 스레드는 알림 테이블/FCM 처리를 기다리지 않습니다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+       indexes = {
+           @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 40)
+    private NotificationOutboxType type;
+
+    // 알림 대상 엔티티 ID (NEW_TRANSACTION: ledgerId, NEW_TRANSACTION_DIGEST: digestId)
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 알림을 발생시킨 사용자 ID
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public static NotificationOutbox of(NotificationOutboxType type, Long aggregateId, Long actorId) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.type = type;
+        outbox.aggregateId = aggregateId;
+        outbox.actorId = actorId;
+        outbox.createdAt = LocalDateTime.now();
+        outbox.nextAttemptAt = outbox.createdAt;
+        return outbox;
+    }
+}
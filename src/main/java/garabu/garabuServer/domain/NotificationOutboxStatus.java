@@ -0,0 +1,6 @@
+package garabu.garabuServer.domain;
+
+public enum NotificationOutboxStatus {
+
+    PENDING, PROCESSING, DONE, FAILED;
+}
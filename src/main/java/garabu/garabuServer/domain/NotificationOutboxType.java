@@ -0,0 +1,9 @@
+package garabu.garabuServer.domain;
+
+public enum NotificationOutboxType {
+
+    NEW_TRANSACTION,
+
+    // 묶음 시간이 끝난 새 거래 알림 발송 (aggregateId: 묶음 ID)
+    NEW_TRANSACTION_DIGEST;
+}
@@ -60,6 +60,9 @@ public class NotificationPreference {
     @Column(nullable = false)
     private Boolean weekendAlert = true;
     
+    // 새 거래 알림 묶음 시간 (초, 0 이면 즉시 발송, null 이면 서버 기본값)
+    private Integer transactionDigestSeconds;
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
@@ -0,0 +1,41 @@
+package garabu.garabuServer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 반복거래 회차 실행 기록
+ *
+ * 반복거래 한 건의 회차(실행 예정일)마다 한 행을 남깁니다.
+ * (반복거래, 회차) 유니크 키로 같은 회차가 두 번 기록으로 생성되지 않도록 하며,
+ * 장애 후 밀린 회차를 한 번에 생성하거나 실행이 재시도되어도 결과가 같습니다.
+ */
+@Entity
+@Table(name = "recurring_executions",
+       uniqueConstraints = @UniqueConstraint(
+           name = "uk_recurring_execution_occurrence",
+           columnNames = {"recurring_transaction_id", "occurrence_date"}
+       ))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecurringExecution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "execution_id")
+    private Long id;
+
+    @Column(name = "recurring_transaction_id", nullable = false)
+    private Long recurringTransactionId;
+
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate occurrenceDate;
+
+    @Column(name = "executed_at", nullable = false)
+    private LocalDateTime executedAt;
+}
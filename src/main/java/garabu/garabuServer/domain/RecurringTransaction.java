@@ -9,9 +9,14 @@ import lombok.Setter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "recurring_transactions")
+@Table(name = "recurring_transactions",
+       indexes = {
+           @Index(name = "idx_recurring_due", columnList = "next_execution_date, is_active")
+       })
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -81,6 +86,13 @@ public class RecurringTransaction {
     @Column(nullable = false)
     private Boolean autoCreate = true;
     
+    // 자동 실행 점유 정보 (점유한 실행기 ID, 점유 만료 시각)
+    // 실행기가 중단되면 만료 후 다른 실행기가 이어서 처리
+    @Column(length = 64)
+    private String claimedBy;
+    
+    private LocalDateTime claimedUntil;
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
@@ -161,6 +173,58 @@ public class RecurringTransaction {
         }
     }
     
+    /**
+     * 다음 실행일부터 기준일까지 실행할 회차 목록 (장애 등으로 밀린 회차 포함)
+     * 종료일과 최대 실행 횟수를 넘는 회차는 제외하며, 한 번에 최대 limit 개까지 반환
+     */
+    public List<LocalDate> pendingOccurrences(LocalDate until, int limit) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        if (!isActive || nextExecutionDate == null) {
+            return occurrences;
+        }
+        
+        int remaining = maxExecutions != null ? maxExecutions - executionCount : Integer.MAX_VALUE;
+        int max = Math.min(limit, remaining);
+        for (int i = 0; occurrences.size() < max; i++) {
+            LocalDate occurrence = occurrenceAfterNext(i);
+            if (occurrence.isAfter(until) || (endDate != null && occurrence.isAfter(endDate))) {
+                break;
+            }
+            occurrences.add(occurrence);
+        }
+        return occurrences;
+    }
+    
+    /**
+     * 회차 실행 반영: 실행 횟수/마지막 실행일을 갱신하고 다음 실행일을 마지막 회차 다음 회차로 이동
+     * 종료일을 지나거나 최대 실행 횟수에 도달하면 비활성화
+     */
+    public void markExecuted(List<LocalDate> occurrences) {
+        if (!occurrences.isEmpty()) {
+            this.lastExecutionDate = occurrences.get(occurrences.size() - 1);
+            this.executionCount += occurrences.size();
+            this.nextExecutionDate = occurrenceAfterNext(occurrences.size());
+        }
+        
+        boolean ended = endDate != null && nextExecutionDate != null && nextExecutionDate.isAfter(endDate);
+        boolean exhausted = maxExecutions != null && executionCount >= maxExecutions;
+        if (ended || exhausted) {
+            this.nextExecutionDate = null;
+            this.isActive = false;
+        }
+    }
+    
+    // 현재 다음 실행일로부터 index 번째 회차 (매번 다음 실행일 기준으로 계산해 월말 날짜가 밀리지 않음)
+    private LocalDate occurrenceAfterNext(int index) {
+        long amount = (long) index * Math.max(1, recurrenceInterval);
+        return switch (recurrenceType) {
+            case DAILY -> nextExecutionDate.plusDays(amount);
+            case WEEKLY -> nextExecutionDate.plusWeeks(amount);
+            case MONTHLY -> nextExecutionDate.plusMonths(amount);
+            case YEARLY -> nextExecutionDate.plusYears(amount);
+        };
+    }
+    
     public boolean shouldExecute() {
         return isActive && 
                nextExecutionDate != null && 
@@ -0,0 +1,75 @@
+package garabu.garabuServer.dto;
+
+import garabu.garabuServer.domain.Ledger;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 가계부 기록 커서(keyset) 페이지네이션 토큰
+ *
+ * <p>정렬 기준인 (date DESC, ledger_id DESC)의 마지막 위치를 담으며,
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달됩니다.
+ * 다음 페이지는 이 위치보다 "뒤"에 있는 기록부터 조회합니다.</p>
+ */
+@Getter
+public class LedgerCursor {
+
+    private final LocalDate date;
+    private final Long id;
+
+    public LedgerCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    /**
+     * 페이지의 마지막 기록으로 다음 페이지 커서를 생성합니다.
+     */
+    public static LedgerCursor of(LedgerDTO last) {
+        return new LedgerCursor(last.getDate(), last.getId());
+    }
+
+    /**
+     * 페이지의 마지막 기록으로 다음 페이지 커서를 생성합니다.
+     */
+    public static LedgerCursor of(Ledger last) {
+        return new LedgerCursor(last.getDate(), last.getId());
+    }
+
+    /**
+     * 커서를 불투명 토큰 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 문자열을 커서로 디코딩합니다.
+     * 비어 있는 토큰은 첫 페이지를 의미하며 null을 반환합니다.
+     *
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    public static LedgerCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            LocalDate date = LocalDate.parse(raw.substring(0, separator));
+            Long id = Long.parseLong(raw.substring(separator + 1));
+            return new LedgerCursor(date, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
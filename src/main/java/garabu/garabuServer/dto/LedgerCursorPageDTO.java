@@ -0,0 +1,30 @@
+package garabu.garabuServer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션 조회 결과 DTO
+ *
+ * 전체 건수는 요청한 경우에만 계산하며, 그렇지 않으면 null 입니다.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "가계부 기록 커서 페이지 DTO")
+public class LedgerCursorPageDTO {
+
+    @Schema(description = "조회된 기록 목록")
+    private List<LedgerDTO> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "전체 건수 (includeTotal=true 인 경우에만)")
+    private Long totalElements;
+}
@@ -0,0 +1,25 @@
+package garabu.garabuServer.dto;
+
+import garabu.garabuServer.domain.AmountType;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 가계부 기록 내보내기 행
+ *
+ * MyBatis 커서로 한 행씩 읽어 바로 응답에 쓰기 위한 평면 DTO 입니다.
+ * 카테고리/결제수단은 이름으로 조인해 가져오므로 엔티티 연관을 로딩하지 않습니다.
+ */
+@Data
+public class LedgerExportRow {
+    private Long id;
+    private LocalDate date;
+    private Long amount;
+    private AmountType amountType;
+    private String category;
+    private String payment;
+    private String description;
+    private String memo;
+    private String spender;
+}
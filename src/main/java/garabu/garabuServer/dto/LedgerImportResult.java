@@ -0,0 +1,60 @@
+package garabu.garabuServer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가계부 기록 일괄 가져오기 결과 DTO
+ *
+ * 행 오류는 최대 건수까지만 담고, 실패 건수는 전체를 집계합니다.
+ */
+@Data
+@Schema(description = "가계부 기록 일괄 가져오기 결과 DTO")
+public class LedgerImportResult {
+
+    @Schema(description = "읽은 행 수 (헤더 제외)", example = "1200")
+    private int totalRows;
+
+    @Schema(description = "저장된 행 수", example = "1195")
+    private int importedRows;
+
+    @Schema(description = "실패한 행 수", example = "5")
+    private int failedRows;
+
+    @Schema(description = "행별 오류 (최대 건수까지)")
+    private List<RowError> errors = new ArrayList<>();
+
+    @Schema(description = "행별 오류가 최대 건수를 넘어 일부 생략되었는지 여부")
+    private boolean errorsTruncated;
+
+    /**
+     * 실패 행 기록
+     *
+     * @param line 입력 본문의 줄 번호 (1부터)
+     * @param message 오류 메시지
+     * @param maxErrors 담을 최대 오류 건수
+     */
+    public void addError(long line, String message, int maxErrors) {
+        failedRows++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "행 오류")
+    public static class RowError {
+        @Schema(description = "줄 번호", example = "42")
+        private long line;
+
+        @Schema(description = "오류 메시지", example = "해당 가계부에 존재하지 않는 카테고리입니다: 간식")
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package garabu.garabuServer.dto.tag;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkTagRequest {
+    
+    @NotEmpty(message = "거래 내역 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 태그를 추가할 수 있습니다")
+    private List<@NotNull Long> ledgerIds;
+}
@@ -0,0 +1,11 @@
+package garabu.garabuServer.dto.tag;
+
+import lombok.Data;
+
+@Data
+public class BulkTagResponse {
+    private Long tagId;
+    private Integer requestedCount;
+    private Integer taggedCount;
+    private Integer usageCount;
+}
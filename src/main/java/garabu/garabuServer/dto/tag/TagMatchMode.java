@@ -0,0 +1,11 @@
+package garabu.garabuServer.dto.tag;
+
+/**
+ * 여러 태그로 검색할 때의 일치 조건
+ */
+public enum TagMatchMode {
+    /** 태그 중 하나라도 가진 거래 (OR) */
+    ANY,
+    /** 모든 태그를 가진 거래 (AND) */
+    ALL
+}
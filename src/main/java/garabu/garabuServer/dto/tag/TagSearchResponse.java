@@ -8,8 +8,12 @@ import java.util.List;
 public class TagSearchResponse {
     private String tagName;
     private String tagColor;
+    private List<String> tagNames;
+    private TagMatchMode match;
     private List<TransactionSummary> transactions;
     private Long totalElements;
     private Integer totalPages;
     private Integer currentPage;
-} 
\ No newline at end of file
+    private String nextCursor;
+    private Boolean hasNext;
+}
@@ -0,0 +1,24 @@
+package garabu.garabuServer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 토큰 블랙리스트 추가 이벤트
+ *
+ * 한 노드에서 블랙리스트에 추가된 JTI를 다른 노드의 로컬 near-cache에 전파합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlacklistEvent implements Serializable {
+    private List<String> jtis;
+    private Long expiresAt;   // epoch millis
+    private Long timestamp;
+}
@@ -0,0 +1,37 @@
+package garabu.garabuServer.event;
+
+import garabu.garabuServer.service.BlacklistNearCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 블랙리스트 이벤트 수신 리스너
+ *
+ * 다른 노드에서 발행한 블랙리스트 추가를 로컬 near-cache에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistEventListener implements MessageListener {
+
+    private final BlacklistNearCache blacklistNearCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object event = redisTemplate.getValueSerializer().deserialize(message.getBody());
+
+            if (event instanceof BlacklistEvent blacklistEvent && blacklistEvent.getJtis() != null) {
+                blacklistNearCache.addAll(blacklistEvent.getJtis(), blacklistEvent.getExpiresAt());
+                log.debug("블랙리스트 이벤트 반영 - {}건", blacklistEvent.getJtis().size());
+            }
+        } catch (Exception e) {
+            log.error("블랙리스트 이벤트 처리 중 오류 발생", e);
+        }
+    }
+}
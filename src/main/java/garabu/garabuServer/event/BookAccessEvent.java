@@ -0,0 +1,23 @@
+package garabu.garabuServer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 가계부 권한 변경 이벤트
+ *
+ * 멤버 제거/역할 변경/탈퇴 시 다른 노드의 권한 캐시에서 (가계부, 회원) 항목을 제거합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookAccessEvent implements Serializable {
+    private Long bookId;
+    private Long memberId;
+    private Long timestamp;
+}
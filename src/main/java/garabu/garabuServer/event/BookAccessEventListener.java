@@ -0,0 +1,38 @@
+package garabu.garabuServer.event;
+
+import garabu.garabuServer.service.BookAccessCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가계부 권한 변경 이벤트 수신 리스너
+ *
+ * 다른 노드(또는 자신)에서 발행한 권한 변경을 로컬 권한 캐시에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookAccessEventListener implements MessageListener {
+
+    private final BookAccessCache bookAccessCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object event = redisTemplate.getValueSerializer().deserialize(message.getBody());
+
+            if (event instanceof BookAccessEvent accessEvent) {
+                bookAccessCache.evict(accessEvent.getBookId(), accessEvent.getMemberId());
+                log.debug("가계부 권한 변경 이벤트 반영 - 가계부: {}, 회원: {}",
+                        accessEvent.getBookId(), accessEvent.getMemberId());
+            }
+        } catch (Exception e) {
+            log.error("가계부 권한 변경 이벤트 처리 중 오류 발생", e);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import java.io.Serializable;
 @NoArgsConstructor
 @AllArgsConstructor
 public class BookEvent implements Serializable {
+    // 이벤트 로그(Redis Stream) ID, SSE 이벤트 ID로 사용
+    private String eventId;
     private Long bookId;
     private String eventType;
     private Object data;
@@ -38,6 +40,16 @@ public class BookEvent implements Serializable {
                 .build();
     }
     
+    public static BookEvent ledgersImported(Long bookId, Long userId, Object importResult) {
+        return BookEvent.builder()
+                .bookId(bookId)
+                .eventType("LEDGERS_IMPORTED")
+                .data(importResult)
+                .userId(userId)
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+    
     public static BookEvent ledgerDeleted(Long bookId, Long userId, Long ledgerId) {
         return BookEvent.builder()
                 .bookId(bookId)
@@ -20,7 +20,14 @@ public class BookEventListener implements MessageListener {
     public void onMessage(Message message, byte[] pattern) {
         try {
             String channel = new String(message.getChannel());
-            Object event = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            // 가계부 이벤트는 이벤트 로그의 스트림 ID 가 앞에 붙어 발행됨
+            BookEventLog.Published published = channel.startsWith(SseTopicSubscriptionManager.BOOK_CHANNEL_PREFIX)
+                    ? BookEventLog.Published.parse(message.getBody())
+                    : new BookEventLog.Published(null, message.getBody());
+            Object event = redisTemplate.getValueSerializer().deserialize(published.getPayload());
+            if (event instanceof BookEvent bookEvent && published.getId() != null) {
+                bookEvent.setEventId(published.getId());
+            }
             
             log.debug("Redis 이벤트 수신 - 채널: {}", channel);
             
@@ -41,8 +48,9 @@ public class BookEventListener implements MessageListener {
         
         // SSE로 해당 가계부 구독자들에게 전송
         sseService.sendBookUpdateEvent(
-            event.getBookId(), 
-            event.getEventType(), 
+            event.getBookId(),
+            event.getEventId(),
+            event.getEventType(),
             event
         );
     }
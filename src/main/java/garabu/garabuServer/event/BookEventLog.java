@@ -0,0 +1,248 @@
+package garabu.garabuServer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 가계부별 SSE 이벤트 로그 (Redis Stream)
+ *
+ * <p>가계부 이벤트를 발행할 때 sse:book-events:{bookId} 스트림에 먼저 기록하고,
+ * 스트림 ID(ms-seq)를 SSE 이벤트 ID로 사용합니다. 스트림 ID는 가계부 내에서 단조 증가하므로
+ * 재연결한 클라이언트는 Last-Event-ID 이후의 이벤트만 받을 수 있습니다.</p>
+ *
+ * <p>압축(compaction)</p>
+ * <ul>
+ *   <li>개수: 기록할 때마다 최근 sse.event-log.max-length 개만 유지 (XADD MAXLEN ~)</li>
+ *   <li>기간: sse.event-log.max-age-ms 보다 오래된 이벤트 제거 (XTRIM MINID ~), 유휴 가계부는 키 만료</li>
+ * </ul>
+ * 기록과 압축, 만료 설정, 실시간 채널 발행은 한 번의 Lua 스크립트 호출(왕복 1회)로 처리합니다.
+ * 스크립트는 원자적으로 실행되므로 실시간 메시지는 스트림 ID 순서대로 발행되고,
+ * 메시지 앞에 스트림 ID 를 붙여({@link Published}) 구독 노드가 같은 ID 를 SSE 이벤트 ID로 사용합니다.
+ *
+ * 요청한 구간이 이미 압축되어 사라졌으면 gap 으로 표시하며, 이 경우 클라이언트는 목록을 다시 조회합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class BookEventLog {
+
+    public static final String KEY_PREFIX = "sse:book-events:";
+
+    private static final byte[] EVENT_FIELD = "event".getBytes(StandardCharsets.UTF_8);
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d+-\\d+");
+
+    // 발행 메시지에서 스트림 ID 와 이벤트를 구분 (스트림 ID 에는 숫자와 '-' 만 있음)
+    private static final byte ID_SEPARATOR = '\n';
+
+    // XADD 는 한 가지 트리밍 조건만 받으므로 개수는 XADD 에서, 기간은 XTRIM MINID(Redis 6.2+)로 정리
+    private static final byte[] APPEND_SCRIPT = """
+            local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[2], '*', 'event', ARGV[1])
+            redis.call('XTRIM', KEYS[1], 'MINID', '~', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PUBLISH', ARGV[5], id .. '\\n' .. ARGV[1])
+            return id
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long maxLength;
+    private final long maxAgeMs;
+
+    public BookEventLog(RedisTemplate<String, Object> redisTemplate,
+                        @Value("${sse.event-log.max-length:500}") long maxLength,
+                        @Value("${sse.event-log.max-age-ms:3600000}") long maxAgeMs) {
+        this.redisTemplate = redisTemplate;
+        this.maxLength = maxLength;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * 이벤트를 가계부 스트림에 기록하고 압축한 뒤, 같은 스크립트 안에서 channel 에 발행합니다.
+     *
+     * @return 스트림 ID (SSE 이벤트 ID)
+     */
+    public String appendAndPublish(BookEvent event, String channel) {
+        byte[] key = key(event.getBookId());
+        byte[] value = valueSerializer().serialize(event);
+        String minId = (System.currentTimeMillis() - maxAgeMs) + "-0";
+
+        byte[] recordId = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.scriptingCommands().eval(APPEND_SCRIPT, ReturnType.VALUE, 1,
+                        key, value, bytes(maxLength), bytes(minId), bytes(maxAgeMs), bytes(channel)));
+        return recordId != null ? new String(recordId, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * lastEventId 이후에 기록된 이벤트를 조회합니다.
+     *
+     * @param bookId 가계부 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID
+     * @return 놓친 이벤트 목록, 이미 압축된 구간이 포함되면 gap
+     */
+    public Replay readAfter(Long bookId, String lastEventId) {
+        if (!isValidId(lastEventId)) {
+            return Replay.gap();
+        }
+
+        byte[] key = key(bookId);
+        List<ByteRecord> oldest = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(key, Range.unbounded(), Limit.limit().count(1)));
+
+        if (oldest == null || oldest.isEmpty()) {
+            // 스트림이 비어 있으면 보관 기간 안의 이벤트는 없었음
+            long lastEventAt = Long.parseLong(lastEventId.substring(0, lastEventId.indexOf('-')));
+            return System.currentTimeMillis() - lastEventAt > maxAgeMs
+                    ? Replay.gap()
+                    : new Replay(Collections.emptyList(), false);
+        }
+        if (compareIds(oldest.get(0).getId().getValue(), successor(lastEventId)) > 0) {
+            // 남은 가장 오래된 이벤트가 lastEventId 바로 다음 ID보다 뒤면 그 사이 구간이 압축되었을 수 있음
+            return Replay.gap();
+        }
+
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(key,
+                        Range.rightUnbounded(Range.Bound.exclusive(lastEventId)),
+                        Limit.limit().count((int) maxLength + 1)));
+
+        if (records != null && records.size() > maxLength) {
+            // 놓친 이벤트가 보관 개수보다 많으면 재전송보다 재조회가 저렴함
+            return Replay.gap();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        if (records != null) {
+            for (ByteRecord record : records) {
+                Object event = valueSerializer().deserialize(eventPayload(record));
+                if (event instanceof BookEvent bookEvent) {
+                    bookEvent.setEventId(record.getId().getValue());
+                    entries.add(new Entry(record.getId().getValue(), bookEvent));
+                }
+            }
+        }
+        return new Replay(entries, false);
+    }
+
+    /**
+     * 스트림 ID 비교 (ms-seq)
+     */
+    public static int compareIds(String a, String b) {
+        int aDash = a.indexOf('-');
+        int bDash = b.indexOf('-');
+        int result = Long.compare(Long.parseLong(a.substring(0, aDash)), Long.parseLong(b.substring(0, bDash)));
+        if (result != 0) {
+            return result;
+        }
+        return Long.compare(Long.parseLong(a.substring(aDash + 1)), Long.parseLong(b.substring(bDash + 1)));
+    }
+
+    public static boolean isValidId(String id) {
+        return id != null && ID_PATTERN.matcher(id).matches();
+    }
+
+    /**
+     * 스트림에서 id 바로 다음에 올 수 있는 가장 작은 ID (ms-(seq+1))
+     */
+    static String successor(String id) {
+        int dash = id.indexOf('-');
+        return id.substring(0, dash + 1) + (Long.parseLong(id.substring(dash + 1)) + 1);
+    }
+
+    /**
+     * 레코드의 event 필드 값 (byte[] 키는 내용 비교가 필요하므로 Map.get 으로 찾을 수 없음)
+     */
+    private static byte[] eventPayload(ByteRecord record) {
+        for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+            if (Arrays.equals(EVENT_FIELD, field.getKey())) {
+                return field.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    private static byte[] key(Long bookId) {
+        return (KEY_PREFIX + bookId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 스트림에 기록된 이벤트
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final String id;
+        private final BookEvent event;
+    }
+
+    /**
+     * {@link #appendAndPublish} 가 발행한 메시지 (스트림 ID + 구분자 + 직렬화된 이벤트)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Published {
+        private final String id;
+        private final byte[] payload;
+
+        /**
+         * 메시지에서 스트림 ID 를 분리 (스트림 ID 가 붙지 않은 메시지면 id 가 null)
+         * 직렬화된 값은 버전 헤더나 JSON 으로 시작하므로 숫자로 시작하지 않습니다.
+         */
+        public static Published parse(byte[] body) {
+            if (body == null || body.length == 0 || body[0] < '0' || body[0] > '9') {
+                return new Published(null, body);
+            }
+            for (int i = 1; i < body.length; i++) {
+                if (body[i] == ID_SEPARATOR) {
+                    String id = new String(body, 0, i, StandardCharsets.UTF_8);
+                    if (isValidId(id)) {
+                        return new Published(id, Arrays.copyOfRange(body, i + 1, body.length));
+                    }
+                    break;
+                }
+            }
+            return new Published(null, body);
+        }
+    }
+
+    /**
+     * 재전송 조회 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Replay {
+        private final List<Entry> entries;
+        private final boolean gap;
+
+        static Replay gap() {
+            return new Replay(Collections.emptyList(), true);
+        }
+    }
+}
@@ -11,21 +11,30 @@ import org.springframework.stereotype.Component;
 public class BookEventPublisher {
     
     private final RedisTemplate<String, Object> redisTemplate;
+    private final BookEventLog bookEventLog;
     
     /**
      * 가계부 관련 이벤트 발행
+     * 이벤트 로그 기록과 채널 발행을 한 스크립트로 처리하여 실시간 이벤트가 로그(이벤트 ID) 순서대로 전달되고
+     * 재연결 클라이언트가 놓친 이벤트를 받을 수 있게 함
      */
     public void publishBookEvent(BookEvent event) {
-        String channel = "book-events:" + event.getBookId();
+        String channel = SseTopicSubscriptionManager.BOOK_CHANNEL_PREFIX + event.getBookId();
         log.debug("Redis 이벤트 발행 - 채널: {}, 이벤트: {}", channel, event.getEventType());
-        redisTemplate.convertAndSend(channel, event);
+        try {
+            event.setEventId(bookEventLog.appendAndPublish(event, channel));
+        } catch (Exception e) {
+            // 로그 기록 실패 시에도 실시간 전송은 계속 (이벤트 ID 없음, 재연결 시 resync)
+            log.error("이벤트 로그 기록 실패 - 가계부: {}", event.getBookId(), e);
+            redisTemplate.convertAndSend(channel, event);
+        }
     }
     
     /**
      * 사용자별 이벤트 발행
      */
     public void publishUserEvent(UserEvent event) {
-        String channel = "user-events:" + event.getUserId();
+        String channel = SseTopicSubscriptionManager.USER_CHANNEL_PREFIX + event.getUserId();
         log.debug("사용자 이벤트 발행 - 채널: {}, 이벤트: {}", channel, event.getEventType());
         redisTemplate.convertAndSend(channel, event);
     }
@@ -0,0 +1,24 @@
+package garabu.garabuServer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 캐시 무효화 이벤트
+ *
+ * 한 노드에서 {@code @CacheEvict} 로 제거된 항목을 다른 노드의 로컬(L1) 캐시에 전파합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEvictEvent implements Serializable {
+    private String cacheName;
+    private String key;        // null 이면 캐시 전체 제거
+    private String sourceId;   // 발행 노드 (자기 자신이 보낸 이벤트는 무시)
+    private Long timestamp;
+}
@@ -0,0 +1,37 @@
+package garabu.garabuServer.event;
+
+import garabu.garabuServer.config.TwoLevelCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 무효화 이벤트 수신 리스너
+ *
+ * 다른 노드에서 발행한 캐시 제거를 로컬(L1) 캐시에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheEvictEventListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object event = redisTemplate.getValueSerializer().deserialize(message.getBody());
+
+            if (event instanceof CacheEvictEvent evictEvent) {
+                cacheManager.onEvict(evictEvent);
+                log.debug("캐시 무효화 이벤트 반영 - 캐시: {}, 키: {}", evictEvent.getCacheName(), evictEvent.getKey());
+            }
+        } catch (Exception e) {
+            log.error("캐시 무효화 이벤트 처리 중 오류 발생", e);
+        }
+    }
+}
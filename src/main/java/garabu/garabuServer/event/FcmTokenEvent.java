@@ -0,0 +1,23 @@
+package garabu.garabuServer.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * FCM 토큰 변경 이벤트
+ *
+ * 토큰 등록/삭제/만료 처리 시 다른 노드의 토큰 캐시에서 (앱, 사용자) 항목을 제거합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FcmTokenEvent implements Serializable {
+    private String appId;
+    private String userId;
+    private Long timestamp;
+}
@@ -0,0 +1,37 @@
+package garabu.garabuServer.event;
+
+import garabu.garabuServer.service.FcmTokenCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 토큰 변경 이벤트 수신 리스너
+ *
+ * 다른 노드(또는 자신)에서 발행한 토큰 변경을 로컬 토큰 캐시에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenEventListener implements MessageListener {
+
+    private final FcmTokenCache fcmTokenCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object event = redisTemplate.getValueSerializer().deserialize(message.getBody());
+
+            if (event instanceof FcmTokenEvent tokenEvent) {
+                fcmTokenCache.evict(tokenEvent.getAppId(), tokenEvent.getUserId());
+                log.debug("FCM 토큰 변경 이벤트 반영 - 앱: {}, 사용자: {}", tokenEvent.getAppId(), tokenEvent.getUserId());
+            }
+        } catch (Exception e) {
+            log.error("FCM 토큰 변경 이벤트 처리 중 오류 발생", e);
+        }
+    }
+}
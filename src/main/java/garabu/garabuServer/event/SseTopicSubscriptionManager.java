@@ -0,0 +1,55 @@
+package garabu.garabuServer.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 구독 기반 Redis 채널 구독 관리
+ *
+ * <p>노드는 로컬에 SSE 구독자가 있는 가계부/사용자 채널만 구독합니다.
+ * 첫 구독자가 생기면 book-events:{id} / user-events:{id} 채널을 구독하고,
+ * 마지막 구독자가 떠나면 구독을 해제하여 다른 가계부의 이벤트를 수신/역직렬화하지 않습니다.</p>
+ *
+ * <p>구독/해제에 실패하면 예외를 그대로 전달하며, 호출 측({@link garabu.garabuServer.service.SseService})이
+ * 구독 상태를 되돌려 다음 구독자/구독 해제 때 다시 시도합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseTopicSubscriptionManager {
+
+    public static final String BOOK_CHANNEL_PREFIX = "book-events:";
+    public static final String USER_CHANNEL_PREFIX = "user-events:";
+
+    private final RedisMessageListenerContainer container;
+    private final BookEventListener bookEventListener;
+
+    public void subscribeBook(Long bookId) {
+        subscribe(BOOK_CHANNEL_PREFIX + bookId);
+    }
+
+    public void unsubscribeBook(Long bookId) {
+        unsubscribe(BOOK_CHANNEL_PREFIX + bookId);
+    }
+
+    public void subscribeUser(Long userId) {
+        subscribe(USER_CHANNEL_PREFIX + userId);
+    }
+
+    public void unsubscribeUser(Long userId) {
+        unsubscribe(USER_CHANNEL_PREFIX + userId);
+    }
+
+    private void subscribe(String channel) {
+        container.addMessageListener(bookEventListener, new ChannelTopic(channel));
+        log.debug("Redis 채널 구독 - {}", channel);
+    }
+
+    private void unsubscribe(String channel) {
+        container.removeMessageListener(bookEventListener, new ChannelTopic(channel));
+        log.debug("Redis 채널 구독 해제 - {}", channel);
+    }
+}
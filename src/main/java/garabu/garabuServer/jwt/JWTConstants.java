@@ -19,6 +19,9 @@ public class JWTConstants {
     public static final String BLACKLIST_PREFIX = "blacklist:";
     public static final String TOKEN_FAMILY_PREFIX = "token_family:";
     
+    // 블랙리스트 변경 전파용 Redis Pub/Sub 채널
+    public static final String BLACKLIST_CHANNEL = "blacklist-events";
+    
     // 토큰 카테고리
     public static final String ACCESS_TOKEN_CATEGORY = "access";
     public static final String REFRESH_TOKEN_CATEGORY = "refresh";
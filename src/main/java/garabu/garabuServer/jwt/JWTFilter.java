@@ -17,11 +17,11 @@ import java.io.PrintWriter;
 
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final BlacklistService blacklistService;
 
-    public JWTFilter(JWTUtil jwtUtil, BlacklistService blacklistService) {
-        this.jwtUtil = jwtUtil;
+    public JWTFilter(VerifiedTokenCache verifiedTokenCache, BlacklistService blacklistService) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.blacklistService = blacklistService;
     }
 
@@ -78,9 +78,10 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 만료 여부 확인, 만료시 다음 필터로 넘기지 않음
+        // 토큰 검증 (요청당 1회 파싱, 동일 토큰 재요청은 캐시 사용), 만료시 다음 필터로 넘기지 않음
+        VerifiedJwt jwt;
         try {
-            jwtUtil.isExpired(accessToken);
+            jwt = verifiedTokenCache.verify(accessToken);
         } catch (ExpiredJwtException e) {
             //response body
             PrintWriter writer = response.getWriter();
@@ -92,9 +93,9 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // 토큰이 access인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
+        String category = jwt.getCategory();
 
-        if (!category.equals("access")) {
+        if (!JWTConstants.ACCESS_TOKEN_CATEGORY.equals(category)) {
             //response body
             PrintWriter writer = response.getWriter();
             writer.print("invalid access token");
@@ -105,7 +106,7 @@ public class JWTFilter extends OncePerRequestFilter {
         }
         
         // 블랙리스트 체크
-        String jti = jwtUtil.getJti(accessToken);
+        String jti = jwt.getJti();
         if (blacklistService.isBlacklisted(jti)) {
             //response body
             PrintWriter writer = response.getWriter();
@@ -126,8 +127,8 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // username, role 값을 획득
-        String username = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        String username = jwt.getUsername();
+        String role = jwt.getRole();
 
         Member userEntity = new Member();
         userEntity.setUsername(username);
@@ -1,6 +1,7 @@
 package garabu.garabuServer.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -16,45 +17,62 @@ import java.util.UUID;
 public class JWTUtil {
 
     private Key key;
+    private final JwtParser parser; // 불변/스레드 안전하므로 재사용
 
     public JWTUtil(@Value("${jwt.secret}")String secret) {
 
         byte[] byteSecretKey = Decoders.BASE64.decode(secret);
         key = Keys.hmacShaKeyFor(byteSecretKey);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    /**
+     * 토큰을 한 번 파싱/서명 검증하여 클레임 스냅샷을 반환합니다.
+     * 여러 클레임이 필요한 경우 getXxx()를 반복 호출하지 말고 이 메서드를 사용합니다.
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 유효하지 않은 토큰
+     */
+    public VerifiedJwt verify(String token) {
+        return VerifiedJwt.from(parseClaims(token));
+    }
+
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getUsername(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("username", String.class);
+        return parseClaims(token).get("username", String.class);
     }
 
     public String getRole(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
 
     public String getCategory(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("category", String.class);
+        return parseClaims(token).get("category", String.class);
     }
     
     public String getJti(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getId();
+        return parseClaims(token).getId();
     }
     
     public Long getAbsoluteExpiration(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = parseClaims(token);
         return claims.get("absExp", Long.class);
     }
     
     public Long getIdleExpiration(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = parseClaims(token);
         return claims.get("idleExp", Long.class);
     }
     
     public Boolean isExpired(String token) {
 
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration().before(new Date());
+        return parseClaims(token).getExpiration().before(new Date());
     }
     
     /**
@@ -63,7 +81,7 @@ public class JWTUtil {
      * @return 만료 여부 (true: 만료됨, false: 유효함)
      */
     public Boolean isExpiredWithIdle(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = parseClaims(token);
         long now = System.currentTimeMillis();
         
         // 절대 만료 시간 체크
@@ -0,0 +1,48 @@
+package garabu.garabuServer.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임 스냅샷
+ *
+ * 토큰을 한 번만 파싱/검증한 뒤 필요한 값을 꺼내 쓰기 위한 불변 객체입니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Getter
+public class VerifiedJwt {
+
+    private final String category;
+    private final String username;
+    private final String role;
+    private final String jti;
+    private final Long expiresAt;   // epoch millis
+    private final Long idleExp;
+    private final Long absExp;
+
+    private VerifiedJwt(Claims claims) {
+        this.category = claims.get("category", String.class);
+        this.username = claims.get("username", String.class);
+        this.role = claims.get("role", String.class);
+        this.jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        this.expiresAt = expiration != null ? expiration.getTime() : null;
+        this.idleExp = claims.get("idleExp", Long.class);
+        this.absExp = claims.get("absExp", Long.class);
+    }
+
+    public static VerifiedJwt from(Claims claims) {
+        return new VerifiedJwt(claims);
+    }
+
+    /**
+     * 토큰의 exp 기준 만료 여부
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAt != null && expiresAt <= nowMillis;
+    }
+}
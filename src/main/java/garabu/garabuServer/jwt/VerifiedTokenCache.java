@@ -0,0 +1,129 @@
+package garabu.garabuServer.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시
+ *
+ * <p>같은 access token으로 반복되는 요청은 서명 검증/JSON 파싱 없이
+ * 캐시된 클레임을 사용합니다. 원본 토큰 대신 SHA-256 해시를 키로 저장하며,
+ * 토큰의 exp 가 지나면 캐시에서도 무효화됩니다.
+ * 용량(max-size)에 도달하면 Caffeine 이 자주 쓰이지 않는 항목부터 조금씩 내보내므로
+ * 요청 스레드에서 전체를 훑거나 새 토큰을 캐시하지 못하는 일이 없습니다.</p>
+ *
+ * <p>메트릭: jwt.claims.cache.requests{result=hit|miss} (Caffeine 통계), jwt.claims.cache.size</p>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JWTUtil jwtUtil;
+    private final Cache<String, VerifiedJwt> cache;
+
+    public VerifiedTokenCache(JWTUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.claims-cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+        FunctionCounter.builder("jwt.claims.cache.requests", cache, c -> c.stats().hitCount())
+                .tag("result", "hit")
+                .description("검증된 JWT 캐시 적중 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.claims.cache.requests", cache, c -> c.stats().missCount())
+                .tag("result", "miss")
+                .description("검증된 JWT 캐시 미스 수 (서명 검증 수행)")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", cache, Cache::estimatedSize)
+                .description("검증된 JWT 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 서명을 검증한 뒤 캐시에 저장합니다.
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 유효하지 않은 토큰
+     */
+    public VerifiedJwt verify(String token) {
+        String key = hash(token);
+        // exp 가 지난 항목은 조회되지 않으므로 재검증 (ExpiredJwtException 발생)
+        VerifiedJwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedJwt verified = jwtUtil.verify(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거합니다.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /**
+     * 만료된 항목 정리 (1분마다, 요청이 없는 동안에도 메모리 반환)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        cache.cleanUp();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 토큰의 exp 까지만 보관 (exp 가 없으면 용량 초과 시에만 제거)
+     */
+    private static class UntilTokenExpires implements Expiry<String, VerifiedJwt> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedJwt value, long currentTime) {
+            if (value.getExpiresAt() == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMs = value.getExpiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedJwt value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedJwt value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package garabu.garabuServer.mapper;
 
 import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.dto.LedgerExportRow;
 import garabu.garabuServer.dto.LedgerSearchConditionDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -16,5 +19,14 @@ public interface LedgerMapper {
                                @Param("orderBy") String orderBy,
                                @Param("offset")  long offset,
                                @Param("limit")   long limit);
-}
 
+    List<Ledger> searchLedgersByCursor(@Param("c") LedgerSearchConditionDTO c,
+                                       @Param("cursorDate") LocalDate cursorDate,
+                                       @Param("cursorId")   Long cursorId,
+                                       @Param("limit")      long limit);
+
+    /**
+     * 내보내기용 스트리밍 조회 (트랜잭션 안에서 순회해야 함)
+     */
+    Cursor<LedgerExportRow> streamLedgersForExport(@Param("c") LedgerSearchConditionDTO c);
+}
@@ -4,9 +4,11 @@ import garabu.garabuServer.domain.Asset;
 import garabu.garabuServer.domain.AssetType;
 import garabu.garabuServer.domain.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,4 +63,18 @@ public interface AssetJpaRepository extends JpaRepository<Asset, Long> {
      * 가계부별 자산 삭제
      */
     void deleteByBook(Book book);
-}
\ No newline at end of file
+
+    /**
+     * 자산 잔액 원자적 증감 (UPDATE asset SET balance = balance + :delta)
+     * 신용카드가 아닌 자산은 잔액이 음수가 되면 갱신하지 않음
+     *
+     * @return 갱신된 행 수 (0이면 잔액 부족 또는 자산 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Asset a SET a.balance = a.balance + :delta, a.updatedAt = :now " +
+           "WHERE a.id = :assetId AND (a.assetType = :creditCard OR a.balance + :delta >= 0)")
+    int applyBalanceDelta(@Param("assetId") Long assetId,
+                          @Param("delta") Long delta,
+                          @Param("creditCard") AssetType creditCard,
+                          @Param("now") LocalDateTime now);
+}
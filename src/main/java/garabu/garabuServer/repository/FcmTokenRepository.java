@@ -2,12 +2,27 @@ package garabu.garabuServer.repository;
 
 import garabu.garabuServer.domain.FcmUserToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FcmTokenRepository extends JpaRepository<FcmUserToken, Long> {
     Optional<FcmUserToken> findTopByAppIdAndUserIdAndDeviceIdOrderByTokenIdDesc (String appId, String userId, String deviceId);
     Optional<FcmUserToken> findTopByAppIdAndUserIdAndUseAtOrderByTokenIdDesc(String appId, String userId, String useAt);
     Optional<FcmUserToken> findByAppIdAndUserIdAndDeviceId(String appId, String userId, String deviceId);
+    // 여러 사용자의 토큰을 한 번에 조회 (사용자별 최신 토큰은 호출 측에서 첫 항목 사용)
+    List<FcmUserToken> findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(String appId, String useAt, Collection<String> userIds);
+    // FCM 이 만료/무효로 응답한 토큰을 사용 안 함으로 표시
+    @Modifying
+    @Query("UPDATE FcmUserToken t SET t.useAt = 'N', t.regDt = :now " +
+           "WHERE t.appId = :appId AND t.fcmToken IN :tokens AND t.useAt = 'Y'")
+    int markUnused(@Param("appId") String appId,
+                   @Param("tokens") Collection<String> tokens,
+                   @Param("now") LocalDateTime now);
 
 }
@@ -0,0 +1,55 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.Ledger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 가계부 기록 일괄 저장
+ * Ledger 는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 동작하지 않으므로,
+ * 여러 행을 하나의 multi-row INSERT 문으로 전송합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO ledger (member_id, book_id, category_id, payment_id, amount_type, " +
+            "spender, date, amount, description, memo) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기록 일괄 저장 (생성된 ID는 엔티티에 반영하지 않음)
+     *
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<Ledger> ledgers) {
+        if (ledgers.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(ledgers.size(), ROW_PLACEHOLDER));
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (Ledger ledger : ledgers) {
+                ps.setObject(index++, ledger.getMember() != null ? ledger.getMember().getId() : null);
+                ps.setObject(index++, ledger.getBook() != null ? ledger.getBook().getId() : null);
+                ps.setObject(index++, ledger.getCategory() != null ? ledger.getCategory().getId() : null);
+                ps.setObject(index++, ledger.getPaymentMethod() != null ? ledger.getPaymentMethod().getId() : null);
+                ps.setString(index++, ledger.getAmountType() != null ? ledger.getAmountType().name() : null);
+                ps.setString(index++, ledger.getSpender());
+                ps.setDate(index++, ledger.getDate() != null ? Date.valueOf(ledger.getDate()) : null);
+                ps.setObject(index++, ledger.getAmount());
+                ps.setString(index++, ledger.getDescription());
+                ps.setString(index++, ledger.getMemo());
+            }
+        });
+    }
+}
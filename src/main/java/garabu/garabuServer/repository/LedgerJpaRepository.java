@@ -17,6 +17,13 @@ import java.util.List;
 
 public interface LedgerJpaRepository extends JpaRepository<Ledger, Long> {
 
+    /**
+     * 지정한 태그를 required 개 이상 가진 장부 ID (ledger_tags 의 tag_id 인덱스로 처리)
+     */
+    String TAGGED_LEDGER_IDS =
+            "SELECT tl.id FROM Ledger tl JOIN tl.tags t WHERE t.id IN :tagIds " +
+            "GROUP BY tl.id HAVING COUNT(t.id) >= :required";
+
     List<Ledger> findByMember(Member member);
     
     List<Ledger> findByBook(Book book);
@@ -35,6 +42,24 @@ public interface LedgerJpaRepository extends JpaRepository<Ledger, Long> {
     @Query("SELECT l.id FROM Ledger l WHERE l.book = :book ORDER BY l.date DESC, l.id DESC")
     Page<Long> findIdsByBook(@Param("book") Book book, Pageable pageable);
     
+    /**
+     * 특정 가계부의 첫 페이지 장부 ID 목록 조회 (커서 페이지네이션, COUNT 없음)
+     */
+    @Query("SELECT l.id FROM Ledger l WHERE l.book = :book ORDER BY l.date DESC, l.id DESC")
+    List<Long> findFirstIdsByBook(@Param("book") Book book, Pageable pageable);
+
+    /**
+     * 커서 위치 (date, id) 이후의 장부 ID 목록 조회 (keyset seek)
+     * idx_ledger_book_date_id 인덱스 범위 스캔으로 처리되어 페이지 깊이와 무관
+     */
+    @Query("SELECT l.id FROM Ledger l WHERE l.book = :book " +
+           "AND (l.date < :date OR (l.date = :date AND l.id < :id)) " +
+           "ORDER BY l.date DESC, l.id DESC")
+    List<Long> findIdsByBookAfterCursor(@Param("book") Book book,
+                                        @Param("date") LocalDate date,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
     /**
      * ID 목록으로 장부 조회 (연관 엔티티 포함)
      */
@@ -47,6 +72,64 @@ public interface LedgerJpaRepository extends JpaRepository<Ledger, Long> {
            "ORDER BY l.date DESC, l.id DESC")
     List<Ledger> findByIdsWithFetch(@Param("ids") List<Long> ids);
     
+    /**
+     * 태그 조건에 맞는 장부 ID 페이지 조회 (OFFSET 페이지네이션)
+     * 태그 쪽에서 ledger_tags 를 먼저 좁힌 뒤 장부를 정렬하므로 태그 컬렉션 전체를 로딩하지 않음
+     * required 가 1 이면 태그 중 하나라도(OR), 태그 수와 같으면 모두(AND) 가진 장부
+     */
+    @Query(value = "SELECT l.id FROM Ledger l WHERE l.book.id = :bookId " +
+                   "AND l.id IN (" + TAGGED_LEDGER_IDS + ") " +
+                   "ORDER BY l.date DESC, l.id DESC",
+           countQuery = "SELECT COUNT(l) FROM Ledger l WHERE l.book.id = :bookId " +
+                        "AND l.id IN (" + TAGGED_LEDGER_IDS + ")")
+    Page<Long> findIdsByTags(@Param("bookId") Long bookId,
+                             @Param("tagIds") List<Long> tagIds,
+                             @Param("required") long required,
+                             Pageable pageable);
+
+    /**
+     * 태그 조건에 맞는 첫 페이지 장부 ID 목록 조회 (커서 페이지네이션, COUNT 없음)
+     */
+    @Query("SELECT l.id FROM Ledger l WHERE l.book.id = :bookId " +
+           "AND l.id IN (" + TAGGED_LEDGER_IDS + ") " +
+           "ORDER BY l.date DESC, l.id DESC")
+    List<Long> findFirstIdsByTags(@Param("bookId") Long bookId,
+                                  @Param("tagIds") List<Long> tagIds,
+                                  @Param("required") long required,
+                                  Pageable pageable);
+
+    /**
+     * 커서 위치 (date, id) 이후의 태그 조건 장부 ID 목록 조회 (keyset seek)
+     */
+    @Query("SELECT l.id FROM Ledger l WHERE l.book.id = :bookId " +
+           "AND l.id IN (" + TAGGED_LEDGER_IDS + ") " +
+           "AND (l.date < :date OR (l.date = :date AND l.id < :id)) " +
+           "ORDER BY l.date DESC, l.id DESC")
+    List<Long> findIdsByTagsAfterCursor(@Param("bookId") Long bookId,
+                                        @Param("tagIds") List<Long> tagIds,
+                                        @Param("required") long required,
+                                        @Param("date") LocalDate date,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 태그 조건에 맞는 장부 수 (커서 조회에서 includeTotal 인 경우)
+     */
+    @Query("SELECT COUNT(l) FROM Ledger l WHERE l.book.id = :bookId " +
+           "AND l.id IN (" + TAGGED_LEDGER_IDS + ")")
+    long countByTags(@Param("bookId") Long bookId,
+                     @Param("tagIds") List<Long> tagIds,
+                     @Param("required") long required);
+
+    /**
+     * ID 목록으로 장부 조회 (카테고리만 함께 로딩, 태그 검색 결과 변환용)
+     */
+    @Query("SELECT l FROM Ledger l " +
+           "LEFT JOIN FETCH l.category " +
+           "WHERE l.id IN :ids " +
+           "ORDER BY l.date DESC, l.id DESC")
+    List<Ledger> findByIdsWithCategory(@Param("ids") List<Long> ids);
+
     boolean existsByDateAndAmountAndDescriptionAndMemberIdAndBookId(
         LocalDate date, Long amount, String description, Long memberId, Long bookId);
     
@@ -0,0 +1,84 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.domain.LedgerMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 월별 가계부 집계 Repository
+ */
+public interface LedgerMonthlySummaryRepository extends JpaRepository<LedgerMonthlySummary, Long> {
+
+    /**
+     * 집계 행에 증분을 원자적으로 반영 (없으면 생성)
+     * 동시에 여러 기록이 등록되어도 DB에서 더하기 때문에 갱신이 유실되지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_monthly_summary " +
+                   "(book_id, summary_month, amount_type, category_id, total_amount, ledger_count, updated_at) " +
+                   "VALUES (:bookId, :summaryMonth, :amountType, :categoryId, :amount, :count, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_amount = total_amount + VALUES(total_amount), " +
+                   "ledger_count = ledger_count + VALUES(ledger_count), " +
+                   "updated_at = NOW()",
+           nativeQuery = true)
+    int applyDelta(@Param("bookId") Long bookId,
+                   @Param("summaryMonth") String summaryMonth,
+                   @Param("amountType") String amountType,
+                   @Param("categoryId") Long categoryId,
+                   @Param("amount") long amount,
+                   @Param("count") long count);
+
+    /**
+     * 가계부/년월/금액 유형별 합계 금액 조회
+     */
+    @Query("SELECT COALESCE(SUM(s.totalAmount), 0) FROM LedgerMonthlySummary s " +
+           "WHERE s.bookId = :bookId AND s.summaryMonth = :summaryMonth AND s.amountType = :amountType")
+    Long sumTotalAmount(@Param("bookId") Long bookId,
+                        @Param("summaryMonth") String summaryMonth,
+                        @Param("amountType") AmountType amountType);
+
+    /**
+     * 가계부/년월의 카테고리별 집계 조회
+     */
+    List<LedgerMonthlySummary> findByBookIdAndSummaryMonth(Long bookId, String summaryMonth);
+
+    /**
+     * 가계부 기록으로부터 집계를 다시 계산하여 적재 (백필/재구축용)
+     * 이미 있는 집계 행은 다시 계산한 값으로 덮어씁니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_monthly_summary " +
+                   "(book_id, summary_month, amount_type, category_id, total_amount, ledger_count, updated_at) " +
+                   "SELECT l.book_id, DATE_FORMAT(l.date, '%Y-%m'), l.amount_type, COALESCE(l.category_id, 0), " +
+                   "COALESCE(SUM(l.amount), 0), COUNT(*), NOW() " +
+                   "FROM ledger l " +
+                   "WHERE l.book_id = :bookId AND l.date IS NOT NULL AND l.amount_type IS NOT NULL " +
+                   "GROUP BY l.book_id, DATE_FORMAT(l.date, '%Y-%m'), l.amount_type, COALESCE(l.category_id, 0) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_amount = VALUES(total_amount), " +
+                   "ledger_count = VALUES(ledger_count), " +
+                   "updated_at = NOW()",
+           nativeQuery = true)
+    int rebuildFromLedgers(@Param("bookId") Long bookId);
+
+    /**
+     * 재구축할 가계부 행 잠금 (다른 인스턴스가 재구축 중이면 빈 목록, MySQL 8+)
+     * 기록 저장은 외래 키 검사로 가계부 행에 공유 잠금을 잡으므로, 재구축하는 동안 해당 가계부의
+     * 기록 저장과 집계 증분은 재구축이 커밋될 때까지 기다렸다가 재계산된 집계에 더해집니다.
+     */
+    @Query(value = "SELECT book_id FROM book WHERE book_id = :bookId FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockBook(@Param("bookId") Long bookId);
+
+    /**
+     * 가계부별 집계 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM LedgerMonthlySummary s WHERE s.bookId = :bookId")
+    void deleteAllByBookId(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,40 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.LedgerSummaryVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 월별 집계 재구축 버전 Repository
+ */
+public interface LedgerSummaryVersionRepository extends JpaRepository<LedgerSummaryVersion, Long> {
+
+    /**
+     * 기록이 있으면서 집계가 version 보다 낮은 버전으로 만들어진(또는 없는) 가계부 ID 목록
+     */
+    @Query(value = "SELECT b.book_id FROM book b " +
+                   "LEFT JOIN ledger_summary_versions v ON v.book_id = b.book_id " +
+                   "WHERE (v.version IS NULL OR v.version < :version) " +
+                   "AND EXISTS (SELECT 1 FROM ledger l WHERE l.book_id = b.book_id) " +
+                   "ORDER BY b.book_id",
+           nativeQuery = true)
+    List<Long> findBookIdsBelowVersion(@Param("version") int version);
+
+    @Query("SELECT v.version FROM LedgerSummaryVersion v WHERE v.bookId = :bookId")
+    Optional<Integer> findVersion(@Param("bookId") Long bookId);
+
+    /**
+     * 재구축 버전 기록 (없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_summary_versions (book_id, version, rebuilt_at) " +
+                   "VALUES (:bookId, :version, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE version = VALUES(version), rebuilt_at = NOW()",
+           nativeQuery = true)
+    int markVersion(@Param("bookId") Long bookId, @Param("version") int version);
+}
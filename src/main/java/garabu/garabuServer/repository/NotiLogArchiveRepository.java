@@ -0,0 +1,104 @@
+package garabu.garabuServer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 푸시 발송 이력 보관/정리 저장소
+ * 보관 기간이 지난 발송 건을 NOTICE_NO 청크 단위로 보관 테이블(압축, schema/noti_archive.sql)로 옮기고
+ * 운영 테이블에서 삭제합니다. 발송 마스터와 대상자별 결과만 보관하며,
+ * 발송 대상자/웹 발송 목록/처리 로그는 발송이 끝나면 쓰이지 않으므로 보관하지 않고 삭제합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotiLogArchiveRepository {
+
+    private static final String NOTI_SEND_COLUMNS =
+            "notice_no, app_id, notice_title, notice_body, notice_img, notice_url, notice_action, " +
+            "user_id, user_nm, user_mobile, notice_dt, push_use, push_cnt, push_success_cnt, push_fail_cnt, " +
+            "sms_use, sms_cnt, sms_success_cnt, sms_fail_cnt, web_use, total_cnt, reservation_dt, push_state, user_nm_at";
+    private static final String NOTI_SEND_LIST_COLUMNS =
+            "send_list_id, app_id, notice_no, user_id, user_nm, success_yn, fail_msg, send_dt";
+
+    // 자식 테이블부터 삭제
+    private static final List<String> HOT_TABLES = List.of(
+            "noti_send_user", "noti_send_list", "noti_web_send_list", "noti_send_stack", "noti_send");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보관 기간이 지난 발송 건을 잠그며 조회 (다른 인스턴스가 잠근 행은 건너뜀, MySQL 8+)
+     */
+    public List<Long> findExpiredNoticeNos(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT notice_no FROM noti_send WHERE notice_dt < ? " +
+                "ORDER BY notice_dt LIMIT ? FOR UPDATE SKIP LOCKED",
+                Long.class, Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * 발송 마스터와 대상자별 결과를 보관 테이블로 복사 (재시도로 이미 복사된 행은 무시)
+     *
+     * @return 복사된 발송 마스터 수
+     */
+    public int copyToArchive(List<Long> noticeNos) {
+        if (noticeNos.isEmpty()) {
+            return 0;
+        }
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(jdbcTemplate);
+        MapSqlParameterSource params = new MapSqlParameterSource("noticeNos", noticeNos);
+        template.update("INSERT IGNORE INTO noti_send_list_archive (" + NOTI_SEND_LIST_COLUMNS + ") " +
+                        "SELECT " + NOTI_SEND_LIST_COLUMNS + " FROM noti_send_list WHERE notice_no IN (:noticeNos)",
+                params);
+        return template.update("INSERT IGNORE INTO noti_send_archive (" + NOTI_SEND_COLUMNS + ") " +
+                               "SELECT " + NOTI_SEND_COLUMNS + " FROM noti_send WHERE notice_no IN (:noticeNos)",
+                params);
+    }
+
+    /**
+     * 운영 테이블에서 발송 건 삭제
+     *
+     * @return 삭제된 전체 행 수
+     */
+    public int deleteFromHot(List<Long> noticeNos) {
+        return deleteByNoticeNos(HOT_TABLES, noticeNos);
+    }
+
+    /**
+     * 보관 기간이 지난 보관 발송 건 조회
+     */
+    public List<Long> findExpiredArchivedNoticeNos(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT notice_no FROM noti_send_archive WHERE notice_dt < ? ORDER BY notice_dt LIMIT ?",
+                Long.class, Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * 보관 테이블에서 발송 건 삭제
+     *
+     * @return 삭제된 전체 행 수
+     */
+    public int deleteFromArchive(List<Long> noticeNos) {
+        return deleteByNoticeNos(List.of("noti_send_list_archive", "noti_send_archive"), noticeNos);
+    }
+
+    private int deleteByNoticeNos(List<String> tables, List<Long> noticeNos) {
+        if (noticeNos.isEmpty()) {
+            return 0;
+        }
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(jdbcTemplate);
+        MapSqlParameterSource params = new MapSqlParameterSource("noticeNos", noticeNos);
+        int deleted = 0;
+        for (String table : tables) {
+            deleted += template.update("DELETE FROM " + table + " WHERE notice_no IN (:noticeNos)", params);
+        }
+        return deleted;
+    }
+}
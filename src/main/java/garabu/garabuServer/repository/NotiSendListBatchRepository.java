@@ -0,0 +1,34 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.NotiSendList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 결과 일괄 반영
+ * 대상자별 UPDATE 를 JDBC 배치 한 번으로 전송합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotiSendListBatchRepository {
+
+    private static final String UPDATE_RESULT_SQL =
+            "UPDATE noti_send_list SET success_yn = ?, fail_msg = ?, send_dt = ? WHERE send_list_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateResults(List<NotiSendList> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RESULT_SQL, targets, targets.size(), (ps, target) -> {
+            ps.setString(1, target.getSuccessYn());
+            ps.setString(2, target.getFailMsg());
+            ps.setString(3, target.getSendDt());
+            ps.setLong(4, target.getSendListId());
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.NotificationDigest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 새 거래 알림 묶음 Repository
+ */
+public interface NotificationDigestRepository extends JpaRepository<NotificationDigest, Long> {
+
+    /**
+     * 열린 묶음이 있으면 건수를 원자적으로 증가, 없으면 새 묶음 생성 (한 문장으로 처리)
+     * 갱신한 경우에도 {@link #lastInsertId()} 가 그 묶음 ID 를 반환하도록 LAST_INSERT_ID 를 지정합니다.
+     *
+     * @return 영향 받은 행 수 (1 이면 이 요청이 묶음을 열었음, 2 면 열린 묶음에 더했음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_digests " +
+                   "(book_id, recipient_id, pending_count, last_ledger_id, last_actor_id, created_at, updated_at) " +
+                   "VALUES (:bookId, :recipientId, 1, :ledgerId, :actorId, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE digest_id = LAST_INSERT_ID(digest_id), " +
+                   "pending_count = pending_count + 1, last_ledger_id = VALUES(last_ledger_id), " +
+                   "last_actor_id = VALUES(last_actor_id), updated_at = NOW()",
+           nativeQuery = true)
+    int upsert(@Param("bookId") Long bookId,
+               @Param("recipientId") Long recipientId,
+               @Param("ledgerId") Long ledgerId,
+               @Param("actorId") Long actorId);
+
+    /**
+     * 같은 커넥션에서 마지막으로 {@link #upsert} 한 묶음 ID
+     * (스냅샷 조회와 달리 방금 삭제된 이전 묶음과 헷갈리지 않음)
+     */
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long lastInsertId();
+
+    /**
+     * 발송할 묶음을 잠그며 조회 (발송하는 동안 들어온 알림은 잠금 해제 후 새 묶음으로 시작)
+     */
+    @Query(value = "SELECT * FROM notification_digests WHERE digest_id = :id FOR UPDATE", nativeQuery = true)
+    Optional<NotificationDigest> findByIdForUpdate(@Param("id") Long id);
+}
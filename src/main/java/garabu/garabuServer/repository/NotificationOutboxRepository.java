@@ -0,0 +1,55 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.domain.NotificationOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송할 항목을 잠그며 조회 (다른 인스턴스가 잠근 행은 건너뜀, MySQL 8+)
+     */
+    @Query(value = """
+            SELECT * FROM notification_outbox
+             WHERE status = 'PENDING' AND next_attempt_at <= :now
+             ORDER BY outbox_id
+             LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 처리 중 멈춘 항목 중 이번 시도로 최대 횟수에 도달하는 항목을 FAILED 로
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :failed, o.attempts = o.attempts + 1, " +
+           "o.lastError = :error, o.processedAt = :now " +
+           "WHERE o.status = :processing AND o.claimedAt < :before AND o.attempts + 1 >= :maxAttempts")
+    int failStale(@Param("failed") NotificationOutboxStatus failed,
+                  @Param("processing") NotificationOutboxStatus processing,
+                  @Param("before") LocalDateTime before,
+                  @Param("maxAttempts") int maxAttempts,
+                  @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 중 인스턴스가 종료되었거나 트랜잭션이 롤백되어 남은 항목을 시도 횟수를 늘려 다시 대기 상태로
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :pending, o.attempts = o.attempts + 1 " +
+           "WHERE o.status = :processing AND o.claimedAt < :before")
+    int releaseStale(@Param("pending") NotificationOutboxStatus pending,
+                     @Param("processing") NotificationOutboxStatus processing,
+                     @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") NotificationOutboxStatus status,
+                              @Param("before") LocalDateTime before);
+}
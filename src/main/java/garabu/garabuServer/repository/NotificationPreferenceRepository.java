@@ -5,6 +5,8 @@ import garabu.garabuServer.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +17,6 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
     Optional<NotificationPreference> findByMember(Member member);
     
     boolean existsByMemberId(Long memberId);
+    
+    List<NotificationPreference> findByMemberIdIn(Collection<Long> memberIds);
 } 
\ No newline at end of file
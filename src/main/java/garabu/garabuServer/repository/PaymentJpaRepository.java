@@ -1,9 +1,11 @@
 package garabu.garabuServer.repository;
 import garabu.garabuServer.domain.Book;
 import garabu.garabuServer.domain.PaymentMethod;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentJpaRepository  extends JpaRepository<PaymentMethod, Long> {
     PaymentMethod findByPayment(String payment);
@@ -13,6 +15,14 @@ public interface PaymentJpaRepository  extends JpaRepository<PaymentMethod, Long
     
     // 가계부별 결제수단명으로 조회
     PaymentMethod findByBookAndPayment(Book book, String payment);
+
+    // 가계부별 결제수단 조회 (연결 자산 함께 조회)
+    @EntityGraph(attributePaths = "asset")
+    List<PaymentMethod> findWithAssetByBook(Book book);
+
+    // 결제수단 조회 (연결 자산 함께 조회)
+    @EntityGraph(attributePaths = "asset")
+    Optional<PaymentMethod> findWithAssetById(Long id);
     
     // 가계부별 결제수단 삭제
     void deleteByBook(Book book);
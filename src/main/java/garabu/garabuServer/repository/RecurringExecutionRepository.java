@@ -0,0 +1,89 @@
+package garabu.garabuServer.repository;
+
+import garabu.garabuServer.domain.RecurringExecution;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 반복거래 회차 실행 기록 저장소
+ * 회차는 반복거래 청크 단위로 한 번에 조회/저장하므로 multi-row INSERT 로 전송합니다.
+ * (recurring_transaction_id, occurrence_date) 유니크 키가 있어 같은 회차를 중복 저장하면 예외가 발생합니다.
+ *
+ * @see RecurringExecution
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecurringExecutionRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO recurring_executions (recurring_transaction_id, occurrence_date, executed_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 반복거래들의 이미 실행된 회차 조회
+     *
+     * @param from 이 날짜 이후 회차만 조회
+     * @return "반복거래ID:회차" 키 집합
+     */
+    public Set<String> findExecutedKeys(Collection<Long> recurringTransactionIds, LocalDate from) {
+        if (recurringTransactionIds.isEmpty()) {
+            return Set.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", recurringTransactionIds)
+                .addValue("from", Date.valueOf(from));
+        List<String> keys = new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "SELECT recurring_transaction_id, occurrence_date FROM recurring_executions " +
+                "WHERE recurring_transaction_id IN (:ids) AND occurrence_date >= :from",
+                params,
+                (rs, rowNum) -> key(rs.getLong(1), rs.getDate(2).toLocalDate()));
+        return new HashSet<>(keys);
+    }
+
+    /**
+     * 회차 일괄 저장
+     *
+     * @param occurrences 반복거래 ID 별 실행한 회차 목록
+     * @return 저장된 행 수
+     */
+    public int insertAll(Map<Long, List<LocalDate>> occurrences) {
+        int rows = occurrences.values().stream().mapToInt(List::size).sum();
+        if (rows == 0) {
+            return 0;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (Map.Entry<Long, List<LocalDate>> entry : occurrences.entrySet()) {
+                for (LocalDate occurrenceDate : entry.getValue()) {
+                    ps.setLong(index++, entry.getKey());
+                    ps.setDate(index++, Date.valueOf(occurrenceDate));
+                    ps.setTimestamp(index++, now);
+                }
+            }
+        });
+    }
+
+    public static String key(Long recurringTransactionId, LocalDate occurrenceDate) {
+        return recurringTransactionId + ":" + occurrenceDate;
+    }
+}
@@ -2,11 +2,13 @@ package garabu.garabuServer.repository;
 
 import garabu.garabuServer.domain.RecurringTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,10 +34,60 @@ public interface RecurringTransactionRepository extends JpaRepository<RecurringT
     
     Optional<RecurringTransaction> findByIdAndBookId(Long id, Long bookId);
     
-    @Query("SELECT rt FROM RecurringTransaction rt WHERE rt.autoCreate = true " +
-           "AND rt.isActive = true AND rt.nextExecutionDate <= :date")
-    List<RecurringTransaction> findAutoCreateDueTransactions(@Param("date") LocalDate date);
-    
     // 스케줄러를 위한 메서드 추가
     List<RecurringTransaction> findByIsActiveTrueAndNextExecutionDate(LocalDate date);
-} 
\ No newline at end of file
+    
+    /**
+     * 실행일이 된(지난 것 포함) 자동 생성 반복거래를 잠그며 조회 (다른 실행기가 잠갔거나 점유 중인 행은 건너뜀, MySQL 8+)
+     * idx_recurring_due 인덱스 범위 스캔으로 처리
+     */
+    @Query(value = """
+            SELECT * FROM recurring_transactions
+             WHERE is_active = true AND auto_create = true AND next_execution_date <= :date
+               AND (claimed_until IS NULL OR claimed_until < :now)
+             ORDER BY id
+             LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<RecurringTransaction> findClaimable(@Param("date") LocalDate date,
+                                             @Param("now") LocalDateTime now,
+                                             @Param("limit") int limit);
+    
+    /**
+     * 중단된 실행기가 점유한 채 만료된 자동 생성 반복거래를 잠그며 조회 (재개용)
+     */
+    @Query(value = """
+            SELECT * FROM recurring_transactions
+             WHERE is_active = true AND auto_create = true AND next_execution_date <= :date
+               AND claimed_by IS NOT NULL AND claimed_until < :now
+             ORDER BY id
+             LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<RecurringTransaction> findExpiredClaims(@Param("date") LocalDate date,
+                                                 @Param("now") LocalDateTime now,
+                                                 @Param("limit") int limit);
+    
+    /**
+     * 실행기가 점유한 반복거래를 가계부/소유자, 카테고리/결제수단과 함께 조회 (점유가 넘어간 행은 제외)
+     */
+    @Query("SELECT rt FROM RecurringTransaction rt " +
+           "JOIN FETCH rt.book b " +
+           "LEFT JOIN FETCH b.owner " +
+           "LEFT JOIN FETCH rt.category " +
+           "LEFT JOIN FETCH rt.paymentMethod " +
+           "WHERE rt.id IN :ids AND rt.claimedBy = :runnerId " +
+           "ORDER BY rt.id")
+    List<RecurringTransaction> findClaimedWithBook(@Param("ids") List<Long> ids,
+                                                   @Param("runnerId") String runnerId);
+    
+    /**
+     * 실행에 실패한 반복거래의 점유 해제 (retryAfter 이후 다시 실행 대상)
+     */
+    @Modifying
+    @Query("UPDATE RecurringTransaction rt SET rt.claimedBy = null, rt.claimedUntil = :retryAfter " +
+           "WHERE rt.id = :id AND rt.claimedBy = :runnerId")
+    int releaseFailed(@Param("id") Long id,
+                      @Param("runnerId") String runnerId,
+                      @Param("retryAfter") LocalDateTime retryAfter);
+}
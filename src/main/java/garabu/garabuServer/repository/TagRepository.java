@@ -2,10 +2,12 @@ package garabu.garabuServer.repository;
 
 import garabu.garabuServer.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,8 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     
     Optional<Tag> findByBookIdAndName(Long bookId, String name);
     
+    List<Tag> findByBookIdAndNameIn(Long bookId, Collection<String> names);
+    
     List<Tag> findByBookIdOrderByUsageCountDesc(Long bookId);
     
     @Query("SELECT t FROM Tag t WHERE t.book.id = :bookId ORDER BY t.usageCount DESC")
@@ -31,4 +35,45 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     
     @Query("SELECT t FROM Tag t WHERE t.book.id = :bookId AND t.id IN :tagIds")
     List<Tag> findByBookIdAndIdIn(@Param("bookId") Long bookId, @Param("tagIds") List<Long> tagIds);
-} 
\ No newline at end of file
+    
+    /**
+     * 원본 태그의 거래 연결을 대상 태그로 복사 (이미 대상 태그가 있는 거래는 PK 중복으로 건너뜀)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO ledger_tags (ledger_id, tag_id) " +
+                   "SELECT lt.ledger_id, :targetTagId FROM ledger_tags lt WHERE lt.tag_id = :sourceTagId",
+           nativeQuery = true)
+    int copyLedgerTags(@Param("sourceTagId") Long sourceTagId, @Param("targetTagId") Long targetTagId);
+    
+    /**
+     * 가계부에 속한 거래들에 태그를 한 번에 연결 (이미 연결된 거래와 다른 가계부 거래는 제외)
+     *
+     * @return 새로 연결된 거래 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO ledger_tags (ledger_id, tag_id) " +
+                   "SELECT l.ledger_id, :tagId FROM ledger l " +
+                   "WHERE l.book_id = :bookId AND l.ledger_id IN :ledgerIds",
+           nativeQuery = true)
+    int insertLedgerTags(@Param("tagId") Long tagId,
+                         @Param("bookId") Long bookId,
+                         @Param("ledgerIds") Collection<Long> ledgerIds);
+    
+    /**
+     * 태그의 거래 연결 전체 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM ledger_tags WHERE tag_id = :tagId", nativeQuery = true)
+    int deleteLedgerTags(@Param("tagId") Long tagId);
+    
+    /**
+     * 연결된 거래 수로 사용 횟수 재계산
+     * 영속성 컨텍스트의 Tag 는 이전 값을 가지므로 실행 후 비움
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE tags SET usage_count = " +
+                   "(SELECT COUNT(*) FROM ledger_tags lt WHERE lt.tag_id = :tagId), updated_at = NOW() " +
+                   "WHERE id = :tagId",
+           nativeQuery = true)
+    int refreshUsageCount(@Param("tagId") Long tagId);
+}
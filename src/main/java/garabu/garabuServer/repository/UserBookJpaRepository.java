@@ -5,6 +5,8 @@ import garabu.garabuServer.domain.UserBook;
 import garabu.garabuServer.domain.BookRole;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +28,12 @@ public interface UserBookJpaRepository extends JpaRepository<UserBook, Long> {
     Optional<UserBook> findByBookIdAndMemberEmail(Long bookId, String email);
     
     boolean existsByBookIdAndMemberId(Long bookId, Long memberId);
+
+    /**
+     * 가계부 내 회원 역할만 조회 (권한 확인용, 연관 엔티티 로딩 없음)
+     */
+    @Query("SELECT ub.bookRole FROM UserBook ub WHERE ub.book.id = :bookId AND ub.member.id = :memberId")
+    Optional<BookRole> findBookRole(@Param("bookId") Long bookId, @Param("memberId") Long memberId);
     
     boolean existsByBookIdAndMemberEmail(Long bookId, String email);
     
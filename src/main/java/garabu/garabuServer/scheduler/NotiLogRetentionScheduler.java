@@ -0,0 +1,98 @@
+package garabu.garabuServer.scheduler;
+
+import garabu.garabuServer.service.NotiLogRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 푸시 발송 이력 보관 스케줄러
+ *
+ * 매일 새벽 운영 테이블에서 보관 기간(retention-days)이 지난 발송 이력을 압축 보관 테이블로 옮기고,
+ * 보관 테이블에서도 보관 기간(archive-retention-days)이 지난 이력을 삭제합니다.
+ * 청크 사이에 잠시 쉬어 복제 지연과 발송 경로의 잠금 대기를 줄이고, 한 번에 처리하는 청크 수를 제한해
+ * 밀린 이력은 다음 날 이어서 처리합니다. 여러 인스턴스가 동시에 실행되어도 SKIP LOCKED 로 나누어 처리합니다.
+ *
+ * 보관 테이블은 엔티티가 아니라 schema/noti_archive.sql 로 만들므로 보관(archive-enabled)은 기본으로 꺼져 있고,
+ * 꺼져 있으면 보관 기간이 지난 이력을 삭제만 합니다. 스크립트를 적용한 환경에서만 켜야 합니다.
+ */
+@Slf4j
+@Component
+public class NotiLogRetentionScheduler {
+
+    private final NotiLogRetentionService retentionService;
+    private final int retentionDays;
+    private final int archiveRetentionDays;
+    private final boolean archiveEnabled;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final long chunkPauseMs;
+
+    public NotiLogRetentionScheduler(NotiLogRetentionService retentionService,
+                                     @Value("${notification.log.retention-days:30}") int retentionDays,
+                                     @Value("${notification.log.archive-retention-days:365}") int archiveRetentionDays,
+                                     @Value("${notification.log.archive-enabled:false}") boolean archiveEnabled,
+                                     @Value("${notification.log.chunk-size:500}") int chunkSize,
+                                     @Value("${notification.log.max-chunks:200}") int maxChunks,
+                                     @Value("${notification.log.chunk-pause-ms:200}") long chunkPauseMs) {
+        this.retentionService = retentionService;
+        this.retentionDays = retentionDays;
+        this.archiveRetentionDays = archiveRetentionDays;
+        this.archiveEnabled = archiveEnabled;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    // 매일 오전 4시 30분에 실행
+    @Scheduled(cron = "${notification.log.retention-cron:0 30 4 * * *}")
+    public void purgeNotificationLogs() {
+        LocalDateTime now = LocalDateTime.now();
+        int archived = run(() -> retentionService.archiveChunk(now.minusDays(retentionDays), chunkSize, archiveEnabled));
+        int purged = archiveEnabled
+                ? run(() -> retentionService.purgeArchiveChunk(now.minusDays(archiveRetentionDays), chunkSize))
+                : 0;
+        log.info("푸시 발송 이력 정리 완료 - {}: {}건, 보관 삭제: {}건",
+                archiveEnabled ? "보관 이동" : "삭제", archived, purged);
+    }
+
+    /**
+     * 청크가 가득 차지 않을 때까지(최대 maxChunks 번) 반복
+     *
+     * @return 처리한 발송 건 수
+     */
+    int run(IntSupplier chunk) {
+        int total = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            int processed;
+            try {
+                processed = chunk.getAsInt();
+            } catch (Exception e) {
+                log.error("푸시 발송 이력 정리 실패 - 처리: {}건", total, e);
+                break;
+            }
+            total += processed;
+            if (processed < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package garabu.garabuServer.scheduler;
+
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.service.NotificationOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 아웃박스 워커
+ *
+ * 아웃박스 테이블을 주기적으로 폴링하여 대기 중인 알림을 워커 풀에서 발송합니다.
+ * 항목은 SELECT ... FOR UPDATE SKIP LOCKED 로 가져가므로 여러 인스턴스가 동시에 실행되어도
+ * 같은 항목을 중복 처리하지 않습니다. 풀에 여유가 있을 때만 새 항목을 가져갑니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxWorker {
+
+    private final NotificationOutboxService outboxService;
+    private final ThreadPoolExecutor executor;
+    private final int workers;
+    private final int retentionDays;
+
+    public NotificationOutboxWorker(NotificationOutboxService outboxService,
+                                    @Value("${notification.outbox.workers:4}") int workers,
+                                    @Value("${notification.outbox.retention-days:7}") int retentionDays) {
+        this.outboxService = outboxService;
+        this.workers = workers;
+        this.retentionDays = retentionDays;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-outbox-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 대기 중인 알림 가져가기 (기본 1초마다)
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        // 실행 중이거나 대기 중인 작업을 제외한 여유분만 가져감 (워커당 최대 2건)
+        int capacity = workers * 2 - executor.getActiveCount() - executor.getQueue().size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<NotificationOutbox> claimed;
+        try {
+            claimed = outboxService.claim(capacity);
+        } catch (Exception e) {
+            log.error("알림 아웃박스 조회 실패", e);
+            return;
+        }
+
+        for (NotificationOutbox outbox : claimed) {
+            Long outboxId = outbox.getId();
+            executor.execute(() -> {
+                try {
+                    outboxService.process(outboxId);
+                } catch (Exception e) {
+                    recordFailure(outboxId, e);
+                }
+            });
+        }
+    }
+
+    private void recordFailure(Long outboxId, Exception cause) {
+        try {
+            outboxService.recordFailure(outboxId, cause);
+        } catch (Exception e) {
+            // 실패 기록도 못 하면 PROCESSING 으로 남아 housekeeping 에서 재시도
+            log.error("알림 아웃박스 실패 기록 실패 - id: {}", outboxId, e);
+        }
+    }
+
+    /**
+     * 멈춘 항목 복구(5분 이상 PROCESSING) 및 완료 항목 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void housekeeping() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            outboxService.housekeeping(now.minusMinutes(5), now.minusDays(retentionDays));
+        } catch (Exception e) {
+            log.error("알림 아웃박스 정리 실패", e);
+        }
+    }
+}
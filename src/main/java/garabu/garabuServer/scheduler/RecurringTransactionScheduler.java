@@ -1,143 +1,158 @@
 package garabu.garabuServer.scheduler;
 
 import garabu.garabuServer.domain.RecurringTransaction;
-import garabu.garabuServer.domain.AmountType;
-import garabu.garabuServer.domain.Ledger;
-import garabu.garabuServer.domain.Book;
 import garabu.garabuServer.domain.Member;
-import garabu.garabuServer.domain.Category;
-import garabu.garabuServer.domain.PaymentMethod;
 import garabu.garabuServer.repository.RecurringTransactionRepository;
 import garabu.garabuServer.service.NotificationService;
-import garabu.garabuServer.service.LedgerService;
-import garabu.garabuServer.service.BookService;
-import garabu.garabuServer.service.MemberService;
-import garabu.garabuServer.service.CategoryService;
-import garabu.garabuServer.service.PaymentService;
-import lombok.RequiredArgsConstructor;
+import garabu.garabuServer.service.RecurringTransactionExecutionService;
+import garabu.garabuServer.service.RecurringTransactionExecutionService.ExecutedTransaction;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 반복거래 자동 실행 스케줄러
+ *
+ * 실행할 반복거래를 청크 단위로 점유해 가상 스레드 워커들이 병렬로 실행합니다.
+ * 점유는 SELECT ... FOR UPDATE SKIP LOCKED 와 점유 만료 시각으로 처리하므로 모든 인스턴스에서 동시에
+ * 실행되어도 나누어 처리하며, 청크 하나가 실패하면 건별로 다시 실행해 실패한 거래만 분리합니다.
+ * 실행 도중 인스턴스가 종료되면 점유가 만료된 뒤 재개 작업이 남은 거래를 이어서 처리합니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RecurringTransactionScheduler {
 
     private final RecurringTransactionRepository recurringTransactionRepository;
-    private final LedgerService ledgerService;
+    private final RecurringTransactionExecutionService executionService;
     private final NotificationService notificationService;
-    private final BookService bookService;
-    private final MemberService memberService;
-    private final CategoryService categoryService;
-    private final PaymentService paymentService;
+    private final int workers;
+    private final int chunkSize;
+    private final Duration lease;
+
+    // 점유한 실행기 식별자 (인스턴스별)
+    private final String runnerId = UUID.randomUUID().toString();
+
+    public RecurringTransactionScheduler(RecurringTransactionRepository recurringTransactionRepository,
+                                         RecurringTransactionExecutionService executionService,
+                                         NotificationService notificationService,
+                                         @Value("${recurring.executor.workers:4}") int workers,
+                                         @Value("${recurring.executor.chunk-size:50}") int chunkSize,
+                                         @Value("${recurring.executor.lease-minutes:10}") long leaseMinutes) {
+        this.recurringTransactionRepository = recurringTransactionRepository;
+        this.executionService = executionService;
+        this.notificationService = notificationService;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.lease = Duration.ofMinutes(leaseMinutes);
+    }
 
     // 매일 오전 9시에 실행
     @Scheduled(cron = "0 0 9 * * *")
-    @Transactional
     public void executeRecurringTransactions() {
-        log.info("반복거래 자동 실행 시작");
-        
-        LocalDate today = LocalDate.now();
-        List<RecurringTransaction> transactionsToExecute = recurringTransactionRepository
-                .findByIsActiveTrueAndNextExecutionDate(today);
-        
-        log.info("오늘 실행할 반복거래 {}개 발견", transactionsToExecute.size());
-        
-        for (RecurringTransaction transaction : transactionsToExecute) {
+        log.info("반복거래 자동 실행 시작 - runner: {}", runnerId);
+        int executed = run(LocalDate.now(), false);
+        log.info("반복거래 자동 실행 완료 - runner: {}, 실행: {}건", runnerId, executed);
+    }
+
+    /**
+     * 중단된 실행 재개 (점유가 만료된 거래만 처리, 5분마다)
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 60000)
+    public void resumeRecurringTransactions() {
+        int executed = run(LocalDate.now(), true);
+        if (executed > 0) {
+            log.info("중단된 반복거래 실행 재개 - runner: {}, 실행: {}건", runnerId, executed);
+        }
+    }
+
+    /**
+     * 워커 수만큼 가상 스레드를 띄워 점유할 거래가 없을 때까지 청크를 처리
+     *
+     * @return 실행된 거래 수
+     */
+    int run(LocalDate date, boolean resumeOnly) {
+        AtomicInteger executed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> {
+                    List<Long> ids;
+                    while (!(ids = claim(date, resumeOnly)).isEmpty()) {
+                        executed.addAndGet(executeChunk(ids));
+                    }
+                });
+            }
+        }
+        return executed.get();
+    }
+
+    private List<Long> claim(LocalDate date, boolean resumeOnly) {
+        try {
+            return executionService.claim(date, runnerId, chunkSize, lease, resumeOnly);
+        } catch (Exception e) {
+            log.error("반복거래 점유 실패 - runner: {}", runnerId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 청크를 한 트랜잭션으로 실행하고, 실패하면 건별 트랜잭션으로 다시 실행
+     */
+    private int executeChunk(List<Long> ids) {
+        List<ExecutedTransaction> executed;
+        try {
+            executed = executionService.executeChunk(ids, runnerId);
+        } catch (Exception e) {
+            log.warn("반복거래 청크 실행 실패, 건별로 재실행 - ids: {}", ids, e);
+            executed = executeEach(ids);
+        }
+
+        // 커밋된 거래만 알림 발송
+        executed.forEach(this::notifyExecuted);
+        return executed.size();
+    }
+
+    private List<ExecutedTransaction> executeEach(List<Long> ids) {
+        List<ExecutedTransaction> executed = new ArrayList<>();
+        for (Long id : ids) {
             try {
-                executeTransaction(transaction);
+                executed.addAll(executionService.executeChunk(List.of(id), runnerId));
             } catch (Exception e) {
-                log.error("반복거래 실행 실패: transactionId={}, error={}", 
-                    transaction.getId(), e.getMessage());
+                log.error("반복거래 실행 실패: transactionId={}, error={}", id, e.getMessage(), e);
+                releaseFailed(id);
             }
         }
+        return executed;
     }
 
-    private void executeTransaction(RecurringTransaction transaction) {
+    private void releaseFailed(Long id) {
         try {
-            // 필요한 엔티티 조회
-            Book book = transaction.getBook();
-            Member member = book.getOwner(); // 가계부 소유자를 거래 생성자로 사용
-            
-            // 기본 카테고리 조회 (수입 또는 지출)
-            String categoryName = transaction.getAmountType() == AmountType.INCOME ? "급여" : "기타";
-            Category category = categoryService.findByBookAndCategory(book, categoryName);
-            if (category == null) {
-                // 카테고리가 없으면 첫 번째 카테고리 사용
-                category = categoryService.findByBook(book).stream().findFirst()
-                        .orElseThrow(() -> new RuntimeException("가계부에 카테고리가 없습니다"));
-            }
-            
-            // 기본 결제수단 조회
-            PaymentMethod paymentMethod = paymentService.findByBookAndPayment(book, "현금");
-            if (paymentMethod == null) {
-                // 결제수단이 없으면 첫 번째 결제수단 사용
-                paymentMethod = paymentService.findByBook(book).stream().findFirst()
-                        .orElseThrow(() -> new RuntimeException("가계부에 결제수단이 없습니다"));
-            }
-            
-            // Ledger 엔티티 생성
-            Ledger ledger = new Ledger();
-            ledger.setDate(LocalDate.now());
-            ledger.setAmount(transaction.getAmount().longValue());
-            ledger.setDescription(transaction.getName());
-            ledger.setMemo("반복거래 자동 실행");
-            ledger.setAmountType(transaction.getAmountType());
-            ledger.setMember(member);
-            ledger.setBook(book);
-            ledger.setCategory(category);
-            ledger.setPaymentMethod(paymentMethod);
-            ledger.setSpender(member.getName());
-            
-            // 거래 저장
-            Long ledgerId = ledgerService.registLedger(ledger);
-            
-            // 마지막 실행일 업데이트
-            transaction.setLastExecutionDate(LocalDate.now());
-            
-            // 다음 실행일 계산
-            LocalDate nextDate = calculateNextExecutionDate(transaction);
-            transaction.setNextExecutionDate(nextDate);
-            
-            recurringTransactionRepository.save(transaction);
-            
-            // 알림 전송
-            notificationService.sendRecurringTransactionNotification(
-                member.getId(),
-                transaction.getName(),
-                transaction.getAmount().intValue()
-            );
-            
-            log.info("반복거래 실행 완료: transactionId={}, ledgerId={}", 
-                transaction.getId(), ledgerId);
-            
+            // 같은 날 재개 작업이 반복 실행하지 않도록 다음 정기 실행 전까지 점유 대상에서 제외
+            executionService.releaseFailed(id, runnerId, LocalDate.now().plusDays(1).atStartOfDay());
         } catch (Exception e) {
-            log.error("반복거래 실행 중 오류 발생: transactionId={}, error={}", 
-                transaction.getId(), e.getMessage(), e);
-            throw e;
+            // 해제하지 못하면 점유 만료 후 재개 작업에서 다시 시도
+            log.error("반복거래 점유 해제 실패: transactionId={}", id, e);
         }
     }
 
-    private LocalDate calculateNextExecutionDate(RecurringTransaction transaction) {
-        LocalDate baseDate = LocalDate.now();
-        
-        switch (transaction.getRecurrenceType()) {
-            case DAILY:
-                return baseDate.plusDays(1);
-            case WEEKLY:
-                return baseDate.plusWeeks(1);
-            case MONTHLY:
-                return baseDate.plusMonths(1);
-            case YEARLY:
-                return baseDate.plusYears(1);
-            default:
-                throw new IllegalArgumentException("Unknown recurrence type: " + 
-                    transaction.getRecurrenceType());
+    private void notifyExecuted(ExecutedTransaction transaction) {
+        try {
+            notificationService.sendRecurringTransactionNotification(
+                transaction.getMemberId(),
+                transaction.getName(),
+                transaction.getAmount()
+            );
+        } catch (Exception e) {
+            log.error("반복거래 실행 알림 전송 실패: transactionId={}", transaction.getTransactionId(), e);
         }
     }
 
@@ -145,11 +160,11 @@ public class RecurringTransactionScheduler {
     @Scheduled(cron = "0 0 8 * * *")
     public void sendRecurringTransactionReminders() {
         log.info("반복거래 알림 전송 시작");
-        
+
         LocalDate today = LocalDate.now();
         List<RecurringTransaction> transactionsToday = recurringTransactionRepository
                 .findByIsActiveTrueAndNextExecutionDate(today);
-        
+
         for (RecurringTransaction transaction : transactionsToday) {
             try {
                 Member member = transaction.getBook().getOwner();
@@ -159,11 +174,11 @@ public class RecurringTransactionScheduler {
                     transaction.getAmount().intValue()
                 );
             } catch (Exception e) {
-                log.error("반복거래 알림 전송 실패: transactionId={}, error={}", 
+                log.error("반복거래 알림 전송 실패: transactionId={}, error={}",
                     transaction.getId(), e.getMessage());
             }
         }
-        
+
         log.info("반복거래 알림 전송 완료: {}개", transactionsToday.size());
     }
-}
\ No newline at end of file
+}
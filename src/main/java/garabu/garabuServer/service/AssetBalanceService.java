@@ -0,0 +1,130 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.domain.Asset;
+import garabu.garabuServer.domain.AssetType;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.repository.AssetJpaRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 자산 잔액 증감 서비스
+ *
+ * 엔티티를 읽고 더한 뒤 저장하는 방식(read-modify-write)은 같은 자산에 동시에 기록하면
+ * 갱신이 유실됩니다. 여기서는 UPDATE asset SET balance = balance + ? 한 문장으로 증감하여
+ * DB가 원자적으로 반영하고, 잔액 부족 검사도 같은 문장의 조건으로 처리합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AssetBalanceService {
+
+    private final AssetJpaRepository assetJpaRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 가계부 기록 생성에 따른 잔액 반영 (수입 +, 지출 -)
+     */
+    @Transactional
+    public void applyLedger(Ledger ledger) {
+        Asset asset = assetOf(ledger);
+        if (asset != null) {
+            applyDelta(asset, ledgerDelta(ledger));
+        }
+    }
+
+    /**
+     * 가계부 기록 삭제에 따른 잔액 원복 (수입 -, 지출 +)
+     */
+    @Transactional
+    public void revertLedger(Ledger ledger) {
+        Asset asset = assetOf(ledger);
+        if (asset != null) {
+            applyDelta(asset, -ledgerDelta(ledger));
+        }
+    }
+
+    /**
+     * 여러 가계부 기록의 잔액 반영 (일괄 등록용)
+     * 자산별 증감을 먼저 합산하여 자산마다 한 번만 갱신하며, 교착 상태를 피하기 위해 자산 ID 순서로 처리합니다.
+     */
+    @Transactional
+    public void applyLedgers(List<Ledger> ledgers) {
+        Map<Long, Asset> assets = new TreeMap<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Ledger ledger : ledgers) {
+            Asset asset = assetOf(ledger);
+            if (asset == null) {
+                continue;
+            }
+            assets.putIfAbsent(asset.getId(), asset);
+            deltas.merge(asset.getId(), ledgerDelta(ledger), Long::sum);
+        }
+
+        assets.forEach((assetId, asset) -> applyDelta(asset, deltas.get(assetId)));
+    }
+
+    /**
+     * 자산 간 이체
+     * 교착 상태를 피하기 위해 항상 자산 ID 순서로 행을 갱신합니다.
+     */
+    @Transactional
+    public void transfer(Asset fromAsset, Asset toAsset, long amount) {
+        if (fromAsset.getId() < toAsset.getId()) {
+            applyDelta(fromAsset, -amount);
+            applyDelta(toAsset, amount);
+        } else {
+            applyDelta(toAsset, amount);
+            applyDelta(fromAsset, -amount);
+        }
+    }
+
+    /**
+     * 잔액 증감
+     *
+     * @throws IllegalArgumentException 신용카드가 아닌 자산의 잔액이 음수가 되는 경우
+     */
+    @Transactional
+    public void applyDelta(Asset asset, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        int updated = assetJpaRepository.applyBalanceDelta(
+                asset.getId(), delta, AssetType.CREDIT_CARD, LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalArgumentException("잔액이 부족합니다.");
+        }
+
+        // 영속성 컨텍스트의 자산을 DB 값으로 갱신 (응답에 최신 잔액 반영, 오래된 값 덮어쓰기 방지)
+        if (entityManager.contains(asset)) {
+            entityManager.refresh(asset);
+        }
+    }
+
+    private static Asset assetOf(Ledger ledger) {
+        return ledger.getPaymentMethod() != null ? ledger.getPaymentMethod().getAsset() : null;
+    }
+
+    private static long ledgerDelta(Ledger ledger) {
+        if (ledger.getAmountType() == AmountType.INCOME) {
+            return ledger.getAmount();
+        }
+        if (ledger.getAmountType() == AmountType.EXPENSE) {
+            return -ledger.getAmount();
+        }
+        return 0L;
+    }
+}
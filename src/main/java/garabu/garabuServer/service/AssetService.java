@@ -25,11 +25,14 @@ public class AssetService {
 
     private final AssetJpaRepository assetRepository;
     private final BookRepository bookRepository;
+    private final AssetBalanceService assetBalanceService;
 
     @Autowired
-    public AssetService(AssetJpaRepository assetRepository, BookRepository bookRepository) {
+    public AssetService(AssetJpaRepository assetRepository, BookRepository bookRepository,
+                        AssetBalanceService assetBalanceService) {
         this.assetRepository = assetRepository;
         this.bookRepository = bookRepository;
+        this.assetBalanceService = assetBalanceService;
     }
 
     /**
@@ -133,11 +136,14 @@ public class AssetService {
         Asset asset = assetRepository.findById(assetId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 자산입니다."));
 
-        // 잔액 업데이트
-        asset.updateBalance(request.getAmount(), request.getOperation());
+        // 잔액 업데이트 (원자적 증감, 반영 후 최신 잔액으로 갱신됨)
+        if ("ADD".equals(request.getOperation())) {
+            assetBalanceService.applyDelta(asset, request.getAmount());
+        } else if ("SUBTRACT".equals(request.getOperation())) {
+            assetBalanceService.applyDelta(asset, -request.getAmount());
+        }
 
-        Asset updatedAsset = assetRepository.save(asset);
-        return new AssetResponse(updatedAsset);
+        return new AssetResponse(asset);
     }
 
     /**
@@ -0,0 +1,110 @@
+package garabu.garabuServer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import garabu.garabuServer.jwt.JWTConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 블랙리스트 로컬 near-cache
+ *
+ * <p>블랙리스트 JTI와 만료 시각을 노드 메모리에 보관하여
+ * 요청마다 Redis를 조회하지 않고 블랙리스트 여부를 판단합니다.</p>
+ *
+ * <ul>
+ *   <li>블랙리스트 추가는 Redis Pub/Sub({@link JWTConstants#BLACKLIST_CHANNEL})으로 즉시 반영되며,
+ *       로컬에 있는 항목(hit)만 블랙리스트로 확정합니다.</li>
+ *   <li>로컬에 없는 JTI는 Redis 조회 결과를 짧은 시간(기본 2초)만 "정상"으로 기억합니다.
+ *       Pub/Sub 메시지가 유실되어도 폐기된 토큰은 이 시간이 지나면 Redis 조회로 거부됩니다.</li>
+ * </ul>
+ *
+ * 블랙리스트 항목은 BLACKLIST_TTL(15분) 이후 만료되므로 주기적으로 만료 항목만 정리합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class BlacklistNearCache {
+
+    private static final long MAX_CLEAN_ENTRIES = 100_000;
+
+    // jti -> 만료 시각 (epoch millis)
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+
+    // Redis에서 블랙리스트가 아님을 확인한 jti (짧은 TTL)
+    private final Cache<String, Boolean> clean;
+
+    public BlacklistNearCache(@Value("${jwt.blacklist.negative-ttl-ms:2000}") long negativeTtlMs) {
+        this.clean = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(negativeTtlMs))
+                .maximumSize(MAX_CLEAN_ENTRIES)
+                .build();
+    }
+
+    /**
+     * 로컬 블랙리스트 조회
+     *
+     * @param jti JWT ID
+     * @return 로컬에 블랙리스트 항목이 있으면 true, 최근 Redis에서 정상으로 확인했으면 false,
+     *         그 외에는 Redis 조회가 필요하므로 null
+     */
+    public Boolean isBlacklisted(String jti) {
+        Long expiresAt = entries.get(jti);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                return true;
+            }
+            entries.remove(jti, expiresAt);
+        }
+        return clean.getIfPresent(jti) != null ? false : null;
+    }
+
+    /**
+     * Redis에서 블랙리스트가 아님을 확인한 결과를 짧게 기억
+     */
+    public void markClean(String jti) {
+        clean.put(jti, Boolean.TRUE);
+    }
+
+    /**
+     * 로컬 블랙리스트에 추가
+     */
+    public void add(String jti, long expiresAt) {
+        entries.merge(jti, expiresAt, Math::max);
+        clean.invalidate(jti);
+    }
+
+    /**
+     * 로컬 블랙리스트에 일괄 추가
+     */
+    public void addAll(Collection<String> jtis, Long expiresAt) {
+        long expiry = expiresAt != null
+                ? expiresAt
+                : System.currentTimeMillis() + JWTConstants.BLACKLIST_TTL;
+        jtis.forEach(jti -> add(jti, expiry));
+    }
+
+    /**
+     * 만료된 로컬 블랙리스트 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.prune-interval-ms:60000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(expiresAt -> expiresAt <= now);
+        clean.cleanUp();
+        log.debug("블랙리스트 near-cache 정리 완료 - {}건", entries.size());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
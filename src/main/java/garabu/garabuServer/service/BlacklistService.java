@@ -1,17 +1,23 @@
 package garabu.garabuServer.service;
 
+import garabu.garabuServer.event.BlacklistEvent;
 import garabu.garabuServer.jwt.JWTConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 블랙리스트 관리 서비스
  * 
  * 로그아웃, 토큰 로테이션, 보안 이벤트 시 토큰을 무효화
+ * 조회는 로컬 near-cache의 블랙리스트 항목을 먼저 확인하고, 없으면 Redis로 확인
+ * 추가 시 Redis Pub/Sub으로 모든 노드의 near-cache에 전파
  * 
  * @author yhj
  * @version 1.0
@@ -22,6 +28,8 @@ import java.util.concurrent.TimeUnit;
 public class BlacklistService {
     
     private final RedisTemplate<String, Object> redisTemplate;
+    private final BlacklistNearCache blacklistNearCache;
+    private final RefreshTokenService refreshTokenService;
     
     /**
      * 토큰을 블랙리스트에 추가
@@ -38,6 +46,10 @@ public class BlacklistService {
             String value = reason + ":" + System.currentTimeMillis();
             redisTemplate.opsForValue().set(blacklistKey, value, ttlMillis, TimeUnit.MILLISECONDS);
             
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            blacklistNearCache.add(jti, expiresAt);
+            publishInvalidation(List.of(jti), expiresAt);
+            
             log.info("Token added to blacklist - jti: {}, reason: {}", jti, reason);
             
         } catch (Exception e) {
@@ -53,11 +65,23 @@ public class BlacklistService {
      * @return 블랙리스트 포함 여부
      */
     public boolean isBlacklisted(String jti) {
+        // 로컬 near-cache 우선 조회 (로컬에 없으면 Redis로 확인)
+        Boolean cached = blacklistNearCache.isBlacklisted(jti);
+        if (cached != null) {
+            return cached;
+        }
+        
         try {
             String blacklistKey = JWTConstants.BLACKLIST_PREFIX + jti;
-            Boolean exists = redisTemplate.hasKey(blacklistKey);
+            boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey));
             
-            return Boolean.TRUE.equals(exists);
+            if (blacklisted) {
+                // Pub/Sub 메시지가 유실된 경우에도 이후 요청은 로컬에서 거부
+                blacklistNearCache.add(jti, System.currentTimeMillis() + JWTConstants.BLACKLIST_TTL);
+            } else {
+                blacklistNearCache.markClean(jti);
+            }
+            return blacklisted;
             
         } catch (Exception e) {
             log.error("Failed to check blacklist - jti: {}", jti, e);
@@ -73,8 +97,54 @@ public class BlacklistService {
      * @param reason 블랙리스트 사유
      */
     public void blacklistAllUserTokens(String username, String reason) {
-        // RefreshTokenService와 연계하여 구현
-        // 사용자의 모든 활성 토큰 JTI를 조회하여 블랙리스트에 추가
-        log.info("All tokens blacklisted for user: {}, reason: {}", username, reason);
+        List<String> jtis = refreshTokenService.getUserTokenJtis(username);
+        if (jtis.isEmpty()) {
+            log.info("No active tokens to blacklist for user: {}", username);
+            return;
+        }
+        
+        try {
+            String value = reason + ":" + System.currentTimeMillis();
+            long ttlMillis = JWTConstants.BLACKLIST_TTL;
+            
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (String jti : jtis) {
+                        operations.opsForValue().set(JWTConstants.BLACKLIST_PREFIX + jti, value,
+                                ttlMillis, TimeUnit.MILLISECONDS);
+                    }
+                    return null;
+                }
+            });
+            
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            blacklistNearCache.addAll(jtis, expiresAt);
+            publishInvalidation(jtis, expiresAt);
+            
+            log.info("All tokens blacklisted for user: {}, count: {}, reason: {}", username, jtis.size(), reason);
+            
+        } catch (Exception e) {
+            log.error("Failed to blacklist all tokens for user: {}", username, e);
+            throw new RuntimeException("Failed to blacklist user tokens", e);
+        }
+    }
+    
+    /**
+     * 다른 노드의 near-cache에 블랙리스트 추가를 전파
+     * 발행 실패 시에도 Redis에는 저장되어 있으므로 다른 노드는 near-cache의 정상 확인 TTL이 지나면 반영됨
+     */
+    private void publishInvalidation(List<String> jtis, long expiresAt) {
+        try {
+            BlacklistEvent event = BlacklistEvent.builder()
+                    .jtis(jtis)
+                    .expiresAt(expiresAt)
+                    .timestamp(System.currentTimeMillis())
+                    .build();
+            redisTemplate.convertAndSend(JWTConstants.BLACKLIST_CHANNEL, event);
+        } catch (Exception e) {
+            log.warn("Failed to publish blacklist invalidation - count: {}", jtis.size(), e);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,131 @@
+package garabu.garabuServer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import garabu.garabuServer.config.CacheInvalidator;
+import garabu.garabuServer.domain.BookRole;
+import garabu.garabuServer.event.BookAccessEvent;
+import garabu.garabuServer.repository.UserBookJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 가계부 권한(역할) 캐시
+ *
+ * <p>한 요청에서 컨트롤러와 여러 서비스가 같은 (가계부, 회원) 권한을 반복 조회하므로
+ * 역할을 (memberId, bookId) 키로 캐시합니다.</p>
+ *
+ * <ul>
+ *   <li>요청 단위: 같은 요청 안에서는 항상 한 번만 조회 (권한 없음 결과 포함)</li>
+ *   <li>노드 단위: 권한이 있는 경우만 짧은 TTL(기본 5초)로 요청 간 공유, 0이면 사용 안 함
+ *       (Caffeine, 최대 크기를 넘으면 자주 쓰이지 않는 항목부터 제거)</li>
+ *   <li>멤버 제거/역할 변경/탈퇴 시 커밋 후 Redis Pub/Sub({@link #CHANNEL})으로 모든 노드에서 제거</li>
+ * </ul>
+ *
+ * 권한 없음은 요청 간에 캐시하지 않으므로 초대/참여 직후에도 바로 접근할 수 있습니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Component
+public class BookAccessCache {
+
+    public static final String CHANNEL = "book-access-events";
+
+    private final UserBookJpaRepository userBookJpaRepository;
+    private final CacheInvalidator invalidator;
+    private final long ttlMs;
+
+    private final Cache<String, BookRole> entries;
+
+    public BookAccessCache(UserBookJpaRepository userBookJpaRepository,
+                           RedisTemplate<String, Object> redisTemplate,
+                           @Value("${book.access.cache-ttl-ms:5000}") long ttlMs,
+                           @Value("${book.access.cache-max-size:10000}") int maxSize) {
+        this.userBookJpaRepository = userBookJpaRepository;
+        this.invalidator = new CacheInvalidator(redisTemplate, CHANNEL);
+        this.ttlMs = ttlMs;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(Math.max(ttlMs, 0)))
+                .build();
+    }
+
+    /**
+     * 가계부 내 회원 역할 조회
+     *
+     * @return 역할, 가계부 멤버가 아니면 empty
+     */
+    public Optional<BookRole> findRole(Long bookId, Long memberId) {
+        String key = key(bookId, memberId);
+        return RequestScopedCache.get(requestKey(key), () -> Optional.ofNullable(loadRole(key, bookId, memberId)));
+    }
+
+    /**
+     * 권한 변경 반영 (멤버 제거/역할 변경/탈퇴)
+     * 지금 로컬 캐시에서 제거하고, 트랜잭션 커밋 후 다시 제거한 뒤 다른 노드에 전파합니다.
+     */
+    public void invalidate(Long bookId, Long memberId) {
+        invalidator.invalidate(() -> remove(bookId, memberId), () -> BookAccessEvent.builder()
+                .bookId(bookId)
+                .memberId(memberId)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * 로컬 캐시에서 제거 (Pub/Sub 수신 시)
+     */
+    public void evict(Long bookId, Long memberId) {
+        invalidator.evict(() -> remove(bookId, memberId));
+    }
+
+    /**
+     * 만료 항목 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void cleanup() {
+        entries.cleanUp();
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private BookRole loadRole(String key, Long bookId, Long memberId) {
+        if (ttlMs > 0) {
+            BookRole cached = entries.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long generation = invalidator.generation();
+        BookRole role = userBookJpaRepository.findBookRole(bookId, memberId).orElse(null);
+
+        // 조회 중 제거가 있었으면 조회 결과를 캐시하지 않음
+        if (role != null && ttlMs > 0 && invalidator.unchangedSince(generation)) {
+            entries.put(key, role);
+        }
+        return role;
+    }
+
+    private void remove(Long bookId, Long memberId) {
+        String key = key(bookId, memberId);
+        entries.invalidate(key);
+        RequestScopedCache.evict(requestKey(key));
+    }
+
+    private static String key(Long bookId, Long memberId) {
+        return memberId + ":" + bookId;
+    }
+
+    private static String requestKey(String key) {
+        return "bookRole:" + key;
+    }
+}
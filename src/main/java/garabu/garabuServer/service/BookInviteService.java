@@ -130,8 +130,8 @@ public class BookInviteService {
         userBook.setBookRole(request.getRequestedRole());
         userBookRepository.save(userBook);
         
-        // 캐시 무효화 - 가계부 목록 캐시 초기화
-        bookService.clearUserBooksCache();
+        // 캐시 무효화 - 참여한 멤버의 가계부 목록 캐시만 제거
+        bookService.evictUserBooksCache(List.of(request.getMember().getUsername()));
         
         // 요청 상태 업데이트
         request.setStatus(RequestStatus.ACCEPTED);
@@ -21,6 +21,8 @@ import garabu.garabuServer.repository.LedgerJpaRepository;
 import garabu.garabuServer.repository.AssetJpaRepository;
 import garabu.garabuServer.repository.BudgetJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.Authentication;
@@ -29,6 +31,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -44,6 +47,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookService {
 
+    /** 가계부 목록 캐시 키 접두사 ({@link #findLoggedInUserBooks()} 메서드명 + '_' + username) */
+    private static final String USER_BOOKS_KEY_PREFIX = "findLoggedInUserBooks_";
+
     private final BookRepository bookRepository;
     private final MemberJPARepository memberRepository;
     private final UserBookJpaRepository userBookJpaRepository;
@@ -53,6 +59,8 @@ public class BookService {
     private final LedgerJpaRepository ledgerJpaRepository;
     private final AssetJpaRepository assetJpaRepository;
     private final BudgetJpaRepository budgetJpaRepository;
+    private final LedgerSummaryService ledgerSummaryService;
+    private final CacheManager cacheManager;
 
     /**
      * 새로운 가계부를 생성합니다.
@@ -144,7 +152,23 @@ public class BookService {
         // 캐시 초기화용 메서드
     }
 
-    @Cacheable(value = "userBooks", key = "#root.methodName + '_' + @bookService.getCurrentUserCacheKey()", unless = "#result == null or #result.isEmpty()")
+    /**
+     * 지정한 사용자들의 가계부 목록 캐시만 제거합니다.
+     * 가계부 참여/탈퇴/역할 변경은 해당 멤버의 목록에만 영향을 주므로 전체를 비우지 않습니다.
+     * 
+     * @param usernames 캐시를 제거할 사용자명 목록
+     */
+    public void evictUserBooksCache(Collection<String> usernames) {
+        Cache cache = cacheManager.getCache("userBooks");
+        if (cache == null) {
+            return;
+        }
+        for (String username : usernames) {
+            cache.evict(USER_BOOKS_KEY_PREFIX + username);
+        }
+    }
+
+    @Cacheable(value = "userBooks", key = "#root.methodName + '_' + @bookService.getCurrentUserCacheKey()", sync = true)
     @Transactional(readOnly = true)
     public List<BookDTO> findLoggedInUserBooks() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -226,7 +250,6 @@ public class BookService {
      * @throws BookNotFoundException 가계부를 찾을 수 없는 경우
      */
     @Transactional
-    @CacheEvict(value = "userBooks", allEntries = true)
     public void deleteBook(Long bookId, Member currentUser) {
         // 가계부 조회
         Book book = findById(bookId);
@@ -254,6 +277,7 @@ public class BookService {
         // 1. 가계부 내역 삭제 (이미 구현된 메서드 사용)
         ledgerJpaRepository.deleteAllByBook(book);
         System.out.println("가계부 내역 삭제 완료");
+        ledgerSummaryService.deleteByBook(bookId);
         
         // 2. 관련 데이터 삭제
         try {
@@ -290,6 +314,9 @@ public class BookService {
         
         // 3. UserBook 관계 삭제 (가계부에 참여한 모든 멤버)
         List<UserBook> userBooks = userBookJpaRepository.findByBookId(bookId);
+        List<String> memberUsernames = userBooks.stream()
+                .map(ub -> ub.getMember().getUsername())
+                .toList();
         userBookJpaRepository.deleteAll(userBooks);
         System.out.println("UserBook 관계 삭제 완료");
         
@@ -297,6 +324,9 @@ public class BookService {
         bookRepository.delete(book);
         System.out.println("가계부 삭제 완료");
         
+        // 5. 참여했던 멤버들의 가계부 목록 캐시만 제거
+        evictUserBooksCache(memberUsernames);
+        
         System.out.println("=== 가계부 삭제 완료 ===");
     }
     
@@ -3,18 +3,14 @@ package garabu.garabuServer.service;
 import garabu.garabuServer.domain.AmountType;
 import garabu.garabuServer.domain.Book;
 import garabu.garabuServer.domain.Budget;
-import garabu.garabuServer.domain.Ledger;
 import garabu.garabuServer.dto.BudgetRequest;
 import garabu.garabuServer.dto.BudgetResponse;
 import garabu.garabuServer.dto.BudgetSummaryResponse;
 import garabu.garabuServer.repository.BudgetJpaRepository;
-import garabu.garabuServer.repository.LedgerJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,7 +21,7 @@ import java.util.stream.Collectors;
 public class BudgetService {
 
     private final BudgetJpaRepository budgetJpaRepository;
-    private final LedgerJpaRepository ledgerJpaRepository;
+    private final LedgerSummaryService ledgerSummaryService;
     private final BookService bookService;
 
     /**
@@ -182,23 +178,9 @@ public class BudgetService {
 
     /**
      * 해당 월의 실제 수입/지출 계산
+     * 월별 집계 테이블에서 조회하므로 가계부 기록 수와 무관하게 일정한 비용으로 처리
      */
     private long calculateActualAmount(Book book, String budgetMonth, AmountType amountType) {
-        // budgetMonth를 파싱하여 시작일과 종료일 계산
-        String[] parts = budgetMonth.split("-");
-        int year = Integer.parseInt(parts[0]);
-        int month = Integer.parseInt(parts[1]);
-        
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
-
-        // 해당 기간의 수입/지출 합계 계산
-        List<Ledger> ledgers = ledgerJpaRepository.findByBook(book);
-        
-        return ledgers.stream()
-                .filter(ledger -> ledger.getAmountType() == amountType)
-                .filter(ledger -> !ledger.getDate().isBefore(startDate) && !ledger.getDate().isAfter(endDate))
-                .mapToLong(Ledger::getAmount)
-                .sum();
+        return ledgerSummaryService.getMonthlyTotal(book.getId(), budgetMonth, amountType);
     }
 } 
\ No newline at end of file
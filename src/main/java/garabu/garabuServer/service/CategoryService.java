@@ -5,15 +5,14 @@ import garabu.garabuServer.domain.BookRole;
 import garabu.garabuServer.domain.Category;
 import garabu.garabuServer.domain.DefaultCategory;
 import garabu.garabuServer.domain.Member;
-import garabu.garabuServer.domain.UserBook;
 import garabu.garabuServer.dto.CategoryDto;
 import garabu.garabuServer.exception.BookAccessException;
 import garabu.garabuServer.exception.InsufficientPermissionException;
 import garabu.garabuServer.repository.CategoryJpaRepository;
-import garabu.garabuServer.repository.UserBookJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +28,18 @@ public class CategoryService {
 
     private final CategoryJpaRepository categoryJpaRepository;
     private final MemberService memberService;
-    private final UserBookJpaRepository userBookJpaRepository;
+    private final BookAccessCache bookAccessCache;
 
-    @CacheEvict(value = {"categoriesAllDto", "categoriesByBookDto", "combinedCategoriesDto", "userCategoriesDto"}, allEntries = true)
+    // 전체 목록은 키가 하나뿐이므로 allEntries, 가계부별 캐시는 해당 가계부 키만 제거
+    @Caching(evict = {
+            @CacheEvict(value = "categoriesAllDto", allEntries = true),
+            @CacheEvict(value = "categoriesByBookDto", key = "'book_' + #category.book.id", condition = "#category.book != null"),
+            @CacheEvict(value = "combinedCategoriesDto", key = "'combined_' + #category.book.id", condition = "#category.book != null"),
+            @CacheEvict(value = "userCategoriesDto", key = "'user_' + #category.book.id", condition = "#category.book != null"),
+            // 기본 카테고리는 모든 가계부의 통합 목록에 포함
+            @CacheEvict(value = {"defaultCategoriesDto", "combinedCategoriesDto"}, allEntries = true,
+                    condition = "#category.book == null and #category.isDefault == true")
+    })
     public Long rigistCategory(Category category){
         // 중복 검사는 Controller에서 처리
         categoryJpaRepository.save(category);
@@ -45,7 +53,7 @@ public class CategoryService {
     }
     
     // DTO 기반 캐싱 - 모든 카테고리 조회
-    @Cacheable(value = "categoriesAllDto", unless = "#result == null or #result.isEmpty()")
+    @Cacheable(value = "categoriesAllDto", sync = true)
     public List<CategoryDto> findAllCategoriesDto() {
         List<Category> entities = categoryJpaRepository.findAll();
         return entities.stream()
@@ -71,7 +79,7 @@ public class CategoryService {
     }
     
     // DTO 기반 캐싱 - 가계부별 카테고리 조회
-    @Cacheable(value = "categoriesByBookDto", key = "'book_' + #book.id", unless = "#result == null or #result.isEmpty()")
+    @Cacheable(value = "categoriesByBookDto", key = "'book_' + #book.id", sync = true)
     public List<CategoryDto> findByBookDto(Book book) {
         List<Category> entities = categoryJpaRepository.findByBook(book);
         return entities.stream()
@@ -86,7 +94,12 @@ public class CategoryService {
     }
 
     // 가계부별 카테고리 생성
-    @CacheEvict(value = {"categoriesByBookDto", "combinedCategoriesDto", "userCategoriesDto"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "categoriesAllDto", allEntries = true),
+            @CacheEvict(value = "categoriesByBookDto", key = "'book_' + #book.id"),
+            @CacheEvict(value = "combinedCategoriesDto", key = "'combined_' + #book.id"),
+            @CacheEvict(value = "userCategoriesDto", key = "'user_' + #book.id")
+    })
     public Long createCategoryForBook(Book book, String categoryName) {
         Member currentMember = memberService.getCurrentMember();
         Category category = new Category();
@@ -106,7 +119,7 @@ public class CategoryService {
     }
     
     // DTO 기반 캐싱 - 기본 카테고리 조회
-    @Cacheable(value = "defaultCategoriesDto", unless = "#result == null or #result.isEmpty()")
+    @Cacheable(value = "defaultCategoriesDto", sync = true)
     public List<CategoryDto> findDefaultCategoriesDto() {
         List<Category> entities = categoryJpaRepository.findByIsDefaultTrue();
         return entities.stream()
@@ -122,7 +135,7 @@ public class CategoryService {
     }
     
     // DTO 기반 캐싱 - 기본 + 가계부별 카테고리 조회
-    @Cacheable(value = "combinedCategoriesDto", key = "'combined_' + #book.id", unless = "#result == null or #result.isEmpty()")
+    @Cacheable(value = "combinedCategoriesDto", key = "'combined_' + #book.id", sync = true)
     public List<CategoryDto> findCombinedCategoriesDto(Book book) {
         List<Category> entities = categoryJpaRepository.findDefaultAndBookCategories(book);
         return entities.stream()
@@ -161,7 +174,7 @@ public class CategoryService {
     }
     
     // DTO 기반 캐싱 - 가계부별 사용자 정의 카테고리 조회
-    @Cacheable(value = "userCategoriesDto", key = "'user_' + #book.id", unless = "#result == null or #result.isEmpty()")
+    @Cacheable(value = "userCategoriesDto", key = "'user_' + #book.id", sync = true)
     public List<CategoryDto> findUserCategoriesByBookDto(Book book) {
         List<Category> entities = categoryJpaRepository.findByBookAndIsDefaultFalse(book);
         return entities.stream()
@@ -179,9 +192,9 @@ public class CategoryService {
         }
         
         Member currentMember = memberService.getCurrentMember();
-        Optional<UserBook> userBook = userBookJpaRepository.findByBookIdAndMemberId(book.getId(), currentMember.getId());
+        Optional<BookRole> role = bookAccessCache.findRole(book.getId(), currentMember.getId());
         
-        if (userBook.isEmpty()) {
+        if (role.isEmpty()) {
             throw new BookAccessException("해당 가계부에 대한 접근 권한이 없습니다. 가계부 ID: " + book.getId());
         }
     }
@@ -196,14 +209,8 @@ public class CategoryService {
         }
         
         Member currentMember = memberService.getCurrentMember();
-        Optional<UserBook> userBookOpt = userBookJpaRepository.findByBookIdAndMemberId(book.getId(), currentMember.getId());
-        
-        if (userBookOpt.isEmpty()) {
-            throw new BookAccessException("해당 가계부에 대한 접근 권한이 없습니다. 가계부 ID: " + book.getId());
-        }
-        
-        UserBook userBook = userBookOpt.get();
-        BookRole role = userBook.getBookRole();
+        BookRole role = bookAccessCache.findRole(book.getId(), currentMember.getId())
+                .orElseThrow(() -> new BookAccessException("해당 가계부에 대한 접근 권한이 없습니다. 가계부 ID: " + book.getId()));
         
         if (role == BookRole.VIEWER) {
             throw new InsufficientPermissionException(
@@ -217,8 +224,7 @@ public class CategoryService {
      * 사용자의 가계부 역할 조회
      */
     public BookRole getUserBookRole(Book book, Member member) {
-        Optional<UserBook> userBook = userBookJpaRepository.findByBookIdAndMemberId(book.getId(), member.getId());
-        return userBook.map(UserBook::getBookRole).orElse(null);
+        return bookAccessCache.findRole(book.getId(), member.getId()).orElse(null);
     }
     
     /**
@@ -27,7 +27,7 @@ public class CurrencyService {
     private final CurrencyRepository currencyRepository;
     private final ExchangeRateRepository exchangeRateRepository;
     private final BookRepository bookRepository;
-    private final UserBookJpaRepository userBookRepository;
+    private final BookAccessCache bookAccessCache;
     private final MemberService memberService;
     private final RestTemplate restTemplate = new RestTemplate();
     
@@ -187,7 +187,7 @@ public class CurrencyService {
     }
     
     private void checkBookAccess(Book book, Member member) {
-        boolean hasAccess = userBookRepository.findByBookIdAndMemberId(book.getId(), member.getId())
+        boolean hasAccess = bookAccessCache.findRole(book.getId(), member.getId())
                 .isPresent();
         
         if (!hasAccess) {
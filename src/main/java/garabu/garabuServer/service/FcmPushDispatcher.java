@@ -0,0 +1,279 @@
+package garabu.garabuServer.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import garabu.garabuServer.domain.NotiSend;
+import garabu.garabuServer.domain.NotiSendList;
+import garabu.garabuServer.repository.NotiSendListBatchRepository;
+import garabu.garabuServer.repository.NotiSendListRepository;
+import garabu.garabuServer.repository.NotiSendRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FCM 발송 파이프라인
+ *
+ * <p>발송 마스터/대상자 등록이 끝난 공지를 요청 스레드 밖에서 발송합니다.</p>
+ * <ol>
+ *   <li>대상자 전체의 FCM 토큰을 토큰 캐시에서 조회 (캐시에 없는 사용자만 쿼리 한 번, 사용자별 최신 토큰)</li>
+ *   <li>최대 500건씩 묶어 FirebaseMessaging.sendEach 로 발송</li>
+ *   <li>대상자별 결과를 NOTI_SEND_LIST 에 JDBC 배치 UPDATE 한 번으로 반영</li>
+ *   <li>UNREGISTERED/INVALID_ARGUMENT 로 실패한 토큰은 사용 안 함으로 표시해 이후 발송에서 제외</li>
+ * </ol>
+ *
+ * 동시에 처리하는 공지 수는 fcm.dispatch.concurrency 로 제한되며,
+ * 대기열(fcm.dispatch.queue-capacity)이 가득 차면 발송을 버리지 않고 호출 스레드에서 직접 발송하여
+ * 요청 속도를 발송 속도에 맞춥니다 (backpressure).
+ */
+@Slf4j
+@Component
+public class FcmPushDispatcher {
+
+    // FCM sendEach 요청당 최대 메시지 수
+    static final int FCM_BATCH_SIZE = 500;
+
+    private final FcmService fcmService;
+    private final FcmTokenCache fcmTokenCache;
+    private final FcmTokenService fcmTokenService;
+    private final NotiSendRepository notiSendRepository;
+    private final NotiSendListRepository notiSendListRepository;
+    private final NotiSendListBatchRepository notiSendListBatchRepository;
+    private final ThreadPoolExecutor executor;
+
+    public FcmPushDispatcher(FcmService fcmService,
+                             FcmTokenCache fcmTokenCache,
+                             FcmTokenService fcmTokenService,
+                             NotiSendRepository notiSendRepository,
+                             NotiSendListRepository notiSendListRepository,
+                             NotiSendListBatchRepository notiSendListBatchRepository,
+                             @Value("${fcm.dispatch.concurrency:4}") int concurrency,
+                             @Value("${fcm.dispatch.queue-capacity:1000}") int queueCapacity) {
+        this.fcmService = fcmService;
+        this.fcmTokenCache = fcmTokenCache;
+        this.fcmTokenService = fcmTokenService;
+        this.notiSendRepository = notiSendRepository;
+        this.notiSendListRepository = notiSendListRepository;
+        this.notiSendListBatchRepository = notiSendListBatchRepository;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fcm-dispatch-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                FcmPushDispatcher::runOnCaller);
+    }
+
+    /**
+     * 대기열이 가득 차면 호출 스레드에서 직접 발송 (종료 중이면 WAIT 상태로 남김)
+     */
+    private static void runOnCaller(Runnable task, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            log.error("FCM 발송 실행기 종료 중 - 발송 건은 WAIT 상태 유지");
+            return;
+        }
+        log.warn("FCM 발송 대기열 초과 - 호출 스레드에서 직접 발송 (대기: {}건)", pool.getQueue().size());
+        task.run();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 발송 작업 예약
+     * 트랜잭션 안에서 호출되면 커밋 이후에 예약하여 워커가 대상자 행을 읽을 수 있게 함
+     */
+    public void dispatch(PushJob job) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(job);
+                }
+            });
+        } else {
+            submit(job);
+        }
+    }
+
+    private void submit(PushJob job) {
+        executor.execute(() -> {
+            try {
+                send(job);
+            } catch (Exception e) {
+                log.error("FCM 발송 처리 중 오류 - NoticeNo: {}", job.getNoticeNo(), e);
+            }
+        });
+    }
+
+    /**
+     * 공지 한 건 발송 (워커 스레드)
+     */
+    void send(PushJob job) {
+        log.info("=== FCM 발송 시작 - NoticeNo: {}, Title: {} ===", job.getNoticeNo(), job.getTitle());
+
+        List<NotiSendList> targets = notiSendListRepository.findByAppIdAndNoticeNo(job.getAppId(), job.getNoticeNo());
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> tokens = resolveTokens(job.getAppId(), targets);
+        String sendDt = String.valueOf(LocalDateTime.now());
+
+        List<NotiSendList> sendable = new ArrayList<>();
+        for (NotiSendList target : targets) {
+            if (tokens.containsKey(target.getUserId())) {
+                sendable.add(target);
+            } else {
+                target.setSuccessYn("N");
+                target.setFailMsg("FCM 토큰 없음");
+            }
+        }
+
+        Map<String, String> deadTokens = new HashMap<>();
+        for (int from = 0; from < sendable.size(); from += FCM_BATCH_SIZE) {
+            List<NotiSendList> batch = sendable.subList(from, Math.min(from + FCM_BATCH_SIZE, sendable.size()));
+            sendBatch(job, batch, tokens, sendDt, deadTokens);
+        }
+        markDead(job.getAppId(), deadTokens);
+
+        notiSendListBatchRepository.updateResults(targets);
+        updateStatistics(job, targets);
+    }
+
+    /**
+     * 대상자 전체의 토큰 조회 (userId -> 최신 토큰)
+     */
+    private Map<String, String> resolveTokens(String appId, List<NotiSendList> targets) {
+        List<String> userIds = targets.stream().map(NotiSendList::getUserId).distinct().toList();
+        return fcmTokenCache.findTokens(appId, userIds);
+    }
+
+    private void sendBatch(PushJob job, List<NotiSendList> batch, Map<String, String> tokens, String sendDt,
+                           Map<String, String> deadTokens) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (NotiSendList target : batch) {
+            Map<String, String> data = new HashMap<>();
+            data.put("type", "notification");
+            data.put("action", job.getAction() != null ? job.getAction() : "");
+            data.put("sendId", String.valueOf(job.getNoticeNo()));
+            data.put("userId", target.getUserId());
+            data.put("timestamp", String.valueOf(System.currentTimeMillis()));
+            messages.add(fcmService.buildMessage(tokens.get(target.getUserId()), job.getTitle(), job.getBody(), data));
+        }
+
+        try {
+            BatchResponse response = fcmService.sendEach(messages);
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+                NotiSendList target = batch.get(i);
+                SendResponse result = responses.get(i);
+                if (result.isSuccessful()) {
+                    target.setSuccessYn("Y");
+                    target.setFailMsg(null);
+                    target.setSendDt(sendDt);
+                } else {
+                    target.setSuccessYn("N");
+                    target.setFailMsg(failMessage(result.getException()));
+                    if (isDeadToken(result.getException(), response.getSuccessCount() > 0)) {
+                        deadTokens.put(target.getUserId(), tokens.get(target.getUserId()));
+                    }
+                }
+            }
+            log.info("FCM 배치 발송 - NoticeNo: {}, 성공: {}, 실패: {}",
+                    job.getNoticeNo(), response.getSuccessCount(), response.getFailureCount());
+        } catch (FirebaseMessagingException | RuntimeException e) {
+            log.error("FCM 배치 발송 실패 - NoticeNo: {}, 건수: {}", job.getNoticeNo(), batch.size(), e);
+            batch.forEach(target -> {
+                target.setSuccessYn("N");
+                target.setFailMsg(e.getMessage());
+            });
+        }
+    }
+
+    /**
+     * 만료/무효 토큰 정리 (실패해도 발송 결과 반영은 계속)
+     */
+    private void markDead(String appId, Map<String, String> deadTokens) {
+        if (deadTokens.isEmpty()) {
+            return;
+        }
+        try {
+            fcmTokenService.markTokensDead(appId, deadTokens);
+        } catch (Exception e) {
+            log.error("만료 FCM 토큰 정리 실패 - appId: {}, 건수: {}", appId, deadTokens.size(), e);
+        }
+    }
+
+    private void updateStatistics(PushJob job, List<NotiSendList> targets) {
+        int successCnt = (int) targets.stream().filter(t -> "Y".equalsIgnoreCase(t.getSuccessYn())).count();
+        int failCnt = targets.size() - successCnt;
+
+        NotiSend pushSend = notiSendRepository.findById(job.getNoticeNo()).orElse(null);
+        if (pushSend != null) {
+            pushSend.setPushSuccessCnt(successCnt);
+            pushSend.setPushFailCnt(failCnt);
+            notiSendRepository.save(pushSend);
+        }
+
+        log.info("=== FCM 발송 완료 - NoticeNo: {}, 성공: {}, 실패: {} ===", job.getNoticeNo(), successCnt, failCnt);
+    }
+
+    /**
+     * 다시 보내도 실패할 토큰인지 판단
+     * UNREGISTERED 는 앱 삭제/토큰 만료이므로 항상 해당하고, INVALID_ARGUMENT 는 메시지 내용 오류일 수도 있어
+     * 같은 내용의 다른 메시지가 성공한 배치에서만 토큰 오류로 판단합니다.
+     */
+    static boolean isDeadToken(FirebaseMessagingException e, boolean payloadAccepted) {
+        if (e == null || e.getMessagingErrorCode() == null) {
+            return false;
+        }
+        return e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED
+                || (e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT && payloadAccepted);
+    }
+
+    private static String failMessage(FirebaseMessagingException e) {
+        if (e == null) {
+            return "FCM 발송 실패";
+        }
+        return e.getMessagingErrorCode() != null
+                ? e.getMessagingErrorCode().name() + ": " + e.getMessage()
+                : e.getMessage();
+    }
+
+    /**
+     * 발송 작업 (공지 단위)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PushJob {
+        private final String appId;
+        private final Long noticeNo;
+        private final String title;
+        private final String body;
+        private final String action;
+    }
+}
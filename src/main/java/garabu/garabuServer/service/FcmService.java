@@ -1,5 +1,6 @@
 package garabu.garabuServer.service;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
@@ -7,6 +8,8 @@ import com.google.firebase.messaging.Notification;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class FcmService {
@@ -25,20 +28,7 @@ public class FcmService {
             log.debug("FCM 발송 시작 - Token: {}, Title: {}, Body: {}", 
                 targetToken.substring(0, Math.min(targetToken.length(), 20)) + "...", title, body);
             
-            Message.Builder messageBuilder = Message.builder()
-                    .setToken(targetToken)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build());
-            
-            // data 필드 추가 (앱에서 추가 정보를 받을 수 있도록)
-            if (data != null && !data.isEmpty()) {
-                messageBuilder.putAllData(data);
-                log.debug("FCM data 필드 추가: {}", data);
-            }
-            
-            Message message = messageBuilder.build();
+            Message message = buildMessage(targetToken, title, body, data);
             
             String response = FirebaseMessaging.getInstance().send(message);
             log.info("FCM 발송 성공 - Response: {}, Token: {}", response, 
@@ -75,4 +65,27 @@ public class FcmService {
             throw new RuntimeException("FCM 발송 실패: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 최대 500건의 메시지를 한 번의 FCM 배치 요청으로 발송
+     * 메시지별 성공/실패는 BatchResponse 의 응답 순서로 확인
+     */
+    public BatchResponse sendEach(List<Message> messages) throws FirebaseMessagingException {
+        return FirebaseMessaging.getInstance().sendEach(messages);
+    }
+
+    public Message buildMessage(String targetToken, String title, String body, java.util.Map<String, String> data) {
+        Message.Builder messageBuilder = Message.builder()
+                .setToken(targetToken)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build());
+
+        // data 필드 추가 (앱에서 추가 정보를 받을 수 있도록)
+        if (data != null && !data.isEmpty()) {
+            messageBuilder.putAllData(data);
+        }
+        return messageBuilder.build();
+    }
 }
@@ -0,0 +1,124 @@
+package garabu.garabuServer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import garabu.garabuServer.config.CacheInvalidator;
+import garabu.garabuServer.domain.FcmUserToken;
+import garabu.garabuServer.event.FcmTokenEvent;
+import garabu.garabuServer.repository.FcmTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 토큰 캐시 (노드 내)
+ *
+ * <p>공지/알림 발송마다 대상자 토큰을 조회하므로 (앱, 사용자)별 최신 사용 토큰을 캐시합니다.
+ * 캐시에 없는 사용자만 IN 쿼리 한 번으로 조회하며, 토큰이 없다는 결과도 캐시합니다.</p>
+ *
+ * <ul>
+ *   <li>토큰 등록/삭제/만료 처리 시 커밋 후 Redis Pub/Sub({@link #CHANNEL})으로 모든 노드에서 제거</li>
+ *   <li>전파가 유실되어도 TTL(기본 5분) 후에는 DB 값으로 갱신</li>
+ * </ul>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Component
+public class FcmTokenCache {
+
+    public static final String CHANNEL = "fcm-token-events";
+
+    // 토큰 없음 표시
+    private static final String NO_TOKEN = "";
+
+    private final FcmTokenRepository fcmTokenRepository;
+    private final Cache<String, String> tokens;
+    private final CacheInvalidator invalidator;
+
+    public FcmTokenCache(FcmTokenRepository fcmTokenRepository,
+                         RedisTemplate<String, Object> redisTemplate,
+                         @Value("${fcm.token.cache-ttl-seconds:300}") long ttlSeconds,
+                         @Value("${fcm.token.cache-max-size:10000}") long maxSize) {
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.invalidator = new CacheInvalidator(redisTemplate, CHANNEL);
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자별 최신 사용 토큰 조회
+     *
+     * @return userId -> 토큰 (토큰이 없는 사용자는 제외)
+     */
+    public Map<String, String> findTokens(String appId, Collection<String> userIds) {
+        Map<String, String> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String userId : userIds) {
+            String token = tokens.getIfPresent(key(appId, userId));
+            if (token == null) {
+                misses.add(userId);
+            } else if (!NO_TOKEN.equals(token)) {
+                found.put(userId, token);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        long generation = invalidator.generation();
+        Map<String, String> loaded = new HashMap<>();
+        for (FcmUserToken token : fcmTokenRepository
+                .findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(appId, "Y", misses)) {
+            if (token.getFcmToken() != null && !token.getFcmToken().isBlank()) {
+                // tokenId 내림차순이므로 처음 나온 토큰이 최신
+                loaded.putIfAbsent(token.getUserId(), token.getFcmToken());
+            }
+        }
+
+        // 조회 중 제거가 있었으면 조회 결과를 캐시하지 않음
+        boolean cacheable = invalidator.unchangedSince(generation);
+        for (String userId : misses) {
+            String token = loaded.get(userId);
+            if (token != null) {
+                found.put(userId, token);
+            }
+            if (cacheable) {
+                tokens.put(key(appId, userId), token != null ? token : NO_TOKEN);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 토큰 변경 반영 (등록/삭제/만료)
+     * 지금 로컬 캐시에서 제거하고, 트랜잭션 커밋 후 다시 제거한 뒤 다른 노드에 전파합니다.
+     */
+    public void invalidate(String appId, String userId) {
+        invalidator.invalidate(() -> tokens.invalidate(key(appId, userId)), () -> FcmTokenEvent.builder()
+                .appId(appId)
+                .userId(userId)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * 로컬 캐시에서 제거 (Pub/Sub 수신 시)
+     */
+    public void evict(String appId, String userId) {
+        invalidator.evict(() -> tokens.invalidate(key(appId, userId)));
+    }
+
+    private static String key(String appId, String userId) {
+        return appId + ":" + userId;
+    }
+}
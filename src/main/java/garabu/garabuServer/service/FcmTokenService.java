@@ -3,6 +3,8 @@ package garabu.garabuServer.service;
 import garabu.garabuServer.dto.FcmTokenDeleteDTO;
 import garabu.garabuServer.dto.FcmTokenRegisterDTO;
 
+import java.util.Map;
+
 public interface FcmTokenService {
     void registerOrUpdate(FcmTokenRegisterDTO dto);
     void deleteByAppIdAndUserIdAndDeviceId(FcmTokenDeleteDTO dto);
@@ -10,4 +12,7 @@ public interface FcmTokenService {
     // 추가 메서드 - NotificationApiController에서 사용
     void registerFcmToken(FcmTokenRegisterDTO dto);
     void deleteFcmToken(String userId, String deviceId);
+    
+    // FCM 이 만료/무효로 응답한 토큰 정리 (userId -> 토큰)
+    void markTokensDead(String appId, Map<String, String> deadTokens);
 }
\ No newline at end of file
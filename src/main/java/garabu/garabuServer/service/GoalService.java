@@ -6,7 +6,6 @@ import garabu.garabuServer.exception.BookAccessException;
 import garabu.garabuServer.exception.BookNotFoundException;
 import garabu.garabuServer.repository.BookRepository;
 import garabu.garabuServer.repository.GoalRepository;
-import garabu.garabuServer.repository.UserBookJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -27,7 +26,7 @@ public class GoalService {
     
     private final GoalRepository goalRepository;
     private final BookRepository bookRepository;
-    private final UserBookJpaRepository userBookRepository;
+    private final BookAccessCache bookAccessCache;
     private final MemberService memberService;
     
     @Transactional
@@ -190,8 +189,8 @@ public class GoalService {
     }
     
     private void checkBookAccess(Book book, Member member) {
-        boolean hasAccess = userBookRepository.findByBookIdAndMemberId(book.getId(), member.getId())
-                .map(userBook -> !userBook.getBookRole().equals(BookRole.VIEWER))
+        boolean hasAccess = bookAccessCache.findRole(book.getId(), member.getId())
+                .map(role -> role != BookRole.VIEWER)
                 .orElse(false);
         
         if (!hasAccess) {
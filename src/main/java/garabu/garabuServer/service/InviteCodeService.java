@@ -1,32 +1,79 @@
 package garabu.garabuServer.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
-import java.time.Duration;
 import java.util.LinkedHashMap;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * 초대 코드 생성 및 관리 서비스
  * 8자리 숫자 코드를 생성하고 Redis에 30분간 저장합니다.
+ *
+ * <p>가계부(가계부+권한)/사용자별 기존 코드는 코드와 같은 TTL 의 인덱스 키
+ * (BOOK_INVITE_INDEX:{bookId}:{role}, FRIEND_INVITE_INDEX:{userId})로 O(1) 조회합니다.
+ * 인덱스 도입 전에 만든 코드는 시작 시 한 번 SCAN 으로 인덱스를 채우고({@link #migrateIndexes()}),
+ * 완료 표시 키(INVITE_CODE_INDEX_MIGRATED)를 남깁니다. 완료 표시가 생기기 전까지만 조회 시 SCAN 으로 찾습니다.</p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class InviteCodeService {
     
     private final RedisTemplate<String, Object> redisTemplate;
     private final SecureRandom secureRandom = new SecureRandom();
+    private final boolean scanFallbackEnabled;
+    
+    // 완료 표시 키를 한 번 확인하면 이후에는 Redis 를 다시 조회하지 않음
+    private volatile boolean indexMigrated;
     
     private static final String BOOK_INVITE_PREFIX = "BOOK_INVITE:";
     private static final String USER_ID_PREFIX = "USER_ID:";
     private static final String FRIEND_INVITE_PREFIX = "FRIEND_INVITE:";
+    private static final String BOOK_INVITE_INDEX_PREFIX = "BOOK_INVITE_INDEX:";
+    private static final String FRIEND_INVITE_INDEX_PREFIX = "FRIEND_INVITE_INDEX:";
+    private static final String INDEX_MIGRATED_KEY = "INVITE_CODE_INDEX_MIGRATED";
     private static final long CODE_TTL_MINUTES = 30;
+    private static final long REUSE_MIN_TTL_MINUTES = 5;
+    private static final int SCAN_COUNT = 500;
+    
+    public InviteCodeService(RedisTemplate<String, Object> redisTemplate,
+                             @Value("${invite.code.scan-fallback:true}") boolean scanFallbackEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.scanFallbackEnabled = scanFallbackEnabled;
+    }
+    
+    /**
+     * 인덱스 도입 전에 만든 코드의 인덱스를 채우고 완료 표시 키를 저장
+     * 여러 인스턴스가 동시에 실행해도 이미 있는 인덱스는 덮어쓰지 않습니다.
+     *
+     * @return 새로 만든 인덱스 수
+     */
+    public int migrateIndexes() {
+        if (!scanFallbackEnabled || isIndexMigrated()) {
+            return 0;
+        }
+        
+        int indexed = backfillIndex(BOOK_INVITE_PREFIX, key -> {
+            BookInviteData data = getBookInviteDataByKey(key);
+            return data != null ? bookIndexKey(data.getBookId(), data.getRole()) : null;
+        });
+        indexed += backfillIndex(FRIEND_INVITE_PREFIX, key -> {
+            Long userId = toLong(redisTemplate.opsForValue().get(key));
+            return userId != null ? friendIndexKey(userId) : null;
+        });
+        
+        redisTemplate.opsForValue().set(INDEX_MIGRATED_KEY, String.valueOf(System.currentTimeMillis()));
+        indexMigrated = true;
+        log.info("초대 코드 인덱스 마이그레이션 완료 - 생성: {}건", indexed);
+        return indexed;
+    }
     
     /**
      * 가계부 초대 코드 생성 또는 기존 코드 반환
@@ -53,6 +100,7 @@ public class InviteCodeService {
                 .build();
         
         redisTemplate.opsForValue().set(key, inviteData, CODE_TTL_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.opsForValue().set(bookIndexKey(bookId, role), code, CODE_TTL_MINUTES, TimeUnit.MINUTES);
         log.info("새 가계부 초대 코드 생성: {} (bookId: {}, role: {})", code, bookId, role);
         
         return code;
@@ -90,6 +138,7 @@ public class InviteCodeService {
         String key = FRIEND_INVITE_PREFIX + code;
         
         redisTemplate.opsForValue().set(key, userId, CODE_TTL_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.opsForValue().set(friendIndexKey(userId), code, CODE_TTL_MINUTES, TimeUnit.MINUTES);
         log.info("새 친구 초대 코드 생성: {} (userId: {})", code, userId);
         
         return code;
@@ -130,7 +179,7 @@ public class InviteCodeService {
      */
     public Long getUserIdByCode(String code) {
         String key = USER_ID_PREFIX + code;
-        return (Long) redisTemplate.opsForValue().get(key);
+        return toLong(redisTemplate.opsForValue().get(key));
     }
     
     /**
@@ -140,7 +189,7 @@ public class InviteCodeService {
      */
     public Long getUserIdByFriendInviteCode(String code) {
         String key = FRIEND_INVITE_PREFIX + code;
-        return (Long) redisTemplate.opsForValue().get(key);
+        return toLong(redisTemplate.opsForValue().get(key));
     }
     
     /**
@@ -192,6 +241,20 @@ public class InviteCodeService {
         }
         
         String key = prefix + code;
+        
+        // 인덱스가 이 코드를 가리키면 함께 삭제
+        String indexKey = null;
+        if (BOOK_INVITE_PREFIX.equals(prefix)) {
+            BookInviteData data = getBookInviteDataByKey(key);
+            indexKey = data != null ? bookIndexKey(data.getBookId(), data.getRole()) : null;
+        } else if (FRIEND_INVITE_PREFIX.equals(prefix)) {
+            Long userId = toLong(redisTemplate.opsForValue().get(key));
+            indexKey = userId != null ? friendIndexKey(userId) : null;
+        }
+        if (indexKey != null && code.equals(redisTemplate.opsForValue().get(indexKey))) {
+            redisTemplate.delete(indexKey);
+        }
+        
         redisTemplate.delete(key);
         log.info("코드 삭제: {}", key);
     }
@@ -242,27 +305,12 @@ public class InviteCodeService {
      * @return 유효한 코드 또는 null
      */
     private String findExistingInviteCode(Long bookId, String role) {
-        // Redis에서 BOOK_INVITE:* 패턴의 모든 키 조회
-        Set<String> keys = redisTemplate.keys(BOOK_INVITE_PREFIX + "*");
-        if (keys == null || keys.isEmpty()) {
-            return null;
-        }
-        
-        for (String key : keys) {
+        String indexKey = bookIndexKey(bookId, role);
+        Predicate<String> matches = key -> {
             BookInviteData data = getBookInviteDataByKey(key);
-            if (data != null && 
-                data.getBookId().equals(bookId) && 
-                data.getRole().equals(role)) {
-                // TTL이 5분 이상 남은 경우에만 재사용
-                Long ttl = redisTemplate.getExpire(key, TimeUnit.MINUTES);
-                if (ttl != null && ttl > 5) {
-                    String code = key.substring(BOOK_INVITE_PREFIX.length());
-                    return code;
-                }
-            }
-        }
-        
-        return null;
+            return data != null && bookId.equals(data.getBookId()) && role.equals(data.getRole());
+        };
+        return findReusableCode(indexKey, BOOK_INVITE_PREFIX, matches);
     }
     
     /**
@@ -298,33 +346,94 @@ public class InviteCodeService {
      * @return 유효한 코드 또는 null
      */
     private String findExistingFriendInviteCode(Long userId) {
-        // Redis에서 FRIEND_INVITE:* 패턴의 모든 키 조회
-        Set<String> keys = redisTemplate.keys(FRIEND_INVITE_PREFIX + "*");
-        if (keys == null || keys.isEmpty()) {
+        String indexKey = friendIndexKey(userId);
+        Predicate<String> matches = key -> userId.equals(toLong(redisTemplate.opsForValue().get(key)));
+        return findReusableCode(indexKey, FRIEND_INVITE_PREFIX, matches);
+    }
+    
+    /**
+     * 인덱스로 기존 코드를 찾고, 없으면 (마이그레이션 완료 전에만) SCAN 으로 찾아 인덱스를 채웁니다.
+     * TTL이 5분 이상 남은 코드만 재사용합니다.
+     *
+     * @param indexKey 인덱스 키
+     * @param prefix 코드 키 접두사
+     * @param matches 코드 키의 값이 찾는 대상인지 확인
+     * @return 재사용할 코드 또는 null
+     */
+    private String findReusableCode(String indexKey, String prefix, Predicate<String> matches) {
+        Object indexed = redisTemplate.opsForValue().get(indexKey);
+        if (indexed instanceof String code) {
+            // 코드가 삭제/만료되었거나 다른 대상을 가리키면 인덱스가 낡은 것
+            String key = prefix + code;
+            return matches.test(key) && isReusable(key) ? code : null;
+        }
+        
+        if (!scanFallbackEnabled || isIndexMigrated()) {
             return null;
         }
         
-        for (String key : keys) {
-            Object storedUserIdObj = redisTemplate.opsForValue().get(key);
-            Long storedUserId = null;
-            if (storedUserIdObj instanceof Integer) {
-                storedUserId = ((Integer) storedUserIdObj).longValue();
-            } else if (storedUserIdObj instanceof Long) {
-                storedUserId = (Long) storedUserIdObj;
-            }
-            if (storedUserId != null && storedUserId.equals(userId)) {
-                // TTL이 5분 이상 남은 경우에만 재사용
-                Long ttl = redisTemplate.getExpire(key, TimeUnit.MINUTES);
-                if (ttl != null && ttl > 5) {
-                    String code = key.substring(FRIEND_INVITE_PREFIX.length());
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (matches.test(key) && isReusable(key)) {
+                    String code = key.substring(prefix.length());
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+                    if (ttl != null && ttl > 0) {
+                        redisTemplate.opsForValue().set(indexKey, code, ttl, TimeUnit.SECONDS);
+                    }
+                    log.info("인덱스 없는 기존 초대 코드 발견, 인덱스 생성: {}", key);
                     return code;
                 }
             }
         }
-        
         return null;
     }
     
+    /**
+     * 코드 키를 SCAN 하여 인덱스가 없는 코드의 인덱스를 코드와 같은 TTL 로 생성
+     */
+    private int backfillIndex(String prefix, Function<String, String> indexKeyOf) {
+        int indexed = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String indexKey = indexKeyOf.apply(key);
+                Long ttl = indexKey != null ? redisTemplate.getExpire(key, TimeUnit.SECONDS) : null;
+                if (ttl != null && ttl > 0 && Boolean.TRUE.equals(redisTemplate.opsForValue()
+                        .setIfAbsent(indexKey, key.substring(prefix.length()), ttl, TimeUnit.SECONDS))) {
+                    indexed++;
+                }
+            }
+        }
+        return indexed;
+    }
+    
+    private boolean isIndexMigrated() {
+        if (!indexMigrated && Boolean.TRUE.equals(redisTemplate.hasKey(INDEX_MIGRATED_KEY))) {
+            indexMigrated = true;
+        }
+        return indexMigrated;
+    }
+    
+    private boolean isReusable(String key) {
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.MINUTES);
+        return ttl != null && ttl > REUSE_MIN_TTL_MINUTES;
+    }
+    
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+    
+    private static String bookIndexKey(Long bookId, String role) {
+        return BOOK_INVITE_INDEX_PREFIX + bookId + ":" + role;
+    }
+    
+    private static String friendIndexKey(Long userId) {
+        return FRIEND_INVITE_INDEX_PREFIX + userId;
+    }
+    
     /**
      * 가계부 초대 데이터 DTO
      */
@@ -0,0 +1,113 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.dto.LedgerExportRow;
+import garabu.garabuServer.dto.LedgerSearchConditionDTO;
+import garabu.garabuServer.mapper.LedgerMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 가계부 기록 내보내기 서비스
+ *
+ * MyBatis {@link Cursor} 로 기록을 한 행씩 읽어 응답 스트림에 바로 CSV 로 씁니다.
+ * 목록을 메모리에 모으지 않으므로 기록이 많아도 힙 사용량이 일정합니다.
+ * 헤더는 일괄 가져오기({@link LedgerImportService}) CSV 와 같아 그대로 다시 가져올 수 있습니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LedgerExportService {
+
+    static final String CSV_HEADER = "date,amount,amountType,category,payment,description,memo,spender";
+
+    /** 엑셀에서 UTF-8 로 인식하도록 붙이는 BOM */
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final LedgerMapper ledgerMapper;
+
+    /**
+     * 검색 조건에 맞는 기록을 CSV 로 씁니다. (날짜, ID 오름차순)
+     * 커서는 트랜잭션(SqlSession)이 열려 있는 동안만 유효하므로 순회를 이 메서드 안에서 끝냅니다.
+     *
+     * @param cond 검색 조건 (가계부 ID 필수)
+     * @param out 응답 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long exportCsv(LedgerSearchConditionDTO cond, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(UTF8_BOM);
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        long rows = 0;
+        try (Cursor<LedgerExportRow> cursor = ledgerMapper.streamLedgersForExport(cond)) {
+            for (LedgerExportRow row : cursor) {
+                writeRow(writer, row);
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("가계부 기록 내보내기 완료 - 가계부: {}, 행 수: {}", cond.getBookId(), rows);
+        return rows;
+    }
+
+    static void writeRow(Writer writer, LedgerExportRow row) throws IOException {
+        writer.write(row.getDate() != null ? row.getDate().toString() : "");
+        writer.write(',');
+        writer.write(row.getAmount() != null ? row.getAmount().toString() : "");
+        writer.write(',');
+        writer.write(row.getAmountType() != null ? row.getAmountType().name() : "");
+        writer.write(',');
+        writeField(writer, row.getCategory());
+        writer.write(',');
+        writeField(writer, row.getPayment());
+        writer.write(',');
+        writeField(writer, row.getDescription());
+        writer.write(',');
+        writeField(writer, row.getMemo());
+        writer.write(',');
+        writeField(writer, row.getSpender());
+        writer.write("\r\n");
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씁니다. (RFC 4180)
+     * 수식으로 해석될 수 있는 값(=, +, -, @ 로 시작)은 작은따옴표를 붙여 엑셀 수식 실행을 막습니다.
+     */
+    static void writeField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,480 @@
+package garabu.garabuServer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.domain.Category;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.PaymentMethod;
+import garabu.garabuServer.dto.CreateLedgerRequest;
+import garabu.garabuServer.dto.LedgerImportResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 가계부 기록 일괄 가져오기 서비스
+ *
+ * CSV 또는 NDJSON 본문을 한 줄씩 읽어 배치 단위로 저장합니다.
+ * 카테고리/결제수단은 가져오기 시작 시 가계부 전체를 한 번 조회해 이름으로 찾고,
+ * 배치마다 {@link LedgerService#registLedgers(Book, List, java.util.Collection)} 로 multi-row INSERT 와
+ * 자산/집계 합산 반영을 수행합니다. 없는 결제수단은 처음 쓰인 배치의 트랜잭션에서 함께 생성하므로
+ * 배치가 롤백되면 결제수단도 남지 않습니다.
+ *
+ * 배치마다 별도 트랜잭션으로 커밋하므로 이 클래스에는 트랜잭션을 걸지 않습니다.
+ * 잘못된 행은 건너뛰고 줄 번호와 함께 결과에 기록합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class LedgerImportService {
+
+    /** CSV 헤더 → 필드 (영문/한글 헤더 모두 허용) */
+    private static final Map<String, String> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("date", "date"), Map.entry("날짜", "date"),
+            Map.entry("amount", "amount"), Map.entry("금액", "amount"),
+            Map.entry("amounttype", "amountType"), Map.entry("유형", "amountType"),
+            Map.entry("category", "category"), Map.entry("카테고리", "category"),
+            Map.entry("payment", "payment"), Map.entry("결제수단", "payment"),
+            Map.entry("description", "description"), Map.entry("내용", "description"),
+            Map.entry("memo", "memo"), Map.entry("메모", "memo"),
+            Map.entry("spender", "spender"), Map.entry("사용자", "spender")
+    );
+    private static final List<String> REQUIRED_CSV_FIELDS =
+            List.of("date", "amount", "amountType", "category", "payment", "description");
+
+    private final LedgerService ledgerService;
+    private final CategoryService categoryService;
+    private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public LedgerImportService(LedgerService ledgerService,
+                               CategoryService categoryService,
+                               PaymentService paymentService,
+                               ObjectMapper objectMapper,
+                               @Value("${ledger.import.batch-size:500}") int batchSize,
+                               @Value("${ledger.import.max-errors:100}") int maxErrors) {
+        this.ledgerService = ledgerService;
+        this.categoryService = categoryService;
+        this.paymentService = paymentService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 가져오기 본문 형식
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Content-Type 으로 형식 결정 (text/csv, application/x-ndjson)
+         */
+        public static Format fromContentType(String contentType) {
+            String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다. text/csv 또는 application/x-ndjson 을 사용하세요.");
+        }
+    }
+
+    /**
+     * 가계부 기록 일괄 가져오기
+     *
+     * @param book 대상 가계부 (권한 확인은 컨트롤러에서 처리)
+     * @param member 작성자
+     * @param body 요청 본문 (UTF-8)
+     * @param format 본문 형식
+     * @return 가져오기 결과
+     * @throws IllegalArgumentException CSV 헤더에 필수 컬럼이 없는 경우
+     */
+    public LedgerImportResult importLedgers(Book book, Member member, InputStream body, Format format) throws IOException {
+        Resolver resolver = new Resolver(book);
+        LedgerImportResult result = new LedgerImportResult();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowReader rows = format == Format.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader);
+
+        List<Ledger> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        ImportRow row;
+        while ((row = rows.next()) != null) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            try {
+                batch.add(toLedger(row, book, member, resolver));
+                batchLines.add(row.line);
+            } catch (IllegalArgumentException e) {
+                result.addError(row.line, e.getMessage(), maxErrors);
+                continue;
+            }
+
+            if (batch.size() >= batchSize) {
+                flush(book, batch, batchLines, resolver, result);
+            }
+        }
+        flush(book, batch, batchLines, resolver, result);
+
+        log.info("가계부 기록 가져오기 완료 - 가계부: {}, 전체: {}, 저장: {}, 실패: {}",
+                book.getId(), result.getTotalRows(), result.getImportedRows(), result.getFailedRows());
+        return result;
+    }
+
+    private void flush(Book book, List<Ledger> batch, List<Long> batchLines, Resolver resolver,
+                       LedgerImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int inserted = ledgerService.registLedgers(book, batch, resolver.newPayments);
+            resolver.newPaymentsSaved();
+            result.setImportedRows(result.getImportedRows() + inserted);
+        } catch (IllegalArgumentException e) {
+            // 합산 잔액 반영 실패 (잔액 부족) 시 배치 전체가 롤백됨 (새 결제수단 포함)
+            resolver.newPaymentsDiscarded();
+            for (Long line : batchLines) {
+                result.addError(line, e.getMessage(), maxErrors);
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private Ledger toLedger(ImportRow row, Book book, Member member, Resolver resolver) {
+        if (row.error != null) {
+            throw new IllegalArgumentException(row.error);
+        }
+
+        CreateLedgerRequest request = row.request;
+        if (request.getDate() == null) {
+            throw new IllegalArgumentException("기록 날짜는 필수입니다");
+        }
+        if (request.getDate().isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("기록 날짜는 현재 또는 과거 날짜여야 합니다");
+        }
+        if (request.getAmount() == null) {
+            throw new IllegalArgumentException("금액은 필수입니다");
+        }
+        if (request.getAmount() <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 큰 값이어야 합니다");
+        }
+        if (isBlank(request.getDescription())) {
+            throw new IllegalArgumentException("상세 내용은 필수입니다");
+        }
+        if (request.getAmountType() == null) {
+            throw new IllegalArgumentException("금액 유형은 필수입니다");
+        }
+        if (isBlank(request.getPayment())) {
+            throw new IllegalArgumentException("결제 수단은 필수입니다");
+        }
+        if (isBlank(request.getCategory())) {
+            throw new IllegalArgumentException("카테고리명은 필수입니다");
+        }
+
+        Ledger ledger = new Ledger();
+        ledger.setDate(request.getDate());
+        ledger.setAmount(request.getAmount());
+        ledger.setDescription(request.getDescription());
+        ledger.setMemo(request.getMemo());
+        ledger.setAmountType(request.getAmountType());
+        ledger.setMember(member);
+        ledger.setSpender(request.getSpender());
+        ledger.setBook(book);
+        ledger.setCategory(resolver.category(request.getCategory()));
+        ledger.setPaymentMethod(resolver.payment(request.getPayment()));
+        return ledger;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 카테고리/결제수단 이름 조회 (가져오기 한 번에 한 번 로딩)
+     */
+    private class Resolver {
+        private final Book book;
+        private final Map<String, Category> categories = new HashMap<>();
+        private final Map<String, PaymentMethod> payments = new HashMap<>();
+        // 이번 배치에서 처음 쓰인, 아직 저장하지 않은 결제수단
+        private final List<PaymentMethod> newPayments = new ArrayList<>();
+
+        Resolver(Book book) {
+            this.book = book;
+            // 사용자 정의 카테고리가 같은 이름의 기본 카테고리보다 우선
+            for (Category category : categoryService.findCombinedCategories(book)) {
+                if (Boolean.TRUE.equals(category.getIsDefault())) {
+                    categories.putIfAbsent(category.getCategory(), category);
+                } else {
+                    categories.put(category.getCategory(), category);
+                }
+            }
+            for (PaymentMethod payment : paymentService.findByBookWithAsset(book)) {
+                payments.putIfAbsent(payment.getPayment(), payment);
+            }
+        }
+
+        Category category(String name) {
+            Category category = categories.get(name);
+            if (category == null) {
+                throw new IllegalArgumentException("해당 가계부에 존재하지 않는 카테고리입니다: " + name);
+            }
+            return category;
+        }
+
+        PaymentMethod payment(String name) {
+            // 결제수단이 없으면 단건 등록과 같이 자동 생성 (배치 저장 시 함께 저장)
+            return payments.computeIfAbsent(name, key -> {
+                PaymentMethod payment = paymentService.newPaymentForBook(book, key);
+                newPayments.add(payment);
+                return payment;
+            });
+        }
+
+        void newPaymentsSaved() {
+            newPayments.clear();
+        }
+
+        /**
+         * 배치가 롤백되면 새 결제수단도 저장되지 않았으므로 다음에 쓰일 때 다시 생성
+         */
+        void newPaymentsDiscarded() {
+            newPayments.forEach(payment -> payments.remove(payment.getPayment()));
+            newPayments.clear();
+        }
+    }
+
+    /**
+     * 읽은 행 (파싱 실패 시 error 에 사유)
+     */
+    private static class ImportRow {
+        private final long line;
+        private final CreateLedgerRequest request;
+        private final String error;
+
+        private ImportRow(long line, CreateLedgerRequest request, String error) {
+            this.line = line;
+            this.request = request;
+            this.error = error;
+        }
+
+        static ImportRow ok(long line, CreateLedgerRequest request) {
+            return new ImportRow(line, request, null);
+        }
+
+        static ImportRow failed(long line, String error) {
+            return new ImportRow(line, null, error);
+        }
+    }
+
+    private interface RowReader {
+        /** 다음 행, 끝이면 null */
+        ImportRow next() throws IOException;
+    }
+
+    /**
+     * NDJSON: 한 줄에 JSON 객체 하나 (CreateLedgerRequest 형식, bookId 는 무시)
+     */
+    private class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private long lineNo;
+
+        NdjsonRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return ImportRow.ok(lineNo, objectMapper.readValue(line, CreateLedgerRequest.class));
+                } catch (JsonProcessingException e) {
+                    return ImportRow.failed(lineNo, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * CSV: 첫 줄은 헤더, RFC 4180 따옴표 규칙 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프) 지원
+     */
+    private static class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long lineNo;
+
+        CsvRowReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                String field = CSV_COLUMNS.get(name);
+                if (field != null) {
+                    columns.putIfAbsent(field, i);
+                }
+            }
+            List<String> missing = REQUIRED_CSV_FIELDS.stream()
+                    .filter(field -> !columns.containsKey(field))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + String.join(", ", missing));
+            }
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            List<String> record;
+            long startLine;
+            do {
+                startLine = lineNo + 1;
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());
+
+            try {
+                CreateLedgerRequest request = new CreateLedgerRequest();
+                request.setDate(parseDate(field(record, "date")));
+                request.setAmount(parseAmount(field(record, "amount")));
+                request.setAmountType(parseAmountType(field(record, "amountType")));
+                request.setCategory(field(record, "category"));
+                request.setPayment(field(record, "payment"));
+                request.setDescription(field(record, "description"));
+                request.setMemo(field(record, "memo"));
+                request.setSpender(field(record, "spender"));
+                return ImportRow.ok(startLine, request);
+            } catch (IllegalArgumentException e) {
+                return ImportRow.failed(startLine, e.getMessage());
+            }
+        }
+
+        private String field(List<String> record, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static LocalDate parseDate(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value.replace('.', '-').replace('/', '-'));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다 (yyyy-MM-dd): " + value);
+            }
+        }
+
+        private static Long parseAmount(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                // 은행 내보내기 형식의 천 단위 구분자 허용 (예: "12,000")
+                return Long.parseLong(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("금액 형식이 올바르지 않습니다: " + value);
+            }
+        }
+
+        private static AmountType parseAmountType(String value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toUpperCase(Locale.ROOT)) {
+                case "INCOME", "수입" -> AmountType.INCOME;
+                case "EXPENSE", "지출" -> AmountType.EXPENSE;
+                case "TRANSFER", "이체" -> AmountType.TRANSFER;
+                default -> throw new IllegalArgumentException("금액 유형이 올바르지 않습니다 (INCOME/EXPENSE/TRANSFER): " + value);
+            };
+        }
+
+        /**
+         * 레코드 하나 읽기 (따옴표 안의 줄바꿈이면 다음 줄까지 이어서 읽음)
+         */
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNo++;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"') {
+                            if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                current.append('"');
+                                i++;
+                            } else {
+                                quoted = false;
+                            }
+                        } else {
+                            current.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(current.toString());
+                        current.setLength(0);
+                    } else {
+                        current.append(c);
+                    }
+                }
+
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                lineNo++;
+                current.append('\n');
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -7,22 +7,26 @@ import garabu.garabuServer.domain.Asset;
 import garabu.garabuServer.domain.AmountType;
 import garabu.garabuServer.domain.PaymentMethod;
 import garabu.garabuServer.domain.Category;
-import garabu.garabuServer.domain.UserBook;
 import garabu.garabuServer.domain.BookRole;
+import garabu.garabuServer.dto.LedgerCursor;
+import garabu.garabuServer.dto.LedgerCursorPageDTO;
 import garabu.garabuServer.dto.LedgerDTO;
 import garabu.garabuServer.dto.LedgerSearchConditionDTO;
 import garabu.garabuServer.dto.request.CreateTransferRequest;
 import garabu.garabuServer.mapper.LedgerMapper;
+import garabu.garabuServer.repository.LedgerBatchRepository;
 import garabu.garabuServer.repository.LedgerJpaRepository;
 import garabu.garabuServer.repository.AssetJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -44,9 +48,13 @@ public class LedgerService {
     private final LedgerJpaRepository ledgerJpaRepository;
     private final LedgerMapper ledgerMapper;
     private final UserBookService userBookService;
+    private final LedgerBatchRepository ledgerBatchRepository;
     private final AssetJpaRepository assetJpaRepository;
+    private final AssetBalanceService assetBalanceService;
     private final PaymentService paymentService;
     private final CategoryService categoryService;
+    private final LedgerSummaryService ledgerSummaryService;
+    private final NotificationOutboxService notificationOutboxService;
 
     /**
      * 가계부별 기본 목록 조회 (JPA 사용)
@@ -108,6 +116,75 @@ public class LedgerService {
         return new PageImpl<>(dtoContent, pageable, total);
     }
 
+    /**
+     * 가계부별 기본 목록 커서(keyset) 조회
+     * OFFSET 없이 (date, id) 위치부터 seek 하므로 페이지 깊이와 무관하게 일정한 비용으로 처리
+     * 전체 건수는 includeTotal 인 경우에만 계산
+     *
+     * @param book 대상 가계부
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param includeTotal 전체 건수 포함 여부
+     * @return 커서 페이지
+     */
+    public LedgerCursorPageDTO findLedgersByBookWithCursor(Book book, LedgerCursor cursor,
+                                                           int size, boolean includeTotal) {
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Long> ids = cursor == null
+                ? ledgerJpaRepository.findFirstIdsByBook(book, limit)
+                : ledgerJpaRepository.findIdsByBookAfterCursor(book, cursor.getDate(), cursor.getId(), limit);
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+
+        List<LedgerDTO> dtos = ids.isEmpty()
+                ? List.of()
+                : ledgerJpaRepository.findByIdsWithFetch(ids).stream()
+                        .map(LedgerDTO::from)
+                        .collect(Collectors.toList());
+
+        Long total = includeTotal ? ledgerJpaRepository.countByBook(book) : null;
+        return toCursorPage(dtos, hasNext, total);
+    }
+
+    /**
+     * 검색 조건이 있는 경우 커서(keyset) 검색 (MyBatis 사용)
+     * 정렬은 (date DESC, id DESC)로 고정되며, 전체 건수는 includeTotal 인 경우에만 계산
+     *
+     * @param cond 검색 조건
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param includeTotal 전체 건수 포함 여부
+     * @return 커서 페이지
+     */
+    public LedgerCursorPageDTO searchLedgersWithCursor(LedgerSearchConditionDTO cond, LedgerCursor cursor,
+                                                       int size, boolean includeTotal) {
+        List<Ledger> content = ledgerMapper.searchLedgersByCursor(
+                cond,
+                cursor != null ? cursor.getDate() : null,
+                cursor != null ? cursor.getId() : null,
+                size + 1
+        );
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        Long total = includeTotal ? ledgerMapper.countSearchLedgers(cond) : null;
+        return toCursorPage(LedgerDTO.from(content), hasNext, total);
+    }
+
+    private LedgerCursorPageDTO toCursorPage(List<LedgerDTO> content, boolean hasNext, Long total) {
+        String nextCursor = hasNext && !content.isEmpty()
+                ? LedgerCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+        return new LedgerCursorPageDTO(content, nextCursor, hasNext, total);
+    }
+
     /**
      * 새로운 가계부 기록을 등록합니다.
      * 
@@ -116,23 +193,62 @@ public class LedgerService {
      */
     @Transactional(rollbackFor = Exception.class, timeout = 30)
     public Long registLedger (Ledger ledger){
-        // 자산 잔액 업데이트
-        if (ledger.getPaymentMethod() != null && ledger.getPaymentMethod().getAsset() != null) {
-            Asset asset = ledger.getPaymentMethod().getAsset();
-            if (ledger.getAmountType() == AmountType.INCOME) {
-                // 수입: 자산에 금액 추가
-                asset.updateBalance(ledger.getAmount(), "ADD");
-            } else if (ledger.getAmountType() == AmountType.EXPENSE) {
-                // 지출: 자산에서 금액 차감
-                asset.updateBalance(ledger.getAmount(), "SUBTRACT");
-            }
-            assetJpaRepository.save(asset);
-        }
+        // 자산 잔액 업데이트 (수입 +, 지출 -, 원자적 증감)
+        assetBalanceService.applyLedger(ledger);
         
         ledgerJpaRepository.save(ledger);
+        ledgerSummaryService.recordCreated(ledger);
         return ledger.getId();
     }
 
+    /**
+     * 가계부 기록을 일괄 등록합니다 (가져오기용).
+     * 기록은 multi-row INSERT 로 저장하고, 자산 잔액과 월별 집계는 합산한 증감을 한 번씩만 반영합니다.
+     * 잔액이 부족하면 전체가 롤백됩니다.
+     *
+     * @param ledgers 등록할 가계부 기록 목록
+     * @return 저장된 기록 수
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public int registLedgers(List<Ledger> ledgers) {
+        assetBalanceService.applyLedgers(ledgers);
+
+        int inserted = ledgerBatchRepository.insertAll(ledgers);
+        ledgerSummaryService.recordCreatedAll(ledgers);
+        return inserted;
+    }
+
+    /**
+     * 가계부 기록을 일괄 등록하며, 이 기록들에서 처음 쓰인 결제수단도 같은 트랜잭션에서 저장합니다 (가져오기용).
+     * 배치가 롤백되면 새 결제수단도 함께 취소되어 기록 없는 결제수단/자산이 남지 않습니다.
+     *
+     * @param book 대상 가계부
+     * @param ledgers 등록할 가계부 기록 목록
+     * @param newPayments 저장하지 않은 새 결제수단 (없으면 빈 목록)
+     * @return 저장된 기록 수
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public int registLedgers(Book book, List<Ledger> ledgers, Collection<PaymentMethod> newPayments) {
+        if (!newPayments.isEmpty()) {
+            paymentService.saveNewPayments(book, newPayments);
+        }
+        return registLedgers(ledgers);
+    }
+
+    /**
+     * 가계부 기록을 등록하고, 같은 트랜잭션에서 가계부 멤버 알림을 아웃박스에 기록합니다.
+     * 알림 발송은 커밋 이후 아웃박스 워커가 처리하므로 요청은 FCM/알림 테이블을 기다리지 않습니다.
+     *
+     * @param ledger 등록할 가계부 기록 정보
+     * @return 등록된 가계부 기록의 ID
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 30)
+    public Long registLedgerWithNotification(Ledger ledger) {
+        Long id = registLedger(ledger);
+        notificationOutboxService.enqueueNewTransaction(ledger);
+        return id;
+    }
+
     /**
      * 가계부 기록을 생성합니다 (권한 검사, 결제수단/카테고리 자동 생성, 중복 검사 포함)
      *
@@ -184,21 +300,13 @@ public class LedgerService {
             throw new RuntimeException("동일한 내용의 기록이 최근에 추가되었습니다. 중복 등록을 확인해주세요.");
         }
         
-        // 5. 자산 잔액 업데이트
-        if (paymentMethod != null && paymentMethod.getAsset() != null) {
-            Asset asset = paymentMethod.getAsset();
-            if (ledger.getAmountType() == AmountType.INCOME) {
-                // 수입: 자산에 금액 추가
-                asset.updateBalance(ledger.getAmount(), "ADD");
-            } else if (ledger.getAmountType() == AmountType.EXPENSE) {
-                // 지출: 자산에서 금액 차감
-                asset.updateBalance(ledger.getAmount(), "SUBTRACT");
-            }
-            assetJpaRepository.save(asset);
-        }
+        // 5. 자산 잔액 업데이트 (수입 +, 지출 -, 원자적 증감)
+        assetBalanceService.applyLedger(ledger);
         
         // 6. 저장
-        return ledgerJpaRepository.save(ledger);
+        Ledger savedLedger = ledgerJpaRepository.save(ledger);
+        ledgerSummaryService.recordCreated(savedLedger);
+        return savedLedger;
     }
 
     /**
@@ -291,14 +399,9 @@ public class LedgerService {
             throw new IllegalArgumentException("다른 가계부의 자산 간 이체는 불가능합니다.");
         }
 
-        // 출금 자산 잔액 확인
-        if (fromAsset.getBalance() < request.getAmount()) {
-            throw new IllegalArgumentException("출금 자산의 잔액이 부족합니다.");
-        }
-
-        // 자산 잔액 업데이트
-        fromAsset.updateBalance(request.getAmount(), "SUBTRACT");
-        toAsset.updateBalance(request.getAmount(), "ADD");
+        // 자산 잔액 업데이트 (원자적 조건부 증감, 잔액 부족 시 예외)
+        // 위에서 읽은 잔액은 오래된 값일 수 있으므로 잔액 확인은 UPDATE 결과로만 판단
+        assetBalanceService.transfer(fromAsset, toAsset, request.getAmount());
 
         // 이체 기록 생성 (출금 기록)
         Ledger withdrawalLedger = new Ledger();
@@ -322,13 +425,11 @@ public class LedgerService {
         depositLedger.setBook(toAsset.getBook());
         depositLedger.setSpender(request.getTransferer());
 
-        // 자산 저장
-        assetJpaRepository.save(fromAsset);
-        assetJpaRepository.save(toAsset);
-
         // 이체 기록 저장
         Ledger savedWithdrawal = ledgerJpaRepository.save(withdrawalLedger);
         Ledger savedDeposit = ledgerJpaRepository.save(depositLedger);
+        ledgerSummaryService.recordCreated(savedWithdrawal);
+        ledgerSummaryService.recordCreated(savedDeposit);
 
         List<LedgerDTO> result = new ArrayList<>();
         result.add(LedgerDTO.from(savedWithdrawal));
@@ -359,12 +460,11 @@ public class LedgerService {
         } else {
             // 2. 가계부 소유자/편집자인지 확인
             try {
-                UserBook userBook = userBookService.findByBookIdAndMemberId(
+                BookRole role = userBookService.findRole(
                     ledger.getBook().getId(), currentMember.getId()
                 ).orElse(null);
                 
-                if (userBook != null && 
-                    (userBook.getBookRole() == BookRole.OWNER || userBook.getBookRole() == BookRole.EDITOR)) {
+                if (role == BookRole.OWNER || role == BookRole.EDITOR) {
                     canDelete = true;
                 }
             } catch (Exception e) {
@@ -376,20 +476,11 @@ public class LedgerService {
             throw new RuntimeException("해당 기록을 삭제할 권한이 없습니다.");
         }
         
-        // 자산 업데이트 (삭제 전에 처리)
-        if (ledger.getPaymentMethod() != null && ledger.getPaymentMethod().getAsset() != null) {
-            Asset asset = ledger.getPaymentMethod().getAsset();
-            if (ledger.getAmountType() == AmountType.INCOME) {
-                // 수입 삭제: 자산에서 금액 차감
-                asset.updateBalance(ledger.getAmount(), "SUBTRACT");
-            } else if (ledger.getAmountType() == AmountType.EXPENSE) {
-                // 지출 삭제: 자산에 금액 추가
-                asset.updateBalance(ledger.getAmount(), "ADD");
-            }
-            assetJpaRepository.save(asset);
-        }
+        // 자산 업데이트 (삭제 전에 처리, 수입 삭제 -, 지출 삭제 +)
+        assetBalanceService.revertLedger(ledger);
         
         // 삭제 수행
+        ledgerSummaryService.recordDeleted(ledger);
         ledgerJpaRepository.delete(ledger);
     }
     
@@ -413,21 +504,22 @@ public class LedgerService {
         }
         
         // 가계부 접근 권한 확인
-        UserBook userBook = userBookService.findByBookIdAndMemberId(bookId, currentMember.getId())
+        BookRole role = userBookService.findRole(bookId, currentMember.getId())
             .orElseThrow(() -> new RuntimeException("해당 가계부에 접근 권한이 없습니다."));
         
         // VIEWER는 삭제 불가
-        if (userBook.getBookRole() == BookRole.VIEWER) {
+        if (role == BookRole.VIEWER) {
             throw new RuntimeException("조회 권한만 있습니다. 기록을 삭제할 수 없습니다.");
         }
         
         // EDITOR는 본인이 작성한 기록만 삭제 가능
-        if (userBook.getBookRole() == BookRole.EDITOR && 
+        if (role == BookRole.EDITOR && 
             !ledger.getMember().getId().equals(currentMember.getId())) {
             throw new RuntimeException("편집자는 본인이 작성한 기록만 삭제할 수 있습니다.");
         }
         
         // 삭제 수행
+        ledgerSummaryService.recordDeleted(ledger);
         ledgerJpaRepository.delete(ledger);
     }
 }
@@ -0,0 +1,185 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.LedgerMonthlySummary;
+import garabu.garabuServer.repository.LedgerMonthlySummaryRepository;
+import garabu.garabuServer.repository.LedgerSummaryVersionRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월별 가계부 집계 서비스
+ *
+ * 가계부 기록의 생성/삭제 시 (가계부, 년월, 금액 유형, 카테고리) 집계를 증분 갱신하고,
+ * 월간 합계 조회를 집계 테이블에서 바로 처리합니다.
+ * 집계 갱신은 호출한 트랜잭션에 참여하므로 기록 저장이 롤백되면 집계도 함께 롤백됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LedgerSummaryService {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final LedgerMonthlySummaryRepository summaryRepository;
+    private final LedgerSummaryVersionRepository versionRepository;
+
+    /**
+     * 새로 저장된 기록을 집계에 반영합니다.
+     *
+     * @param ledger 저장된 가계부 기록
+     */
+    @Transactional
+    public void recordCreated(Ledger ledger) {
+        applyDelta(ledger, 1);
+    }
+
+    /**
+     * 일괄 저장된 기록들을 집계에 반영합니다.
+     * 같은 (가계부, 년월, 금액 유형, 카테고리) 기록을 먼저 합산하여 집계 행마다 한 번만 갱신합니다.
+     *
+     * @param ledgers 저장된 가계부 기록 목록
+     */
+    @Transactional
+    public void recordCreatedAll(List<Ledger> ledgers) {
+        Map<SummaryKey, long[]> deltas = new LinkedHashMap<>();
+        for (Ledger ledger : ledgers) {
+            if (!isSummarizable(ledger)) {
+                continue;
+            }
+            long[] delta = deltas.computeIfAbsent(SummaryKey.of(ledger), key -> new long[2]);
+            delta[0] += ledger.getAmount();
+            delta[1]++;
+        }
+
+        deltas.forEach((key, delta) -> summaryRepository.applyDelta(
+                key.bookId, key.summaryMonth, key.amountType, key.categoryId, delta[0], delta[1]));
+    }
+
+    /**
+     * 삭제되는 기록을 집계에서 차감합니다.
+     *
+     * @param ledger 삭제할 가계부 기록
+     */
+    @Transactional
+    public void recordDeleted(Ledger ledger) {
+        applyDelta(ledger, -1);
+    }
+
+    /**
+     * 특정 년월의 금액 유형별 합계를 조회합니다.
+     *
+     * @param bookId 가계부 ID
+     * @param budgetMonth 년월 (YYYY-MM)
+     * @param amountType 금액 유형
+     * @return 합계 금액
+     */
+    public long getMonthlyTotal(Long bookId, String budgetMonth, AmountType amountType) {
+        Long total = summaryRepository.sumTotalAmount(bookId, normalizeMonth(budgetMonth), amountType);
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * 가계부의 집계를 기록 테이블로부터 다시 계산합니다.
+     * 최초 백필이나 집계 불일치 복구에 사용하며, 가계부 행을 잠근 인스턴스 하나만 재계산합니다.
+     *
+     * @param bookId 가계부 ID
+     * @param version 재구축 버전 (이미 이 버전 이상으로 재구축되었으면 건너뜀)
+     * @return 재계산했으면 true, 다른 인스턴스가 재구축 중이거나 이미 최신이면 false
+     */
+    @Transactional
+    public boolean rebuildBook(Long bookId, int version) {
+        if (summaryRepository.lockBook(bookId).isEmpty()) {
+            return false;
+        }
+        if (versionRepository.findVersion(bookId).orElse(0) >= version) {
+            return false;
+        }
+
+        summaryRepository.deleteAllByBookId(bookId);
+        int rows = summaryRepository.rebuildFromLedgers(bookId);
+        versionRepository.markVersion(bookId, version);
+        log.info("월별 집계 재구축 완료 - 가계부: {}, 집계 행: {}, 버전: {}", bookId, rows, version);
+        return true;
+    }
+
+    /**
+     * 가계부 삭제 시 집계를 함께 삭제합니다.
+     *
+     * @param bookId 가계부 ID
+     */
+    @Transactional
+    public void deleteByBook(Long bookId) {
+        summaryRepository.deleteAllByBookId(bookId);
+    }
+
+    /**
+     * 날짜를 집계 키 년월(YYYY-MM)로 변환합니다.
+     */
+    public static String toSummaryMonth(LocalDate date) {
+        return date.format(MONTH_FORMAT);
+    }
+
+    /**
+     * "2025-1" 처럼 입력된 년월도 "2025-01" 형식으로 맞춥니다.
+     */
+    static String normalizeMonth(String budgetMonth) {
+        String[] parts = budgetMonth.split("-");
+        return YearMonth.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])).format(MONTH_FORMAT);
+    }
+
+    private void applyDelta(Ledger ledger, int sign) {
+        if (!isSummarizable(ledger)) {
+            return;
+        }
+
+        SummaryKey key = SummaryKey.of(ledger);
+        summaryRepository.applyDelta(
+                key.bookId,
+                key.summaryMonth,
+                key.amountType,
+                key.categoryId,
+                sign * ledger.getAmount(),
+                sign
+        );
+    }
+
+    private static boolean isSummarizable(Ledger ledger) {
+        return ledger.getBook() != null && ledger.getDate() != null
+                && ledger.getAmountType() != null && ledger.getAmount() != null;
+    }
+
+    /**
+     * 집계 행 키 (가계부, 년월, 금액 유형, 카테고리)
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class SummaryKey {
+        private final Long bookId;
+        private final String summaryMonth;
+        private final String amountType;
+        private final Long categoryId;
+
+        static SummaryKey of(Ledger ledger) {
+            Long categoryId = ledger.getCategory() != null
+                    ? ledger.getCategory().getId()
+                    : LedgerMonthlySummary.NO_CATEGORY;
+            return new SummaryKey(ledger.getBook().getId(), toSummaryMonth(ledger.getDate()),
+                    ledger.getAmountType().name(), categoryId);
+        }
+    }
+}
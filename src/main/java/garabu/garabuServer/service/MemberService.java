@@ -81,7 +81,7 @@ public class MemberService{
         }
         
         String username = authentication.getName();
-        Member member = memberJPARepository.findByUsername(username);
+        Member member = findByUsernameInRequest(username);
 
         if (member == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
@@ -163,7 +163,7 @@ public class MemberService{
      * @return 조회된 회원 정보
      */
     public Member findMemberByUsername(String username) {
-        return memberJPARepository.findByUsername(username);
+        return findByUsernameInRequest(username);
     }
 
     /**
@@ -180,7 +180,7 @@ public class MemberService{
         }
         
         String username = authentication.getName();
-        Member member = memberJPARepository.findByUsername(username);
+        Member member = findByUsernameInRequest(username);
 
         if (member == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
@@ -189,6 +189,21 @@ public class MemberService{
         return member;
     }
 
+    /**
+     * 사용자명으로 회원 조회 (요청 단위 캐시)
+     * 컨트롤러와 여러 서비스가 같은 요청에서 현재 사용자를 반복 조회하므로 한 번만 조회합니다.
+     * OSIV 로 같은 영속성 컨텍스트를 쓰므로 같은 엔티티 인스턴스를 돌려줍니다.
+     * 없는 경우는 저장하지 않아 같은 요청에서 가입 후 바로 조회할 수 있습니다.
+     */
+    private Member findByUsernameInRequest(String username) {
+        String key = "member:" + username;
+        Member member = RequestScopedCache.get(key, () -> memberJPARepository.findByUsername(username));
+        if (member == null) {
+            RequestScopedCache.evict(key);
+        }
+        return member;
+    }
+
     /**
      * ID로 회원을 조회합니다. (JPA 방식)
      * 
@@ -0,0 +1,61 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.repository.NotiLogArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 푸시 발송 이력 보관 서비스
+ *
+ * 보관 기간이 지난 발송 이력(NotiSend 와 대상자/목록/로그 테이블)을 청크 하나당 한 트랜잭션으로
+ * 보관 테이블로 옮기거나 삭제합니다. 청크 크기만큼만 잠그므로 발송 경로의 INSERT/UPDATE 를 오래 막지 않으며,
+ * 청크 반복과 보관 정책은 {@link garabu.garabuServer.scheduler.NotiLogRetentionScheduler} 가 담당합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotiLogRetentionService {
+
+    private final NotiLogArchiveRepository notiLogArchiveRepository;
+
+    /**
+     * before 이전 발송 건을 최대 chunkSize 건 보관 테이블로 이동 (archive 가 false 면 삭제만)
+     *
+     * @return 처리한 발송 건 수
+     */
+    @Transactional(timeout = 60)
+    public int archiveChunk(LocalDateTime before, int chunkSize, boolean archive) {
+        List<Long> noticeNos = notiLogArchiveRepository.findExpiredNoticeNos(before, chunkSize);
+        if (noticeNos.isEmpty()) {
+            return 0;
+        }
+
+        if (archive) {
+            notiLogArchiveRepository.copyToArchive(noticeNos);
+        }
+        int deleted = notiLogArchiveRepository.deleteFromHot(noticeNos);
+        log.debug("푸시 발송 이력 정리 - 발송: {}건, 삭제 행: {}건, 보관: {}", noticeNos.size(), deleted, archive);
+        return noticeNos.size();
+    }
+
+    /**
+     * 보관 테이블에서 before 이전 발송 건을 최대 chunkSize 건 삭제
+     *
+     * @return 삭제한 발송 건 수
+     */
+    @Transactional(timeout = 60)
+    public int purgeArchiveChunk(LocalDateTime before, int chunkSize) {
+        List<Long> noticeNos = notiLogArchiveRepository.findExpiredArchivedNoticeNos(before, chunkSize);
+        notiLogArchiveRepository.deleteFromArchive(noticeNos);
+        return noticeNos.size();
+    }
+}
@@ -0,0 +1,193 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.NotificationDigest;
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.domain.NotificationOutboxType;
+import garabu.garabuServer.domain.NotificationPreference;
+import garabu.garabuServer.repository.LedgerJpaRepository;
+import garabu.garabuServer.repository.MemberJPARepository;
+import garabu.garabuServer.repository.NotificationDigestRepository;
+import garabu.garabuServer.repository.NotificationOutboxRepository;
+import garabu.garabuServer.repository.NotificationPreferenceRepository;
+import garabu.garabuServer.repository.UserBookJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 새 거래 알림 묶음 서비스
+ *
+ * 수신자가 설정한 묶음 시간({@link NotificationPreference#getTransactionDigestSeconds()}) 동안
+ * 같은 가계부에서 발생한 새 거래 알림을 (가계부, 수신자) 단위로 모아 "새 거래 N건" 알림 한 건으로 발송합니다.
+ * 묶음 시간의 첫 알림이 묶음 행과 발송 예약 아웃박스를 만들고, 이후 알림은 DB 에서 건수만 증가시키므로
+ * 여러 인스턴스가 동시에 처리해도 묶음이 나뉘거나 건수가 유실되지 않습니다.
+ * 묶음 시간이 0 인 수신자는 기존처럼 즉시 발송하며, 설정하지 않은 수신자의 기본값도 0(즉시 발송)입니다.
+ *
+ * <p>메트릭: notification.transaction.recipients{delivery=immediate|deferred},
+ * notification.transaction.digests, notification.transaction.digest.size.
+ * deferred - digests 가 줄어든 푸시 발송(알림 발송 이력 행 묶음과 FCM 호출) 수입니다.</p>
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class NotificationDigestService {
+
+    private static final int MAX_WINDOW_SECONDS = 3600;
+
+    private final NotificationDigestRepository digestRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final UserBookJpaRepository userBookJpaRepository;
+    private final LedgerJpaRepository ledgerJpaRepository;
+    private final MemberJPARepository memberRepository;
+    private final PushNotificationService pushNotificationService;
+    private final int defaultWindowSeconds;
+
+    private final Counter immediateCounter;
+    private final Counter deferredCounter;
+    private final Counter digestCounter;
+    private final DistributionSummary digestSize;
+
+    public NotificationDigestService(NotificationDigestRepository digestRepository,
+                                     NotificationOutboxRepository outboxRepository,
+                                     NotificationPreferenceRepository preferenceRepository,
+                                     UserBookJpaRepository userBookJpaRepository,
+                                     LedgerJpaRepository ledgerJpaRepository,
+                                     MemberJPARepository memberRepository,
+                                     PushNotificationService pushNotificationService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.digest.default-window-seconds:0}") int defaultWindowSeconds) {
+        this.digestRepository = digestRepository;
+        this.outboxRepository = outboxRepository;
+        this.preferenceRepository = preferenceRepository;
+        this.userBookJpaRepository = userBookJpaRepository;
+        this.ledgerJpaRepository = ledgerJpaRepository;
+        this.memberRepository = memberRepository;
+        this.pushNotificationService = pushNotificationService;
+        this.defaultWindowSeconds = defaultWindowSeconds;
+        this.immediateCounter = Counter.builder("notification.transaction.recipients")
+                .tag("delivery", "immediate")
+                .description("즉시 발송한 새 거래 알림 수신자 수")
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("notification.transaction.recipients")
+                .tag("delivery", "deferred")
+                .description("묶음으로 미룬 새 거래 알림 수신자 수")
+                .register(meterRegistry);
+        this.digestCounter = Counter.builder("notification.transaction.digests")
+                .description("묶음 시간이 끝나 발송한 새 거래 알림 수")
+                .register(meterRegistry);
+        this.digestSize = DistributionSummary.builder("notification.transaction.digest.size")
+                .description("묶음 알림 한 건에 묶인 새 거래 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 묶음 시간을 설정한 수신자의 알림을 묶음에 추가 (호출한 트랜잭션에 참여)
+     *
+     * @param ledger 새로 추가된 거래 내역
+     * @param authorId 거래를 추가한 사용자 ID
+     * @return 즉시 발송할 수신자 ID 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Long> deferRecipients(Ledger ledger, Long authorId) {
+        Long bookId = ledger.getBook().getId();
+        List<Long> recipientIds = userBookJpaRepository.findByBookId(bookId).stream()
+                .map(ub -> ub.getMember().getId())
+                .filter(memberId -> !memberId.equals(authorId))
+                .toList();
+        if (recipientIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, NotificationPreference> preferences = preferenceRepository.findByMemberIdIn(recipientIds).stream()
+                .collect(Collectors.toMap(preference -> preference.getMember().getId(), Function.identity()));
+
+        List<Long> immediate = new ArrayList<>();
+        for (Long recipientId : recipientIds) {
+            int windowSeconds = windowSeconds(preferences.get(recipientId));
+            if (windowSeconds == 0) {
+                immediate.add(recipientId);
+            } else {
+                accumulate(bookId, recipientId, ledger.getId(), authorId, windowSeconds);
+            }
+        }
+
+        immediateCounter.increment(immediate.size());
+        deferredCounter.increment(recipientIds.size() - immediate.size());
+        return immediate;
+    }
+
+    /**
+     * 묶음 시간이 끝난 묶음 발송 (호출한 트랜잭션에 참여)
+     * 발송하는 동안 묶음 행을 잠그므로 그 사이 들어온 알림은 발송 후 새 묶음으로 시작합니다.
+     * 발송 요청이 성공한 뒤에만 묶음을 삭제하며, 실패하면 예외가 전달되어 묶음은 남고 아웃박스에서 재시도합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void flush(Long digestId) {
+        NotificationDigest digest = digestRepository.findByIdForUpdate(digestId).orElse(null);
+        if (digest == null) {
+            return;
+        }
+
+        send(digest);
+
+        // 발송 요청이 예외 없이 끝난 경우에만 도달
+        digestRepository.delete(digest);
+        digestCounter.increment();
+        digestSize.record(digest.getPendingCount());
+    }
+
+    private void accumulate(Long bookId, Long recipientId, Long ledgerId, Long authorId, int windowSeconds) {
+        // 열린 묶음에 더하거나 새로 여는 것을 한 문장으로 처리 (발송 중인 묶음은 삭제가 커밋된 뒤 새로 열림)
+        if (digestRepository.upsert(bookId, recipientId, ledgerId, authorId) != 1) {
+            return;
+        }
+        Long digestId = digestRepository.lastInsertId();
+        NotificationOutbox outbox = NotificationOutbox.of(NotificationOutboxType.NEW_TRANSACTION_DIGEST, digestId, null);
+        outbox.setNextAttemptAt(outbox.getCreatedAt().plusSeconds(windowSeconds));
+        outboxRepository.save(outbox);
+    }
+
+    private void send(NotificationDigest digest) {
+        if (digest.getPendingCount() == 1 && sendSingle(digest)) {
+            log.debug("묶인 알림이 한 건이라 기존 형식으로 발송 - digestId: {}", digest.getId());
+            return;
+        }
+        pushNotificationService.sendTransactionDigestNotification(
+                digest.getBookId(), digest.getRecipientId(), digest.getPendingCount());
+    }
+
+    private boolean sendSingle(NotificationDigest digest) {
+        Ledger ledger = ledgerJpaRepository.findById(digest.getLastLedgerId()).orElse(null);
+        Member author = memberRepository.findById(digest.getLastActorId()).orElse(null);
+        if (ledger == null || author == null) {
+            return false;
+        }
+        pushNotificationService.sendNewTransactionNotification(ledger, author, List.of(digest.getRecipientId()));
+        return true;
+    }
+
+    private int windowSeconds(NotificationPreference preference) {
+        Integer seconds = preference != null ? preference.getTransactionDigestSeconds() : null;
+        if (seconds == null) {
+            seconds = defaultWindowSeconds;
+        }
+        return Math.max(0, Math.min(seconds, MAX_WINDOW_SECONDS));
+    }
+}
@@ -0,0 +1,158 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.domain.NotificationOutboxStatus;
+import garabu.garabuServer.domain.NotificationOutboxType;
+import garabu.garabuServer.repository.LedgerJpaRepository;
+import garabu.garabuServer.repository.MemberJPARepository;
+import garabu.garabuServer.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 아웃박스 서비스
+ *
+ * 업무 트랜잭션 안에서 알림 요청을 아웃박스 테이블에 기록하고,
+ * 워커({@link garabu.garabuServer.scheduler.NotificationOutboxWorker})가 가져간 항목의 푸시 발송 요청을 등록합니다.
+ * 발송 요청 등록(발송 마스터/대상자 저장 등)에 실패하면 발송 트랜잭션은 롤백되고, 실패는 별도 트랜잭션({@link #recordFailure})에서
+ * 기록하여 지수 백오프로 재시도하며 최대 횟수에 도달하면 FAILED 로 남깁니다.
+ *
+ * <p>실제 FCM 발송은 커밋 이후 {@link FcmPushDispatcher} 가 비동기로 처리하며 결과를 아웃박스에 돌려주지 않습니다.
+ * 따라서 DONE 은 발송 요청이 등록되었다는 뜻이고, FCM 발송 결과(성공/실패, 토큰 만료)는
+ * 발송 대상자(NOTI_SEND_LIST)와 발송 마스터 통계에만 남습니다.</p>
+ * 새 거래 알림은 수신자별 묶음 시간에 따라 {@link NotificationDigestService} 가 묶어서 발송합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final LedgerJpaRepository ledgerJpaRepository;
+    private final MemberJPARepository memberRepository;
+    private final PushNotificationService pushNotificationService;
+    private final NotificationDigestService digestService;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 새 거래 알림 요청 기록 (호출한 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNewTransaction(Ledger ledger) {
+        outboxRepository.save(NotificationOutbox.of(
+                NotificationOutboxType.NEW_TRANSACTION, ledger.getId(), ledger.getMember().getId()));
+    }
+
+    /**
+     * 발송할 항목을 가져가며 PROCESSING 으로 표시
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> claimed = outboxRepository.findClaimable(now, limit);
+        claimed.forEach(outbox -> {
+            outbox.setStatus(NotificationOutboxStatus.PROCESSING);
+            outbox.setClaimedAt(now);
+        });
+        return claimed;
+    }
+
+    /**
+     * 항목 한 건의 발송 요청을 등록한 후 DONE 으로 표시 (워커 스레드, FCM 발송 결과는 기다리지 않음)
+     * 등록에 실패하면 예외를 그대로 던져 발송 중 변경(묶음 삭제 등)을 롤백하며,
+     * 호출한 쪽에서 {@link #recordFailure} 로 실패를 기록해야 합니다.
+     */
+    @Transactional
+    public void process(Long outboxId) {
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != NotificationOutboxStatus.PROCESSING) {
+            return;
+        }
+
+        send(outbox);
+        outbox.setStatus(NotificationOutboxStatus.DONE);
+        outbox.setLastError(null);
+        outbox.setProcessedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 발송 실패 기록 (발송 트랜잭션과 별도의 트랜잭션)
+     * 시도 횟수를 늘리고 재시도를 예약하거나, 최대 횟수에 도달하면 FAILED 로 표시
+     */
+    @Transactional
+    public void recordFailure(Long outboxId, Exception e) {
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != NotificationOutboxStatus.PROCESSING) {
+            return;
+        }
+
+        outbox.setAttempts(outbox.getAttempts() + 1);
+        log.error("아웃박스 알림 발송 실패 - id: {}, type: {}, attempts: {}",
+                outbox.getId(), outbox.getType(), outbox.getAttempts(), e);
+        markFailed(outbox, e);
+    }
+
+    /**
+     * 처리 중 멈춘 항목 복구 및 처리 완료 항목 정리
+     * 멈춘 항목도 한 번의 시도로 세어, 최대 횟수에 도달한 항목은 다시 대기시키지 않고 FAILED 로 표시
+     */
+    @Transactional
+    public void housekeeping(LocalDateTime staleBefore, LocalDateTime processedBefore) {
+        int failed = outboxRepository.failStale(NotificationOutboxStatus.FAILED, NotificationOutboxStatus.PROCESSING,
+                staleBefore, maxAttempts, "처리 시간 초과", LocalDateTime.now());
+        int released = outboxRepository.releaseStale(
+                NotificationOutboxStatus.PENDING, NotificationOutboxStatus.PROCESSING, staleBefore);
+        int deleted = outboxRepository.deleteProcessedBefore(NotificationOutboxStatus.DONE, processedBefore);
+        if (failed > 0 || released > 0 || deleted > 0) {
+            log.info("알림 아웃박스 정리 - 실패: {}건, 재대기: {}건, 삭제: {}건", failed, released, deleted);
+        }
+    }
+
+    private void send(NotificationOutbox outbox) {
+        switch (outbox.getType()) {
+            case NEW_TRANSACTION -> {
+                Ledger ledger = ledgerJpaRepository.findById(outbox.getAggregateId())
+                        .orElseThrow(() -> new IllegalArgumentException("가계부 기록을 찾을 수 없습니다: " + outbox.getAggregateId()));
+                Member author = memberRepository.findById(outbox.getActorId())
+                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + outbox.getActorId()));
+                // 묶음 시간을 설정한 수신자는 묶음에 추가하고 나머지에게만 즉시 발송
+                List<Long> immediate = digestService.deferRecipients(ledger, author.getId());
+                if (!immediate.isEmpty()) {
+                    pushNotificationService.sendNewTransactionNotification(ledger, author, immediate);
+                }
+            }
+            case NEW_TRANSACTION_DIGEST -> digestService.flush(outbox.getAggregateId());
+        }
+    }
+
+    private void markFailed(NotificationOutbox outbox, Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        outbox.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+
+        if (outbox.getAttempts() >= maxAttempts) {
+            outbox.setStatus(NotificationOutboxStatus.FAILED);
+            outbox.setProcessedAt(LocalDateTime.now());
+        } else {
+            // 2, 4, 8, 16... 초 후 재시도
+            outbox.setStatus(NotificationOutboxStatus.PENDING);
+            outbox.setNextAttemptAt(LocalDateTime.now().plusSeconds(1L << outbox.getAttempts()));
+        }
+    }
+}
@@ -59,6 +59,7 @@ public class NotificationService {
         preference.setWeekendAlert(request.getWeekendAlert());
         preference.setQuietHoursStart(request.getQuietHoursStart());
         preference.setQuietHoursEnd(request.getQuietHoursEnd());
+        preference.setTransactionDigestSeconds(request.getTransactionDigestSeconds());
         
         NotificationPreference saved = notificationPreferenceRepository.save(preference);
         
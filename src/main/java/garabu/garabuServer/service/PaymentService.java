@@ -14,8 +14,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,7 +30,7 @@ public class PaymentService {
     private final PaymentJpaRepository paymentJpaRepository;
     private final AssetJpaRepository assetJpaRepository;
 
-    @CacheEvict(value = {"paymentMethodsByBookDto"}, allEntries = true)
+    @CacheEvict(value = "paymentMethodsByBookDto", key = "#payment.book.id", condition = "#payment.book != null")
     public Long registPayment(PaymentMethod payment){
 
         paymentJpaRepository.save(payment);
@@ -51,7 +53,7 @@ public class PaymentService {
     }
 
     // 가계부별 결제수단 조회 (DTO 반환)
-    @Cacheable(value = "paymentMethodsByBookDto", key = "#book.id", unless = "#result == null or #result.isEmpty()")
+    @Cacheable(value = "paymentMethodsByBookDto", key = "#book.id", sync = true)
     public List<PaymentMethodDto> findByBookDto(Book book) {
         List<PaymentMethod> entities = paymentJpaRepository.findByBook(book);
         return entities.stream()
@@ -84,22 +86,46 @@ public class PaymentService {
         return paymentJpaRepository.findByBookAndPayment(book, payment);
     }
 
+    // 가계부별 결제수단 조회 (연결 자산 포함, 일괄 처리용)
+    public List<PaymentMethod> findByBookWithAsset(Book book) {
+        return paymentJpaRepository.findWithAssetByBook(book);
+    }
+
+    // 결제수단 조회 (연결 자산 포함)
+    public PaymentMethod findByIdWithAsset(Long id) {
+        return paymentJpaRepository.findWithAssetById(id)
+                .orElseThrow(() -> new RuntimeException("PaymentMethod not found"));
+    }
+
     // 가계부별 결제수단 생성
     @Transactional(rollbackFor = Exception.class, timeout = 15)
     @CacheEvict(value = {"paymentMethodsByBookDto"}, key = "#book.id")
     public Long createPaymentForBook(Book book, String paymentName) {
-        // 1. 자산 생성
+        PaymentMethod payment = newPaymentForBook(book, paymentName);
+        assetJpaRepository.save(payment.getAsset());
+        paymentJpaRepository.save(payment);
+        return payment.getId();
+    }
+
+    // 저장하지 않은 결제수단 생성 (자산과 연결, 가져오기 배치에서 기록과 함께 저장)
+    public PaymentMethod newPaymentForBook(Book book, String paymentName) {
         Asset asset = new Asset(paymentName, determineAssetType(paymentName), 0L, book);
-        assetJpaRepository.save(asset);
-        
-        // 2. 결제수단 생성 (자산과 연결)
+
         PaymentMethod payment = new PaymentMethod();
         payment.setPayment(paymentName);
         payment.setBook(book);
         payment.setAsset(asset);
-        paymentJpaRepository.save(payment);
-        
-        return payment.getId();
+        return payment;
+    }
+
+    // 새 결제수단 저장 (호출한 트랜잭션에 참여하여 롤백 시 함께 취소)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @CacheEvict(value = {"paymentMethodsByBookDto"}, key = "#book.id")
+    public void saveNewPayments(Book book, Collection<PaymentMethod> payments) {
+        for (PaymentMethod payment : payments) {
+            assetJpaRepository.save(payment.getAsset());
+            paymentJpaRepository.save(payment);
+        }
     }
     
     // 결제수단명으로 자산 타입 결정
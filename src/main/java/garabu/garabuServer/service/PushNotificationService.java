@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -40,50 +41,92 @@ public class PushNotificationService {
      */
     @Transactional(readOnly = true)
     public void sendNewTransactionNotification(Ledger ledger, Member author) {
-        try {
-            Book book = bookRepository.findById(ledger.getBook().getId())
-                .orElseThrow(() -> new IllegalArgumentException("가계부를 찾을 수 없습니다."));
-            
-            // 가계부 멤버들 조회 (작성자 제외)
-            List<UserBook> bookMembers = userBookJpaRepository.findByBookId(ledger.getBook().getId())
-                .stream()
-                .filter(ub -> !ub.getMember().getId().equals(author.getId()))
-                .collect(Collectors.toList());
-            
-            if (bookMembers.isEmpty()) {
-                log.info("알림 대상자가 없습니다. BookId: {}", ledger.getBook().getId());
-                return;
-            }
-            
-            String userIds = bookMembers.stream()
-                .map(ub -> String.valueOf(ub.getMember().getId()))
-                .collect(Collectors.joining(","));
-            
-            String transactionType = ledger.getAmountType() == garabu.garabuServer.domain.AmountType.INCOME ? "수입" : "지출";
-            String title = String.format("새 %s 추가", transactionType);
-            String body = String.format("%s님이 \"%s\" 가계부에 새 %s을 추가했습니다: %s (₩%,d)", 
-                author.getName(), book.getTitle(), transactionType, ledger.getDescription(), ledger.getAmount());
-            
-            FcmSendRequestDTO request = FcmSendRequestDTO.builder()
-                .appId(APP_ID)
-                .noticeTitle(title)
-                .noticeBody(body)
-                .noticeAction(String.format("transaction:%d:%d", ledger.getBook().getId(), ledger.getId()))
-                .userId(String.valueOf(author.getId()))
-                .userNm(author.getName())
-                .pushUse("Y")
-                .smsUse("N")
-                .webUse("N")
-                .userNmAt("N")
-                .sendUserList(userIds)
-                .build();
-            
-            fcmSendService.sendPush(request);
-            log.info("새 거래 알림 발송 완료. BookId: {}, UserCount: {}", ledger.getBook().getId(), bookMembers.size());
-            
-        } catch (Exception e) {
-            log.error("새 거래 알림 발송 실패", e);
+        // 가계부 멤버들 조회 (작성자 제외)
+        List<Long> recipientIds = userBookJpaRepository.findByBookId(ledger.getBook().getId())
+            .stream()
+            .map(ub -> ub.getMember().getId())
+            .filter(memberId -> !memberId.equals(author.getId()))
+            .collect(Collectors.toList());
+        sendNewTransactionNotification(ledger, author, recipientIds);
+    }
+    
+    /**
+     * 새 거래 내역 추가 알림 (지정한 수신자에게만)
+     * 아웃박스에서 재시도할 수 있도록 발송 요청 실패는 예외로 전달합니다.
+     * 
+     * @param ledger 새로 추가된 거래 내역
+     * @param author 거래를 추가한 사용자
+     * @param recipientIds 알림 대상 사용자 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public void sendNewTransactionNotification(Ledger ledger, Member author, Collection<Long> recipientIds) {
+        if (recipientIds.isEmpty()) {
+            log.info("알림 대상자가 없습니다. BookId: {}", ledger.getBook().getId());
+            return;
         }
+        
+        Book book = bookRepository.findById(ledger.getBook().getId())
+            .orElseThrow(() -> new IllegalArgumentException("가계부를 찾을 수 없습니다."));
+        
+        String userIds = recipientIds.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+        
+        String transactionType = ledger.getAmountType() == garabu.garabuServer.domain.AmountType.INCOME ? "수입" : "지출";
+        String title = String.format("새 %s 추가", transactionType);
+        String body = String.format("%s님이 \"%s\" 가계부에 새 %s을 추가했습니다: %s (₩%,d)", 
+            author.getName(), book.getTitle(), transactionType, ledger.getDescription(), ledger.getAmount());
+        
+        FcmSendRequestDTO request = FcmSendRequestDTO.builder()
+            .appId(APP_ID)
+            .noticeTitle(title)
+            .noticeBody(body)
+            .noticeAction(String.format("transaction:%d:%d", ledger.getBook().getId(), ledger.getId()))
+            .userId(String.valueOf(author.getId()))
+            .userNm(author.getName())
+            .pushUse("Y")
+            .smsUse("N")
+            .webUse("N")
+            .userNmAt("N")
+            .sendUserList(userIds)
+            .build();
+        
+        fcmSendService.sendPush(request);
+        log.info("새 거래 알림 발송 완료. BookId: {}, UserCount: {}", ledger.getBook().getId(), recipientIds.size());
+    }
+    
+    /**
+     * 묶음 시간 동안 쌓인 새 거래 알림을 한 건으로 전송
+     * 아웃박스에서 재시도할 수 있도록 발송 요청 실패는 예외로 전달합니다.
+     * 
+     * @param bookId 가계부 ID
+     * @param recipientId 수신자 ID
+     * @param count 묶인 거래 수
+     */
+    @Transactional(readOnly = true)
+    public void sendTransactionDigestNotification(Long bookId, Long recipientId, int count) {
+        Book book = bookRepository.findById(bookId)
+            .orElseThrow(() -> new IllegalArgumentException("가계부를 찾을 수 없습니다."));
+        
+        String title = String.format("새 거래 %d건", count);
+        String body = String.format("\"%s\" 가계부에 새 거래 %d건이 추가되었습니다.", book.getTitle(), count);
+        
+        FcmSendRequestDTO request = FcmSendRequestDTO.builder()
+            .appId(APP_ID)
+            .noticeTitle(title)
+            .noticeBody(body)
+            .noticeAction("open_book_detail")
+            .userId("system")
+            .userNm("시스템")
+            .pushUse("Y")
+            .smsUse("N")
+            .webUse("N")
+            .userNmAt("N")
+            .sendUserList(String.valueOf(recipientId))
+            .build();
+        
+        fcmSendService.sendPush(request);
+        log.info("새 거래 묶음 알림 발송 완료. BookId: {}, Recipient: {}, Count: {}", bookId, recipientId, count);
     }
     
     /**
@@ -0,0 +1,225 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.domain.Category;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.PaymentMethod;
+import garabu.garabuServer.domain.RecurringTransaction;
+import garabu.garabuServer.repository.RecurringExecutionRepository;
+import garabu.garabuServer.repository.RecurringTransactionRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 반복거래 자동 실행 서비스
+ *
+ * 실행일이 된 반복거래를 청크 단위로 점유(SELECT ... FOR UPDATE SKIP LOCKED + 점유 만료 시각)하고,
+ * 청크마다 하나의 트랜잭션으로 밀린 회차까지 기록을 생성합니다. 실행된 거래는 다음 실행일이 갱신되고 점유가 해제되므로
+ * 여러 인스턴스가 동시에 실행되어도 중복 생성하지 않으며, 중단된 실행은 점유 만료 후 이어서 처리됩니다.
+ * 실행 스케줄과 병렬 처리는 {@link garabu.garabuServer.scheduler.RecurringTransactionScheduler} 가 담당합니다.
+ *
+ * @author yhj
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecurringTransactionExecutionService {
+
+    // 한 번의 실행에서 반복거래 하나당 생성하는 최대 회차 수 (남은 회차는 다음 점유에서 이어서 생성)
+    private static final int MAX_OCCURRENCES_PER_RUN = 100;
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final RecurringExecutionRepository recurringExecutionRepository;
+    private final LedgerService ledgerService;
+    private final CategoryService categoryService;
+    private final PaymentService paymentService;
+
+    /**
+     * 실행 결과 (커밋 후 알림 발송용)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ExecutedTransaction {
+        private final Long transactionId;
+        private final int occurrences;
+        private final Long memberId;
+        private final String name;
+        private final Integer amount;
+    }
+
+    /**
+     * 실행일이 된(지난 것 포함) 반복거래를 최대 limit 건 점유
+     *
+     * @param resumeOnly true 면 중단된 실행기가 점유한 채 만료된 거래만 점유
+     * @return 점유한 반복거래 ID 목록
+     */
+    @Transactional
+    public List<Long> claim(LocalDate date, String runnerId, int limit, Duration lease, boolean resumeOnly) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RecurringTransaction> claimed = resumeOnly
+                ? recurringTransactionRepository.findExpiredClaims(date, now, limit)
+                : recurringTransactionRepository.findClaimable(date, now, limit);
+
+        List<Long> ids = new ArrayList<>(claimed.size());
+        for (RecurringTransaction transaction : claimed) {
+            transaction.setClaimedBy(runnerId);
+            transaction.setClaimedUntil(now.plus(lease));
+            ids.add(transaction.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * 점유한 반복거래를 한 트랜잭션으로 실행
+     * 마지막 실행 이후 밀린 회차를 모두 계산해 청크 전체의 기록을 한 번에 저장하고,
+     * (반복거래, 회차) 유니크 키가 있는 실행 기록을 함께 남겨 같은 회차가 두 번 생성되지 않게 합니다.
+     * 하나라도 실패하면 청크 전체가 롤백되며, 호출 측에서 건별로 다시 실행해 실패 건을 분리합니다.
+     *
+     * @return 실행된 거래 목록 (밀린 회차가 없어 종료만 된 거래는 제외)
+     */
+    @Transactional(rollbackFor = Exception.class, timeout = 60)
+    public List<ExecutedTransaction> executeChunk(List<Long> ids, String runnerId) {
+        List<RecurringTransaction> transactions = recurringTransactionRepository.findClaimedWithBook(ids, runnerId);
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, List<LocalDate>> occurrences = new LinkedHashMap<>();
+        for (RecurringTransaction transaction : transactions) {
+            occurrences.put(transaction.getId(), transaction.pendingOccurrences(today, MAX_OCCURRENCES_PER_RUN));
+        }
+
+        // 재시도 등으로 이미 실행된 회차는 제외
+        LocalDate from = transactions.stream()
+                .map(RecurringTransaction::getNextExecutionDate)
+                .min(LocalDate::compareTo)
+                .orElse(today);
+        Set<String> executedKeys = recurringExecutionRepository.findExecutedKeys(occurrences.keySet(), from);
+        Map<Long, List<LocalDate>> pending = new LinkedHashMap<>();
+        occurrences.forEach((id, dates) -> pending.put(id, dates.stream()
+                .filter(date -> !executedKeys.contains(RecurringExecutionRepository.key(id, date)))
+                .toList()));
+
+        // 같은 가계부의 기본 카테고리/결제수단은 청크 안에서 한 번만 조회
+        Map<String, Category> categories = new HashMap<>();
+        Map<Long, PaymentMethod> paymentMethods = new HashMap<>();
+
+        List<Ledger> ledgers = new ArrayList<>();
+        List<ExecutedTransaction> executed = new ArrayList<>(transactions.size());
+        for (RecurringTransaction transaction : transactions) {
+            if (!Boolean.TRUE.equals(transaction.getAutoCreate())) {
+                // 점유 후 자동 생성을 끈 거래는 기록을 만들지 않고 점유만 해제
+                transaction.setClaimedBy(null);
+                transaction.setClaimedUntil(null);
+                pending.remove(transaction.getId());
+                continue;
+            }
+
+            List<LocalDate> dates = pending.get(transaction.getId());
+            for (LocalDate date : dates) {
+                ledgers.add(createLedger(transaction, date, categories, paymentMethods));
+            }
+
+            // 이미 실행된 회차도 다음 실행일 계산에는 포함
+            transaction.markExecuted(occurrences.get(transaction.getId()));
+            transaction.setClaimedBy(null);
+            transaction.setClaimedUntil(null);
+
+            if (!dates.isEmpty()) {
+                executed.add(new ExecutedTransaction(transaction.getId(), dates.size(),
+                        transaction.getBook().getOwner().getId(),
+                        transaction.getName(), transaction.getAmount().intValue()));
+            }
+        }
+
+        // 실행 기록을 먼저 저장해 같은 회차가 동시에 실행되면 유니크 키 위반으로 청크를 롤백
+        recurringExecutionRepository.insertAll(pending);
+        if (!ledgers.isEmpty()) {
+            ledgerService.registLedgers(ledgers);
+        }
+
+        log.info("반복거래 청크 실행 완료: 거래 {}건, 생성 기록 {}건", executed.size(), ledgers.size());
+        return executed;
+    }
+
+    /**
+     * 실행에 실패한 반복거래의 점유 해제 (retryAfter 이전에는 다시 점유하지 않음)
+     */
+    @Transactional
+    public void releaseFailed(Long id, String runnerId, LocalDateTime retryAfter) {
+        recurringTransactionRepository.releaseFailed(id, runnerId, retryAfter);
+    }
+
+    private Ledger createLedger(RecurringTransaction transaction, LocalDate date,
+                                Map<String, Category> categories,
+                                Map<Long, PaymentMethod> paymentMethods) {
+        Book book = transaction.getBook();
+        Member member = book.getOwner(); // 가계부 소유자를 거래 생성자로 사용
+
+        // 반복거래에 지정된 카테고리/결제수단 사용, 없으면 기본값 (수입: 급여, 지출: 기타 / 현금)
+        Category category = transaction.getCategory();
+        if (category == null) {
+            String categoryName = transaction.getAmountType() == AmountType.INCOME ? "급여" : "기타";
+            category = categories.computeIfAbsent(
+                    book.getId() + ":" + transaction.getAmountType(),
+                    key -> findDefaultCategory(book, categoryName));
+        }
+        PaymentMethod paymentMethod = transaction.getPaymentMethod();
+        if (paymentMethod == null) {
+            paymentMethod = paymentMethods.computeIfAbsent(book.getId(),
+                    key -> findDefaultPaymentMethod(book));
+        }
+
+        Ledger ledger = new Ledger();
+        ledger.setDate(date);
+        ledger.setAmount(transaction.getAmount().longValue());
+        ledger.setDescription(transaction.getName());
+        ledger.setMemo("반복거래 자동 실행");
+        ledger.setAmountType(transaction.getAmountType());
+        ledger.setMember(member);
+        ledger.setBook(book);
+        ledger.setCategory(category);
+        ledger.setPaymentMethod(paymentMethod);
+        ledger.setSpender(member.getName());
+        return ledger;
+    }
+
+    private Category findDefaultCategory(Book book, String categoryName) {
+        Category category = categoryService.findByBookAndCategory(book, categoryName);
+        if (category != null) {
+            return category;
+        }
+        // 카테고리가 없으면 첫 번째 카테고리 사용
+        return categoryService.findByBook(book).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("가계부에 카테고리가 없습니다"));
+    }
+
+    private PaymentMethod findDefaultPaymentMethod(Book book) {
+        PaymentMethod paymentMethod = paymentService.findByBookAndPayment(book, "현금");
+        if (paymentMethod != null) {
+            return paymentMethod;
+        }
+        // 결제수단이 없으면 첫 번째 결제수단 사용
+        return paymentService.findByBook(book).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("가계부에 결제수단이 없습니다"));
+    }
+}
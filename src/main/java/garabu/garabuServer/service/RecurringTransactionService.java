@@ -7,7 +7,6 @@ import garabu.garabuServer.exception.BookNotFoundException;
 import garabu.garabuServer.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +23,13 @@ public class RecurringTransactionService {
     
     private final RecurringTransactionRepository recurringTransactionRepository;
     private final BookRepository bookRepository;
-    private final UserBookJpaRepository userBookRepository;
+    private final BookAccessCache bookAccessCache;
     private final LedgerJpaRepository ledgerRepository;
     private final CategoryJpaRepository categoryRepository;
     private final PaymentJpaRepository paymentRepository;
     private final AssetJpaRepository assetRepository;
     private final MemberService memberService;
+    private final LedgerSummaryService ledgerSummaryService;
     
     @Transactional
     public RecurringTransactionResponse create(Long bookId, CreateRecurringTransactionRequest request) {
@@ -222,35 +222,6 @@ public class RecurringTransactionService {
                 .collect(Collectors.toList());
     }
     
-    // 매일 자정에 실행되는 스케줄러
-    @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
-    public void executeScheduledTransactions() {
-        log.info("반복 거래 자동 실행 시작");
-        
-        LocalDate today = LocalDate.now();
-        List<RecurringTransaction> dueTransactions = recurringTransactionRepository
-                .findAutoCreateDueTransactions(today);
-        
-        for (RecurringTransaction transaction : dueTransactions) {
-            try {
-                // 가계부 소유자를 실행자로 설정
-                Member owner = transaction.getBook().getOwner();
-                Ledger ledger = createLedgerFromRecurring(transaction, today, owner);
-                
-                transaction.execute();
-                recurringTransactionRepository.save(transaction);
-                
-                log.info("반복 거래 자동 실행 완료: {} -> Ledger ID: {}", 
-                        transaction.getName(), ledger.getId());
-            } catch (Exception e) {
-                log.error("반복 거래 자동 실행 실패: {}", transaction.getName(), e);
-            }
-        }
-        
-        log.info("반복 거래 자동 실행 종료");
-    }
-    
     private Ledger createLedgerFromRecurring(RecurringTransaction transaction, LocalDate date, Member member) {
         Ledger ledger = new Ledger();
         ledger.setMember(member);
@@ -264,12 +235,14 @@ public class RecurringTransactionService {
         ledger.setMemo("반복 거래: " + transaction.getDescription());
         ledger.setSpender(member.getUsername());
         
-        return ledgerRepository.save(ledger);
+        Ledger savedLedger = ledgerRepository.save(ledger);
+        ledgerSummaryService.recordCreated(savedLedger);
+        return savedLedger;
     }
     
     private void checkBookAccess(Book book, Member member) {
-        boolean hasAccess = userBookRepository.findByBookIdAndMemberId(book.getId(), member.getId())
-                .map(userBook -> !userBook.getBookRole().equals(BookRole.VIEWER))
+        boolean hasAccess = bookAccessCache.findRole(book.getId(), member.getId())
+                .map(role -> role != BookRole.VIEWER)
                 .orElse(false);
         
         if (!hasAccess) {
@@ -0,0 +1,63 @@
+package garabu.garabuServer.service;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 캐시
+ *
+ * 현재 HTTP 요청의 attribute 에 조회 결과를 보관하여 한 요청 안에서 같은 조회를 반복하지 않습니다.
+ * 요청 밖(스케줄러, 워커 스레드)에서는 캐시하지 않고 매번 loader 를 호출합니다.
+ */
+final class RequestScopedCache {
+
+    private static final String ATTRIBUTE = RequestScopedCache.class.getName();
+
+    private RequestScopedCache() {
+    }
+
+    /**
+     * 요청 캐시 조회, 없으면 loader 결과를 저장 후 반환 (null 도 저장)
+     */
+    @SuppressWarnings("unchecked")
+    static <V> V get(String key, Supplier<V> loader) {
+        Map<String, Object> cache = currentCache(true);
+        if (cache == null) {
+            return loader.get();
+        }
+        if (cache.containsKey(key)) {
+            return (V) cache.get(key);
+        }
+        V value = loader.get();
+        cache.put(key, value);
+        return value;
+    }
+
+    /**
+     * 현재 요청 캐시에서 제거
+     */
+    static void evict(String key) {
+        Map<String, Object> cache = currentCache(false);
+        if (cache != null) {
+            cache.remove(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> currentCache(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Object> cache = (Map<String, Object>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null && create) {
+            cache = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,112 @@
+package garabu.garabuServer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 미리 인코딩된 SSE 프레임
+ *
+ * <p>id:/event:/data: 라인을 한 번만 직렬화한 불변 바이트 배열입니다.
+ * 같은 이벤트를 여러 구독자에게 보낼 때 구독자마다 Jackson 직렬화를 반복하지 않고
+ * 이 프레임을 그대로 각 연결에 씁니다. (byte[] 는 ByteArrayHttpMessageConverter 로 그대로 기록)</p>
+ *
+ * <p>{@link SseEmitter.SseEventBuilder} 를 구현하므로 {@link SseEmitter#send(SseEmitter.SseEventBuilder)}
+ * 및 {@link SseOutboundQueue} 에 그대로 넣을 수 있으며, 여러 번 build 해도 같은 결과를 반환합니다.</p>
+ */
+public final class SseFrame implements SseEmitter.SseEventBuilder {
+
+    private static final MediaType TEXT_PLAIN = new MediaType("text", "plain", StandardCharsets.UTF_8);
+
+    private final byte[] bytes;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> payload;
+
+    private SseFrame(String text) {
+        this.bytes = text.getBytes(StandardCharsets.UTF_8);
+        this.payload = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, TEXT_PLAIN));
+    }
+
+    /**
+     * 이벤트 프레임 생성 (data는 JSON으로 한 번만 직렬화)
+     *
+     * @param id SSE id (null이면 생략)
+     * @param name SSE event 이름 (null이면 생략)
+     */
+    public static SseFrame of(String id, String name, Object data, ObjectMapper objectMapper) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("SSE 이벤트 직렬화에 실패했습니다.", e);
+        }
+
+        StringBuilder sb = new StringBuilder(json.length() + 64);
+        if (id != null) {
+            sb.append("id:").append(id).append('\n');
+        }
+        if (name != null) {
+            sb.append("event:").append(name).append('\n');
+        }
+        // 여러 줄 데이터는 줄마다 data: 로 나눠야 함
+        for (String line : json.split("\n", -1)) {
+            sb.append("data:").append(line).append('\n');
+        }
+        sb.append('\n');
+        return new SseFrame(sb.toString());
+    }
+
+    /**
+     * 주석 프레임 생성 (heartbeat 등)
+     */
+    public static SseFrame comment(String comment) {
+        return new SseFrame(":" + comment + "\n\n");
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    @Override
+    public Set<ResponseBodyEmitter.DataWithMediaType> build() {
+        return payload;
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder id(String id) {
+        throw immutable();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder name(String eventName) {
+        throw immutable();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+        throw immutable();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder comment(String comment) {
+        throw immutable();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder data(Object object) {
+        throw immutable();
+    }
+
+    @Override
+    public SseEmitter.SseEventBuilder data(Object object, MediaType mediaType) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("인코딩된 SSE 프레임은 수정할 수 없습니다.");
+    }
+}
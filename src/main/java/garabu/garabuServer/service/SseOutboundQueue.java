@@ -0,0 +1,183 @@
+package garabu.garabuServer.service;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결별 송신 큐
+ *
+ * <p>이벤트 발행 스레드(Redis 리스너, 스케줄러)는 큐에 넣기만 하고 즉시 반환하며,
+ * 실제 {@link SseEmitter#send} 는 연결마다 하나의 드레인 작업(가상 스레드)이 순서대로 수행합니다.
+ * 느린 클라이언트는 자기 큐만 채우고 다른 구독자나 Redis 리스너 스레드를 막지 않습니다.</p>
+ *
+ * <p>큐가 가득 찼을 때의 정책</p>
+ * <ul>
+ *   <li>DROP_OLDEST: 가장 오래된 이벤트를 버리고 새 이벤트를 추가</li>
+ *   <li>COALESCE: 밀린 이벤트를 모두 버리고 "resync" 이벤트 하나로 대체 (클라이언트는 목록 재조회)</li>
+ *   <li>DISCONNECT: 연결을 종료 (클라이언트는 Last-Event-ID로 재연결)</li>
+ * </ul>
+ */
+@Slf4j
+public class SseOutboundQueue {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, COALESCE, DISCONNECT
+    }
+
+    public static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Executor executor;
+    private final Counter droppedCounter;
+    private final Runnable onClose;
+
+    private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public SseOutboundQueue(SseEmitter emitter, int capacity, OverflowPolicy policy,
+                            Executor executor, Counter droppedCounter, Runnable onClose) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.executor = executor;
+        this.droppedCounter = droppedCounter;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 이벤트를 큐에 넣고 드레인을 예약합니다. 호출 스레드는 블로킹되지 않습니다.
+     *
+     * @return 큐에 들어갔으면 true, 연결이 종료되었거나 종료시켰으면 false
+     */
+    public boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+
+        boolean disconnect = false;
+        synchronized (queue) {
+            if (queue.size() >= capacity) {
+                switch (policy) {
+                    case DROP_OLDEST -> {
+                        queue.pollFirst();
+                        droppedCounter.increment();
+                    }
+                    case COALESCE -> {
+                        droppedCounter.increment(queue.size());
+                        queue.clear();
+                        queue.addLast(resyncEvent("backlog"));
+                    }
+                    case DISCONNECT -> disconnect = true;
+                }
+            }
+            if (!disconnect) {
+                queue.addLast(event);
+            }
+        }
+
+        if (disconnect) {
+            log.warn("SSE 송신 큐 초과로 연결 종료 (capacity={})", capacity);
+            droppedCounter.increment();
+            terminate();
+            emitter.complete();
+            return false;
+        }
+
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 현재 큐에 쌓인 이벤트 수
+     */
+    public int depth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * 큐를 닫고 남은 이벤트를 버립니다. (여러 번 호출해도 안전)
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            synchronized (queue) {
+                queue.clear();
+            }
+        }
+    }
+
+    /**
+     * 전송 실패/정책에 의한 종료: 큐를 닫고 연결 정리 콜백을 한 번만 호출합니다.
+     */
+    private void terminate() {
+        if (closed.compareAndSet(false, true)) {
+            synchronized (queue) {
+                queue.clear();
+            }
+            onClose.run();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                log.error("SSE 드레인 작업 예약 실패", e);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder next;
+            while (!closed.get() && (next = poll()) != null) {
+                emitter.send(next);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 이벤트 전송 실패: {}", e.getMessage());
+            terminate();
+            return;
+        } finally {
+            draining.set(false);
+        }
+
+        // 드레인 종료 직전에 들어온 이벤트가 있으면 다시 예약
+        if (!closed.get() && depth() > 0) {
+            scheduleDrain();
+        }
+    }
+
+    private SseEmitter.SseEventBuilder poll() {
+        synchronized (queue) {
+            return queue.pollFirst();
+        }
+    }
+
+    /**
+     * 클라이언트에 목록 재조회를 요청하는 이벤트
+     *
+     * @param reason backlog(송신 큐 초과), gap(이벤트 로그에서 놓친 구간을 찾을 수 없음)
+     */
+    static SseEmitter.SseEventBuilder resyncEvent(String reason) {
+        return SseEmitter.event()
+                .name(RESYNC_EVENT)
+                .data(Map.of(
+                        "reason", reason,
+                        "timestamp", System.currentTimeMillis()
+                ));
+    }
+}
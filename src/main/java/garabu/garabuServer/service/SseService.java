@@ -1,19 +1,32 @@
 package garabu.garabuServer.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import garabu.garabuServer.domain.UserBook;
+import garabu.garabuServer.event.BookEvent;
+import garabu.garabuServer.event.BookEventLog;
+import garabu.garabuServer.event.SseTopicSubscriptionManager;
 import garabu.garabuServer.service.UserBookService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -21,8 +34,25 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public class SseService {
     
     private static final Long DEFAULT_TIMEOUT = 30 * 60 * 1000L; // 30분
+    private static final SseFrame HEARTBEAT_FRAME = SseFrame.comment("heartbeat");
     private final ObjectMapper objectMapper;
     private final UserBookService userBookService;
+    // Redis 리스너 → SseService 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<SseTopicSubscriptionManager> subscriptionManagerProvider;
+    private final MeterRegistry meterRegistry;
+    private final BookEventLog bookEventLog;
+    
+    // 연결별 송신 큐 설정
+    @Value("${sse.outbound.queue-capacity:256}")
+    private int queueCapacity;
+    
+    @Value("${sse.outbound.overflow-policy:DROP_OLDEST}")
+    private SseOutboundQueue.OverflowPolicy overflowPolicy;
+    
+    // 송신 큐 드레인 작업 실행기 (연결당 하나의 가상 스레드가 순서대로 전송)
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    private Counter droppedCounter;
     
     // 가계부별 구독자 관리 (bookId -> List<EmitterInfo>)
     private final Map<Long, CopyOnWriteArrayList<EmitterInfo>> emitters = new ConcurrentHashMap<>();
@@ -30,13 +60,38 @@ public class SseService {
     // 사용자별 구독 관리 (userId -> List<EmitterInfo>)
     private final Map<Long, CopyOnWriteArrayList<EmitterInfo>> userEmitters = new ConcurrentHashMap<>();
     
+    // Redis 채널을 구독 중인 가계부/사용자 (로컬 구독자 유무와 맞추어 구독/해제)
+    private final Set<Long> subscribedBooks = ConcurrentHashMap.newKeySet();
+    private final Set<Long> subscribedUsers = ConcurrentHashMap.newKeySet();
+    
+    // 같은 채널의 구독/해제가 순서가 뒤바뀌어 실행되지 않도록 채널별로 직렬화
+    private final Object[] subscriptionLocks = newLocks(64);
+    
+    @PostConstruct
+    void registerMetrics() {
+        droppedCounter = Counter.builder("sse.outbound.dropped")
+            .tag("policy", overflowPolicy.name())
+            .description("송신 큐 초과로 버려진 SSE 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("sse.outbound.queue.depth", this, SseService::totalQueueDepth)
+            .description("전체 SSE 송신 큐에 쌓인 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("sse.outbound.queue.depth.max", this, SseService::maxQueueDepth)
+            .description("가장 많이 밀린 SSE 연결의 송신 큐 길이")
+            .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+    
     /**
      * SSE 구독
      */
     public SseEmitter subscribe(Long bookId, Long userId, String lastEventId) {
         // 사용자의 가계부 접근 권한 확인
-        Optional<UserBook> userBook = userBookService.findByBookIdAndMemberId(bookId, userId);
-        if (userBook.isEmpty()) {
+        if (userBookService.findRole(bookId, userId).isEmpty()) {
             log.error("SSE 구독 실패 - 권한 없음: 사용자 {}, 가계부 {}", userId, bookId);
             SseEmitter emitter = new SseEmitter(0L);
             emitter.completeWithError(new IllegalStateException("해당 가계부에 접근 권한이 없습니다."));
@@ -46,11 +101,20 @@ public class SseService {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
         EmitterInfo emitterInfo = new EmitterInfo(emitter, bookId, userId);
         
-        // 가계부별 구독자 추가
-        emitters.computeIfAbsent(bookId, k -> new CopyOnWriteArrayList<>()).add(emitterInfo);
+        // 재연결이면 재전송이 끝날 때까지 실시간 이벤트를 보류 (순서 보장)
+        if (lastEventId != null) {
+            emitterInfo.beginReplay();
+        }
         
-        // 사용자별 구독 추가
-        userEmitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitterInfo);
+        // 가계부별/사용자별 구독자 추가 (첫 구독자이거나 이전 구독이 실패했으면 compute 밖에서 채널 구독)
+        if (addSubscriber(emitters, bookId, emitterInfo) || !subscribedBooks.contains(bookId)) {
+            syncSubscription(bookId, emitters, subscribedBooks,
+                subscriptionManager()::subscribeBook, subscriptionManager()::unsubscribeBook);
+        }
+        if (addSubscriber(userEmitters, userId, emitterInfo) || !subscribedUsers.contains(userId)) {
+            syncSubscription(userId, userEmitters, subscribedUsers,
+                subscriptionManager()::subscribeUser, subscriptionManager()::unsubscribeUser);
+        }
         
         // 콜백 설정
         emitter.onCompletion(() -> removeEmitter(emitterInfo));
@@ -58,50 +122,68 @@ public class SseService {
         emitter.onError((e) -> removeEmitter(emitterInfo));
         
         // 초기 연결 이벤트 전송
-        try {
-            emitter.send(SseEmitter.event()
-                .name("connected")
-                .data(Map.of(
-                    "message", "SSE 연결 성공",
-                    "bookId", bookId,
-                    "userId", userId
-                )));
-        } catch (IOException e) {
-            log.error("초기 이벤트 전송 실패", e);
-            removeEmitter(emitterInfo);
-        }
+        emitterInfo.outbound.offer(SseEmitter.event()
+            .name("connected")
+            .data(Map.of(
+                "message", "SSE 연결 성공",
+                "bookId", bookId,
+                "userId", userId
+            )));
         
         // lastEventId가 있으면 놓친 이벤트 재전송
         if (lastEventId != null) {
-            // TODO: 이벤트 저장소에서 놓친 이벤트 조회 및 전송
+            replayMissedEvents(emitterInfo, lastEventId);
         }
         
         return emitter;
     }
     
+    /**
+     * 이벤트 로그에서 lastEventId 이후 이벤트만 재전송
+     * 로그가 이미 압축되어 놓친 구간을 알 수 없으면 resync 이벤트로 재조회를 요청
+     */
+    private void replayMissedEvents(EmitterInfo emitterInfo, String lastEventId) {
+        List<SseEmitter.SseEventBuilder> replayed = new ArrayList<>();
+        String watermark = BookEventLog.isValidId(lastEventId) ? lastEventId : null;
+        
+        try {
+            BookEventLog.Replay replay = bookEventLog.readAfter(emitterInfo.bookId, lastEventId);
+            if (replay.isGap()) {
+                replayed.add(SseOutboundQueue.resyncEvent("gap"));
+            } else {
+                for (BookEventLog.Entry entry : replay.getEntries()) {
+                    BookEvent event = entry.getEvent();
+                    replayed.add(bookEventFrame(entry.getId(), event.getEventType(), event, event.getTimestamp()));
+                    watermark = entry.getId();
+                }
+            }
+            log.debug("SSE 이벤트 재전송 - 가계부: {}, lastEventId: {}, 건수: {}, gap: {}",
+                emitterInfo.bookId, lastEventId, replay.getEntries().size(), replay.isGap());
+        } catch (Exception e) {
+            log.error("SSE 이벤트 재전송 실패 - 가계부: {}", emitterInfo.bookId, e);
+            replayed.add(SseOutboundQueue.resyncEvent("gap"));
+        }
+        
+        emitterInfo.finishReplay(replayed, watermark);
+    }
+    
     /**
      * 가계부 업데이트 이벤트 전송
+     *
+     * @param eventId 이벤트 로그 ID (SSE id 필드, 로그 기록 실패 시 null)
      */
-    public void sendBookUpdateEvent(Long bookId, String eventType, Object data) {
+    public void sendBookUpdateEvent(Long bookId, String eventId, String eventType, Object data) {
         CopyOnWriteArrayList<EmitterInfo> bookEmitters = emitters.get(bookId);
         
         if (bookEmitters == null || bookEmitters.isEmpty()) {
             return;
         }
         
-        SseEvent event = new SseEvent(eventType, data, System.currentTimeMillis());
+        // 구독자 수와 관계없이 한 번만 직렬화하여 같은 프레임을 공유
+        SseFrame frame = bookEventFrame(eventId, eventType, data, System.currentTimeMillis());
         
-        bookEmitters.forEach(emitterInfo -> {
-            try {
-                emitterInfo.emitter.send(SseEmitter.event()
-                    .name(eventType)
-                    .id(String.valueOf(event.timestamp))
-                    .data(event));
-            } catch (IOException e) {
-                log.error("이벤트 전송 실패: {}", e.getMessage());
-                removeEmitter(emitterInfo);
-            }
-        });
+        // 큐에 넣기만 하고 반환 (느린 구독자가 리스너 스레드를 막지 않음)
+        bookEmitters.forEach(emitterInfo -> emitterInfo.offerBookEvent(eventId, frame));
     }
     
     /**
@@ -114,19 +196,11 @@ public class SseService {
             return;
         }
         
-        SseEvent event = new SseEvent(eventType, data, System.currentTimeMillis());
+        // 사용자 이벤트는 id를 붙이지 않아 Last-Event-ID가 가계부 이벤트 로그 ID로 유지됨
+        SseFrame frame = SseFrame.of(null, eventType,
+            new SseEvent(eventType, data, System.currentTimeMillis()), objectMapper);
         
-        userEmitterList.forEach(emitterInfo -> {
-            try {
-                emitterInfo.emitter.send(SseEmitter.event()
-                    .name(eventType)
-                    .id(String.valueOf(event.timestamp))
-                    .data(event));
-            } catch (IOException e) {
-                log.error("사용자 이벤트 전송 실패: {}", e.getMessage());
-                removeEmitter(emitterInfo);
-            }
-        });
+        userEmitterList.forEach(emitterInfo -> emitterInfo.outbound.offer(frame));
     }
     
     /**
@@ -138,15 +212,9 @@ public class SseService {
         if (bookEmitters != null) {
             bookEmitters.stream()
                 .filter(info -> info.userId.equals(userId))
-                .forEach(emitterInfo -> {
-                    try {
-                        emitterInfo.emitter.send(SseEmitter.event()
-                            .name("heartbeat")
-                            .data(Map.of("timestamp", System.currentTimeMillis())));
-                    } catch (IOException e) {
-                        removeEmitter(emitterInfo);
-                    }
-                });
+                .forEach(emitterInfo -> emitterInfo.outbound.offer(SseEmitter.event()
+                    .name("heartbeat")
+                    .data(Map.of("timestamp", System.currentTimeMillis()))));
         }
     }
     
@@ -156,14 +224,7 @@ public class SseService {
     @Scheduled(fixedDelay = 30000) // 30초마다
     public void sendHeartbeatToAll() {
         emitters.values().forEach(emitterList -> 
-            emitterList.forEach(emitterInfo -> {
-                try {
-                    emitterInfo.emitter.send(SseEmitter.event()
-                        .comment("heartbeat"));
-                } catch (IOException e) {
-                    removeEmitter(emitterInfo);
-                }
-            })
+            emitterList.forEach(emitterInfo -> emitterInfo.outbound.offer(HEARTBEAT_FRAME))
         );
     }
     
@@ -171,25 +232,103 @@ public class SseService {
      * Emitter 제거
      */
     private void removeEmitter(EmitterInfo emitterInfo) {
-        CopyOnWriteArrayList<EmitterInfo> bookEmitters = emitters.get(emitterInfo.bookId);
-        if (bookEmitters != null) {
-            bookEmitters.remove(emitterInfo);
-            if (bookEmitters.isEmpty()) {
-                emitters.remove(emitterInfo.bookId);
-            }
-        }
+        emitterInfo.outbound.close();
         
-        CopyOnWriteArrayList<EmitterInfo> userEmitterList = userEmitters.get(emitterInfo.userId);
-        if (userEmitterList != null) {
-            userEmitterList.remove(emitterInfo);
-            if (userEmitterList.isEmpty()) {
-                userEmitters.remove(emitterInfo.userId);
-            }
+        // 마지막 구독자가 떠나면 compute 밖에서 가계부/사용자 채널 구독 해제
+        if (removeSubscriber(emitters, emitterInfo.bookId, emitterInfo)) {
+            syncSubscription(emitterInfo.bookId, emitters, subscribedBooks,
+                subscriptionManager()::subscribeBook, subscriptionManager()::unsubscribeBook);
+        }
+        if (removeSubscriber(userEmitters, emitterInfo.userId, emitterInfo)) {
+            syncSubscription(emitterInfo.userId, userEmitters, subscribedUsers,
+                subscriptionManager()::subscribeUser, subscriptionManager()::unsubscribeUser);
         }
         
         log.debug("SSE 연결 종료 - 사용자: {}, 가계부: {}", emitterInfo.userId, emitterInfo.bookId);
     }
     
+    /**
+     * 구독자 목록에 추가
+     *
+     * @return 첫 구독자이면 true
+     */
+    private static boolean addSubscriber(Map<Long, CopyOnWriteArrayList<EmitterInfo>> map, Long key,
+                                         EmitterInfo emitterInfo) {
+        boolean[] created = {false};
+        map.compute(key, (k, list) -> {
+            if (list == null) {
+                list = new CopyOnWriteArrayList<>();
+                created[0] = true;
+            }
+            list.add(emitterInfo);
+            return list;
+        });
+        return created[0];
+    }
+    
+    /**
+     * 구독자 목록에서 제거
+     *
+     * @return 마지막 구독자가 떠났으면 true
+     */
+    private static boolean removeSubscriber(Map<Long, CopyOnWriteArrayList<EmitterInfo>> map, Long key,
+                                            EmitterInfo emitterInfo) {
+        boolean[] emptied = {false};
+        map.computeIfPresent(key, (k, list) -> {
+            list.remove(emitterInfo);
+            if (list.isEmpty()) {
+                emptied[0] = true;
+                return null;
+            }
+            return list;
+        });
+        return emptied[0];
+    }
+    
+    /**
+     * 로컬 구독자 유무에 맞추어 Redis 채널을 구독/해제
+     * 맵의 compute 밖에서 실행되므로 그 사이 구독자가 다시 생기거나 떠났을 수 있어,
+     * 채널별 잠금 안에서 현재 상태를 다시 확인한 뒤 필요한 쪽으로만 맞춥니다.
+     * 구독/해제에 실패하면 구독 상태를 되돌려 다음 구독자/구독 해제 때 다시 시도합니다.
+     */
+    private void syncSubscription(Long id, Map<Long, ?> local, Set<Long> subscribed,
+                                  Consumer<Long> subscribe, Consumer<Long> unsubscribe) {
+        synchronized (subscriptionLocks[Math.floorMod(id.hashCode(), subscriptionLocks.length)]) {
+            boolean wanted = local.containsKey(id);
+            if (wanted && subscribed.add(id)) {
+                try {
+                    subscribe.accept(id);
+                } catch (RuntimeException e) {
+                    subscribed.remove(id);
+                    log.error("Redis 채널 구독 실패, 다음 구독 때 재시도 - id: {}", id, e);
+                }
+            } else if (!wanted && subscribed.remove(id)) {
+                try {
+                    unsubscribe.accept(id);
+                } catch (RuntimeException e) {
+                    subscribed.add(id);
+                    log.error("Redis 채널 구독 해제 실패, 다음 구독 해제 때 재시도 - id: {}", id, e);
+                }
+            }
+        }
+    }
+    
+    private static Object[] newLocks(int size) {
+        Object[] locks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+    
+    private SseFrame bookEventFrame(String eventId, String eventType, Object data, Long timestamp) {
+        return SseFrame.of(eventId, eventType, new SseEvent(eventType, data, timestamp), objectMapper);
+    }
+    
+    private SseTopicSubscriptionManager subscriptionManager() {
+        return subscriptionManagerProvider.getObject();
+    }
+    
     /**
      * 활성 연결 수 조회
      */
@@ -199,18 +338,76 @@ public class SseService {
             .sum();
     }
     
+    private double totalQueueDepth() {
+        return emitters.values().stream()
+            .flatMap(CopyOnWriteArrayList::stream)
+            .mapToInt(info -> info.outbound.depth())
+            .sum();
+    }
+    
+    private double maxQueueDepth() {
+        return emitters.values().stream()
+            .flatMap(CopyOnWriteArrayList::stream)
+            .mapToInt(info -> info.outbound.depth())
+            .max()
+            .orElse(0);
+    }
+    
     /**
      * EmitterInfo 내부 클래스
      */
-    private static class EmitterInfo {
+    private class EmitterInfo {
         final SseEmitter emitter;
         final Long bookId;
         final Long userId;
+        final SseOutboundQueue outbound;
         
         EmitterInfo(SseEmitter emitter, Long bookId, Long userId) {
             this.emitter = emitter;
             this.bookId = bookId;
             this.userId = userId;
+            // 전송 실패/큐 초과로 연결이 끊기면 구독 목록에서 제거
+            this.outbound = new SseOutboundQueue(emitter, queueCapacity, overflowPolicy,
+                sendExecutor, droppedCounter, () -> removeEmitter(this));
+        }
+        
+        // 재전송 중 도착한 실시간 이벤트 (null이면 재전송 중이 아님)
+        private List<PendingEvent> pending;
+        
+        synchronized void beginReplay() {
+            pending = new ArrayList<>();
+        }
+        
+        synchronized void offerBookEvent(String eventId, SseEmitter.SseEventBuilder frame) {
+            if (pending != null) {
+                pending.add(new PendingEvent(eventId, frame));
+                return;
+            }
+            outbound.offer(frame);
+        }
+        
+        /**
+         * 재전송 이벤트를 먼저 넣고, 보류된 실시간 이벤트 중 이미 재전송된 것은 건너뜀
+         */
+        synchronized void finishReplay(List<SseEmitter.SseEventBuilder> replayed, String watermark) {
+            replayed.forEach(outbound::offer);
+            for (PendingEvent event : pending) {
+                if (watermark == null || event.eventId == null
+                        || BookEventLog.compareIds(event.eventId, watermark) > 0) {
+                    outbound.offer(event.frame);
+                }
+            }
+            pending = null;
+        }
+    }
+    
+    private static class PendingEvent {
+        final String eventId;
+        final SseEmitter.SseEventBuilder frame;
+        
+        PendingEvent(String eventId, SseEmitter.SseEventBuilder frame) {
+            this.eventId = eventId;
+            this.frame = frame;
         }
     }
     
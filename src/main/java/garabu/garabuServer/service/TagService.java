@@ -1,6 +1,7 @@
 package garabu.garabuServer.service;
 
 import garabu.garabuServer.domain.*;
+import garabu.garabuServer.dto.LedgerCursor;
 import garabu.garabuServer.dto.tag.*;
 import garabu.garabuServer.exception.BookAccessException;
 import garabu.garabuServer.exception.BookNotFoundException;
@@ -8,12 +9,15 @@ import garabu.garabuServer.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,7 +28,7 @@ public class TagService {
     
     private final TagRepository tagRepository;
     private final BookRepository bookRepository;
-    private final UserBookJpaRepository userBookRepository;
+    private final BookAccessCache bookAccessCache;
     private final LedgerJpaRepository ledgerRepository;
     private final MemberService memberService;
     
@@ -100,10 +104,8 @@ public class TagService {
         
         checkBookAccess(tag.getBook(), currentMember);
         
-        // 연결된 거래 내역에서 태그 제거
-        for (Ledger ledger : new ArrayList<>(tag.getLedgers())) {
-            ledger.removeTag(tag);
-        }
+        // 연결된 거래 내역에서 태그 제거 (거래를 로딩하지 않고 연결 테이블에서 한 번에 삭제)
+        tagRepository.deleteLedgerTags(tag.getId());
         
         tagRepository.delete(tag);
     }
@@ -129,6 +131,37 @@ public class TagService {
         tagRepository.save(tag);
     }
     
+    /**
+     * 여러 거래 내역에 태그를 한 번에 추가
+     * 같은 가계부의 거래만 INSERT ... SELECT 한 문장으로 연결하고, 이미 태그가 있는 거래는 건너뜀
+     *
+     * @param ledgerIds 태그를 추가할 거래 ID 목록
+     * @return 새로 태그가 추가된 거래 수와 갱신된 사용 횟수
+     */
+    @Transactional
+    public BulkTagResponse addTagToTransactions(Long tagId, List<Long> ledgerIds) {
+        Member currentMember = memberService.getCurrentMember();
+        
+        Tag tag = tagRepository.findById(tagId)
+                .orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
+        
+        checkBookAccess(tag.getBook(), currentMember);
+        
+        List<Long> distinctIds = ledgerIds.stream().distinct().toList();
+        int tagged = tagRepository.insertLedgerTags(tag.getId(), tag.getBook().getId(), distinctIds);
+        tagRepository.refreshUsageCount(tag.getId());
+        
+        BulkTagResponse response = new BulkTagResponse();
+        response.setTagId(tag.getId());
+        response.setRequestedCount(distinctIds.size());
+        response.setTaggedCount(tagged);
+        response.setUsageCount(tagRepository.findById(tag.getId())
+                .map(Tag::getUsageCount)
+                .orElse(0));
+        
+        return response;
+    }
+    
     @Transactional
     public void removeTagFromTransaction(Long ledgerId, Long tagId) {
         Member currentMember = memberService.getCurrentMember();
@@ -145,34 +178,120 @@ public class TagService {
         tagRepository.save(tag);
     }
     
-    public TagSearchResponse searchTransactionsByTag(Long bookId, String tagName, Pageable pageable) {
+    /**
+     * 태그로 거래 내역 검색 (OFFSET 페이지네이션)
+     * ledger_tags 조인으로 DB 에서 페이지를 자르고, 해당 페이지의 거래만 카테고리와 함께 조회
+     *
+     * @param tagNames 검색할 태그 이름 (하나 이상)
+     * @param match 여러 태그의 일치 조건 (ANY: OR, ALL: AND)
+     */
+    public TagSearchResponse searchTransactionsByTag(Long bookId, List<String> tagNames,
+                                                     TagMatchMode match, Pageable pageable) {
+        List<Tag> tags = findSearchTags(bookId, tagNames);
+        List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+
+        Page<Long> ids = ledgerRepository.findIdsByTags(
+                bookId, tagIds, requiredTagCount(tags, match),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        TagSearchResponse response = createSearchResponse(tags, match, ids.getContent());
+        response.setTotalElements(ids.getTotalElements());
+        response.setTotalPages(ids.getTotalPages());
+        response.setCurrentPage(pageable.getPageNumber());
+        response.setHasNext(ids.hasNext());
+
+        return response;
+    }
+
+    /**
+     * 태그로 거래 내역 검색 (커서(keyset) 페이지네이션)
+     * 정렬은 (date DESC, id DESC)로 고정되며, 전체 건수는 includeTotal 인 경우에만 계산
+     *
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     */
+    public TagSearchResponse searchTransactionsByTagWithCursor(Long bookId, List<String> tagNames,
+                                                               TagMatchMode match, LedgerCursor cursor,
+                                                               int size, boolean includeTotal) {
+        List<Tag> tags = findSearchTags(bookId, tagNames);
+        List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+        long required = requiredTagCount(tags, match);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Long> ids = cursor == null
+                ? ledgerRepository.findFirstIdsByTags(bookId, tagIds, required, limit)
+                : ledgerRepository.findIdsByTagsAfterCursor(
+                        bookId, tagIds, required, cursor.getDate(), cursor.getId(), limit);
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+
+        TagSearchResponse response = createSearchResponse(tags, match, ids);
+        response.setHasNext(hasNext);
+        if (hasNext && !response.getTransactions().isEmpty()) {
+            TransactionSummary last = response.getTransactions().get(response.getTransactions().size() - 1);
+            response.setNextCursor(new LedgerCursor(last.getDate(), last.getId()).encode());
+        }
+        if (includeTotal) {
+            response.setTotalElements(ledgerRepository.countByTags(bookId, tagIds, required));
+        }
+
+        return response;
+    }
+
+    /**
+     * 권한 확인 후 검색 대상 태그 조회 (요청한 이름 순서 유지, 없는 태그가 있으면 예외)
+     */
+    private List<Tag> findSearchTags(Long bookId, List<String> tagNames) {
         Member currentMember = memberService.getCurrentMember();
-        
+
         Book book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new BookNotFoundException("가계부를 찾을 수 없습니다."));
-        
+
         checkBookAccess(book, currentMember);
-        
-        Tag tag = tagRepository.findByBookIdAndName(bookId, tagName)
-                .orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
-        
-        // 태그가 연결된 거래 내역을 페이지네이션하여 조회
-        List<Ledger> ledgers = new ArrayList<>(tag.getLedgers());
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), ledgers.size());
-        
-        List<TransactionSummary> transactions = ledgers.subList(start, end).stream()
-                .map(this::convertToTransactionSummary)
-                .collect(Collectors.toList());
-        
+
+        List<String> names = tagNames == null ? List.of() : tagNames.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .distinct()
+                .toList();
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("검색할 태그를 지정해주세요.");
+        }
+
+        Map<String, Tag> tagsByName = tagRepository.findByBookIdAndNameIn(bookId, names).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+
+        List<Tag> tags = new ArrayList<>(names.size());
+        for (String name : names) {
+            Tag tag = tagsByName.get(name);
+            if (tag == null) {
+                throw new IllegalArgumentException("태그를 찾을 수 없습니다: " + name);
+            }
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    private long requiredTagCount(List<Tag> tags, TagMatchMode match) {
+        return match == TagMatchMode.ALL ? tags.size() : 1;
+    }
+
+    private TagSearchResponse createSearchResponse(List<Tag> tags, TagMatchMode match, List<Long> ledgerIds) {
+        List<TransactionSummary> transactions = ledgerIds.isEmpty()
+                ? List.of()
+                : ledgerRepository.findByIdsWithCategory(ledgerIds).stream()
+                        .map(this::convertToTransactionSummary)
+                        .collect(Collectors.toList());
+
         TagSearchResponse response = new TagSearchResponse();
-        response.setTagName(tag.getName());
-        response.setTagColor(tag.getColor());
+        response.setTagName(tags.get(0).getName());
+        response.setTagColor(tags.get(0).getColor());
+        response.setTagNames(tags.stream().map(Tag::getName).toList());
+        response.setMatch(match);
         response.setTransactions(transactions);
-        response.setTotalElements((long) ledgers.size());
-        response.setTotalPages((int) Math.ceil((double) ledgers.size() / pageable.getPageSize()));
-        response.setCurrentPage(pageable.getPageNumber());
-        
+
         return response;
     }
     
@@ -193,19 +312,22 @@ public class TagService {
             throw new IllegalArgumentException("같은 가계부의 태그만 병합할 수 있습니다.");
         }
         
-        // 원본 태그의 모든 거래 내역을 대상 태그로 이동
-        for (Ledger ledger : new ArrayList<>(sourceTag.getLedgers())) {
-            sourceTag.removeLedger(ledger);
-            targetTag.addLedger(ledger);
+        if (sourceTag.getId().equals(targetTag.getId())) {
+            throw new IllegalArgumentException("같은 태그는 병합할 수 없습니다.");
         }
         
-        tagRepository.save(targetTag);
-        tagRepository.delete(sourceTag);
+        // 원본 태그의 거래 연결을 연결 테이블에서 대상 태그로 옮김 (거래 엔티티를 로딩하지 않음)
+        // 두 태그가 모두 붙은 거래는 INSERT IGNORE 로 한 번만 연결
+        tagRepository.copyLedgerTags(sourceTag.getId(), targetTag.getId());
+        tagRepository.deleteLedgerTags(sourceTag.getId());
+        tagRepository.refreshUsageCount(targetTag.getId());
+        
+        tagRepository.deleteById(sourceTag.getId());
     }
     
     private void checkBookAccess(Book book, Member member) {
-        boolean hasAccess = userBookRepository.findByBookIdAndMemberId(book.getId(), member.getId())
-                .map(userBook -> !userBook.getBookRole().equals(BookRole.VIEWER))
+        boolean hasAccess = bookAccessCache.findRole(book.getId(), member.getId())
+                .map(role -> role != BookRole.VIEWER)
                 .orElse(false);
         
         if (!hasAccess) {
@@ -26,6 +26,8 @@ public class UserBookService {
     private final MemberJPARepository memberJPARepository;
     private final BookRepository bookRepository;
     private final BookSharingNotificationService notificationService;
+    private final BookAccessCache bookAccessCache;
+    private final BookService bookService;
 
     /** 가계부-회원 매핑 등록 */
     @Transactional
@@ -60,6 +62,13 @@ public class UserBookService {
         return userBookJpaRepository.findByBookIdAndMemberId(bookId, memberId);
     }
     
+    /**
+     * 가계부 내 회원 역할 조회 (요청/노드 단위 캐시)
+     */
+    public Optional<BookRole> findRole(Long bookId, Long memberId) {
+        return bookAccessCache.findRole(bookId, memberId);
+    }
+    
     /**
      * 현재 로그인한 사용자 정보 조회
      */
@@ -72,7 +81,7 @@ public class UserBookService {
      * 사용자가 가계부에 접근할 수 있는지 확인 (읽기 권한)
      */
     public void validateBookAccess(Member member, Book book) {
-        UserBook userBook = userBookJpaRepository.findByBookIdAndMemberId(book.getId(), member.getId())
+        bookAccessCache.findRole(book.getId(), member.getId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 가계부에 대한 접근 권한이 없습니다."));
     }
     
@@ -89,11 +98,11 @@ public class UserBookService {
      */
     public void validateBookEditAccess(Book book) {
         Member currentUser = getCurrentUser();
-        UserBook userBook = userBookJpaRepository.findByBookIdAndMemberId(book.getId(), currentUser.getId())
+        BookRole role = bookAccessCache.findRole(book.getId(), currentUser.getId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 가계부에 대한 접근 권한이 없습니다."));
         
         // VIEWER는 편집 권한이 없음
-        if (userBook.getBookRole() == BookRole.VIEWER) {
+        if (role == BookRole.VIEWER) {
             throw new IllegalArgumentException("편집하려면 OWNER 또는 EDITOR 권한이 필요합니다.");
         }
     }
@@ -102,6 +111,7 @@ public class UserBookService {
      * 사용자가 가계부의 소유자인지 확인
      */
     private void validateOwnership(Long bookId, Member currentUser) {
+        // 멤버 관리 작업은 캐시가 아닌 DB 기준으로 확인
         UserBook userBook = userBookJpaRepository.findByBookIdAndMemberId(bookId, currentUser.getId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 가계부에 대한 접근 권한이 없습니다."));
         
@@ -145,6 +155,7 @@ public class UserBookService {
         userBook.setBookRole(role);
         
         userBookJpaRepository.save(userBook);
+        bookService.evictUserBooksCache(List.of(invitedUser.getUsername()));
         
         // 초대 알림 발송
         notificationService.sendBookInvitationNotification(invitedUser, book, currentUser.getName(), role);
@@ -171,6 +182,8 @@ public class UserBookService {
         notificationService.sendMemberRemovedNotification(userBook.getMember(), userBook.getBook(), currentUser.getName());
         
         userBookJpaRepository.deleteByBookIdAndMemberId(bookId, memberId);
+        bookAccessCache.invalidate(bookId, memberId);
+        bookService.evictUserBooksCache(List.of(userBook.getMember().getUsername()));
     }
     
     /**
@@ -197,6 +210,8 @@ public class UserBookService {
         
         userBook.setBookRole(newRole);
         userBookJpaRepository.save(userBook);
+        bookAccessCache.invalidate(bookId, memberId);
+        bookService.evictUserBooksCache(List.of(userBook.getMember().getUsername()));
         
         // 권한 변경 알림 발송
         notificationService.sendRoleChangedNotification(userBook.getMember(), userBook.getBook(), newRole, currentUser.getName());
@@ -222,5 +237,7 @@ public class UserBookService {
         notificationService.sendMemberLeftNotification(currentUser, userBook.getBook());
         
         userBookJpaRepository.deleteByBookIdAndMemberId(bookId, currentUser.getId());
+        bookAccessCache.invalidate(bookId, currentUser.getId());
+        bookService.evictUserBooksCache(List.of(currentUser.getUsername()));
     }
 }
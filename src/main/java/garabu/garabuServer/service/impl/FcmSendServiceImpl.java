@@ -3,8 +3,8 @@ package garabu.garabuServer.service.impl;
 import garabu.garabuServer.domain.*;
 import garabu.garabuServer.dto.FcmSendRequestDTO;
 import garabu.garabuServer.repository.*;
+import garabu.garabuServer.service.FcmPushDispatcher;
 import garabu.garabuServer.service.FcmSendService;
-import garabu.garabuServer.service.FcmService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,7 +12,6 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,8 +25,7 @@ public class FcmSendServiceImpl implements FcmSendService {
     private final NotiSendListRepository notiSendListRepository;
     private final NotiWebSendListRepository notiWebSendListRepository;
     private final NotiSendStackRepository notiSendStackRepository;
-    private final FcmService fcmService;
-    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmPushDispatcher fcmPushDispatcher;
 
     /**
      * 푸시 발송 전체 처리
@@ -40,7 +38,7 @@ public class FcmSendServiceImpl implements FcmSendService {
         createChannelLists(request, pushSend, app);              // 4. 채널별 발송 리스트 생성
         updateSendCounts(request, pushSend, app);                // 5. 발송 건수 및 상태 업데이트
         saveSendLog(request, pushSend);                          // 6. 처리 로그 저장
-        sendFcmToTargets(request, pushSend);                     // 7. FCM 실제 발송 및 통계 반영
+        sendFcmToTargets(request, pushSend);                     // 7. FCM 발송 예약 (비동기 배치 발송 및 통계 반영)
     }
 
     /**
@@ -185,68 +183,16 @@ public class FcmSendServiceImpl implements FcmSendService {
         notiSendStackRepository.save(logEntry);
         log.info("발송 처리 로그 저장 완료");
     }
+    /**
+     * Step 7 - FCM 발송 예약 (토큰 일괄 조회, 500건 단위 배치 발송, 결과 일괄 반영은 발송 파이프라인에서 처리)
+     */
     private void sendFcmToTargets(FcmSendRequestDTO request, NotiSend pushSend) {
-        log.info("=== FCM 발송 시작 - NoticeNo: {}, Title: {} ===", pushSend.getNoticeNo(), request.getNoticeTitle());
-        
-        List<NotiSendList> targetList = notiSendListRepository.findByAppIdAndNoticeNo(
-                request.getAppId(), pushSend.getNoticeNo());
-        
-        log.info("FCM 발송 대상자 수: {}", targetList.size());
-
-        for (NotiSendList target : targetList) {
-            try {
-                log.debug("사용자 {} FCM 토큰 조회 시작", target.getUserId());
-                
-                Optional<FcmUserToken> tokenOpt = fcmTokenRepository
-                        .findTopByAppIdAndUserIdAndUseAtOrderByTokenIdDesc(target.getAppId(), target.getUserId(), "Y");
-
-                if (tokenOpt.isEmpty()) {
-                    log.warn("사용자 {}의 FCM 토큰이 없습니다. AppId: {}", target.getUserId(), target.getAppId());
-                    target.setSuccessYn("N");
-                    target.setFailMsg("FCM 토큰 없음");
-                    continue;
-                }
-
-                FcmUserToken fcmToken = tokenOpt.get();
-                String token = fcmToken.getFcmToken();
-                log.info("사용자 {} FCM 토큰 찾음 - DeviceId: {}, TokenId: {}", 
-                    target.getUserId(), fcmToken.getDeviceId(), fcmToken.getTokenId());
-
-                // data 필드 추가하여 FCM 메시지 전송
-                java.util.Map<String, String> data = new java.util.HashMap<>();
-                data.put("type", "notification");
-                data.put("action", request.getNoticeAction() != null ? request.getNoticeAction() : "");
-                data.put("sendId", String.valueOf(pushSend.getNoticeNo()));
-                data.put("userId", target.getUserId());
-                data.put("timestamp", String.valueOf(System.currentTimeMillis()));
-                
-                log.info("FCM 발송 시도 - UserId: {}, Title: {}, Body: {}", 
-                    target.getUserId(), request.getNoticeTitle(), request.getNoticeBody());
-                
-                fcmService.sendTo(token, request.getNoticeTitle(), request.getNoticeBody(), data);
-
-                target.setSuccessYn("Y");
-                target.setSendDt(String.valueOf(LocalDateTime.now()));
-                log.info("사용자 {} FCM 발송 성공", target.getUserId());
-                
-            } catch (Exception e) {
-                log.error("사용자 {} FCM 발송 실패: {}", target.getUserId(), e.getMessage(), e);
-                target.setSuccessYn("N");
-                target.setFailMsg(e.getMessage());
-            }
-        }
-
-        notiSendListRepository.saveAll(targetList);
-        log.info("FCM 발송 대상 {}명 처리 완료", targetList.size());
-
-        // Step 8: 성공/실패 통계 반영
-        int successCnt = (int) targetList.stream().filter(t -> "Y".equalsIgnoreCase(t.getSuccessYn())).count();
-        int failCnt = (int) targetList.stream().filter(t -> "N".equalsIgnoreCase(t.getSuccessYn())).count();
-
-        pushSend.setPushSuccessCnt(successCnt);
-        pushSend.setPushFailCnt(failCnt);
-        notiSendRepository.save(pushSend);
-
-        log.info("=== FCM 발송 완료 - 성공: {}, 실패: {} ===", successCnt, failCnt);
+        fcmPushDispatcher.dispatch(new FcmPushDispatcher.PushJob(
+                request.getAppId(),
+                pushSend.getNoticeNo(),
+                request.getNoticeTitle(),
+                request.getNoticeBody(),
+                request.getNoticeAction()));
+        log.info("FCM 발송 예약 완료 - NoticeNo: {}", pushSend.getNoticeNo());
     }
 }
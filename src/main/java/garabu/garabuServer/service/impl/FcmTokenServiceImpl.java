@@ -4,6 +4,7 @@ import garabu.garabuServer.domain.FcmUserToken;
 import garabu.garabuServer.dto.FcmTokenDeleteDTO;
 import garabu.garabuServer.dto.FcmTokenRegisterDTO;
 import garabu.garabuServer.repository.FcmTokenRepository;
+import garabu.garabuServer.service.FcmTokenCache;
 import garabu.garabuServer.service.FcmTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -18,6 +20,7 @@ import java.util.Optional;
 @Slf4j
 public class FcmTokenServiceImpl implements FcmTokenService {
     private final FcmTokenRepository tokenRepository;
+    private final FcmTokenCache tokenCache;
 
     @Transactional
     @Override
@@ -50,6 +53,7 @@ public class FcmTokenServiceImpl implements FcmTokenService {
             token.setRegDt(LocalDateTime.now());
 
             tokenRepository.save(token);
+            tokenCache.invalidate(dto.getAppId(), dto.getUserId());
             log.info("FCM 토큰 등록 또는 갱신 완료: userId={}, deviceId={}, token={}", 
                     dto.getUserId(), dto.getDeviceId(), dto.getFcmToken());
         } catch (Exception e) {
@@ -69,6 +73,7 @@ public class FcmTokenServiceImpl implements FcmTokenService {
             token.setFcmToken(null);
             token.setRegDt(LocalDateTime.now());
             tokenRepository.save(token);
+            tokenCache.invalidate(dto.getAppId(), dto.getUserId());
             log.info("FCM 토큰 삭제 처리 완료: {}, {}", dto.getUserId(), dto.getDeviceId());
         } else {
             log.warn("삭제할 토큰이 존재하지 않음: {}, {}", dto.getUserId(), dto.getDeviceId());
@@ -90,4 +95,15 @@ public class FcmTokenServiceImpl implements FcmTokenService {
         deleteByAppIdAndUserIdAndDeviceId(deleteDTO);
     }
 
+    @Transactional
+    @Override
+    public void markTokensDead(String appId, Map<String, String> deadTokens) {
+        if (deadTokens.isEmpty()) {
+            return;
+        }
+
+        int updated = tokenRepository.markUnused(appId, deadTokens.values(), LocalDateTime.now());
+        deadTokens.keySet().forEach(userId -> tokenCache.invalidate(appId, userId));
+        log.info("만료/무효 FCM 토큰 사용 안 함 처리: appId={}, 요청={}, 처리={}", appId, deadTokens.size(), updated);
+    }
 }
@@ -0,0 +1,52 @@
+-- 푸시 발송 이력 보관(아카이브) 테이블
+-- 보관 기간이 지난 발송 마스터/대상자 결과를 운영 테이블에서 옮겨 압축 저장합니다.
+-- (NotiLogRetentionScheduler 가 청크 단위로 이동, 보관 기간이 지나면 삭제)
+-- 자동 적용되지 않으므로 이 스크립트를 먼저 실행한 뒤 notification.log.archive-enabled=true 로 켜야 합니다.
+CREATE TABLE IF NOT EXISTS noti_send_archive (
+    notice_no BIGINT PRIMARY KEY,
+    app_id VARCHAR(255),
+    notice_title VARCHAR(255),
+    notice_body TEXT,
+    notice_img VARCHAR(255),
+    notice_url VARCHAR(255),
+    notice_action VARCHAR(255),
+    user_id VARCHAR(255),
+    user_nm VARCHAR(255),
+    user_mobile VARCHAR(255),
+    notice_dt DATETIME(6),
+    push_use VARCHAR(255),
+    push_cnt INT,
+    push_success_cnt INT,
+    push_fail_cnt INT,
+    sms_use VARCHAR(255),
+    sms_cnt INT,
+    sms_success_cnt INT,
+    sms_fail_cnt INT,
+    web_use VARCHAR(255),
+    total_cnt INT,
+    reservation_dt DATETIME(6),
+    push_state VARCHAR(255),
+    user_nm_at VARCHAR(255),
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_noti_send_archive_notice_dt (notice_dt)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8;
+
+CREATE TABLE IF NOT EXISTS noti_send_list_archive (
+    send_list_id BIGINT PRIMARY KEY,
+    app_id VARCHAR(255),
+    notice_no BIGINT,
+    user_id VARCHAR(255),
+    user_nm VARCHAR(255),
+    success_yn VARCHAR(255),
+    fail_msg VARCHAR(255),
+    send_dt VARCHAR(255),
+    INDEX idx_noti_send_list_archive_notice (notice_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8;
+
+-- 운영 테이블 인덱스 (엔티티 @Index 와 동일, ddl-auto 를 쓰지 않는 환경용)
+-- 발송 경로의 (APP_ID, NOTICE_NO) 조회와 보관 작업의 NOTICE_NO IN (...) 삭제가 같은 인덱스를 사용합니다.
+CREATE INDEX idx_noti_send_notice_dt ON noti_send (notice_dt);
+CREATE INDEX idx_noti_send_user_notice ON noti_send_user (notice_no, app_id);
+CREATE INDEX idx_noti_send_list_notice ON noti_send_list (notice_no, app_id);
+CREATE INDEX idx_noti_web_send_list_notice ON noti_web_send_list (notice_no, app_id);
+CREATE INDEX idx_noti_send_stack_notice ON noti_send_stack (notice_no, app_id);
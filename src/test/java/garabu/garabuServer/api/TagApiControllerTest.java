@@ -0,0 +1,66 @@
+package garabu.garabuServer.api;
+
+import garabu.garabuServer.dto.tag.TagMatchMode;
+import garabu.garabuServer.service.TagService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TagApiControllerTest {
+
+    @Mock
+    private TagService tagService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TagApiController(tagService))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("쉼표가 들어간 태그 이름 하나는 나누지 않고 그대로 검색한다")
+    void search_singleTagWithComma() throws Exception {
+        mockMvc.perform(get("/api/v2/tags/books/1/search").param("tagName", "식비,외식"))
+                .andExpect(status().isOk());
+
+        verify(tagService).searchTransactionsByTag(eq(1L), eq(List.of("식비,외식")), eq(TagMatchMode.ANY), any());
+    }
+
+    @Test
+    @DisplayName("tagName 을 여러 번 지정하면 각 값을 태그 하나로 검색한다")
+    void search_repeatedTagNames() throws Exception {
+        mockMvc.perform(get("/api/v2/tags/books/1/search")
+                        .param("tagName", "식비,외식", "여행")
+                        .param("match", "ALL"))
+                .andExpect(status().isOk());
+
+        verify(tagService).searchTransactionsByTag(eq(1L), eq(List.of("식비,외식", "여행")), eq(TagMatchMode.ALL), any());
+    }
+
+    @Test
+    @DisplayName("tagName 이 없으면 400 을 반환한다")
+    void search_missingTagName() throws Exception {
+        mockMvc.perform(get("/api/v2/tags/books/1/search"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(tagService);
+    }
+}
@@ -0,0 +1,176 @@
+package garabu.garabuServer.config;
+
+import garabu.garabuServer.event.CacheEvictEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private ConcurrentMapCacheManager remote;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(remote,
+                Map.of("paymentMethodsByBookDto", Duration.ofMinutes(1)), 100, redisTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2 에서 찾은 값은 L1 에 채워 다음 조회부터 L1 에서 반환한다")
+    void get_populatesLocalFromRemote() {
+        remote.getCache("paymentMethodsByBookDto").put(1L, List.of("카드"));
+        Cache cache = cacheManager.getCache("paymentMethodsByBookDto");
+
+        assertEquals(List.of("카드"), cache.get(1L).get());
+        remote.getCache("paymentMethodsByBookDto").evict(1L);
+        assertEquals(List.of("카드"), cache.get(1L).get());
+
+        assertEquals(1.0, meterRegistry.get("cache.tiered.gets")
+                .tags("cache", "paymentMethodsByBookDto", "tier", "redis", "result", "hit").counter().count());
+        assertEquals(0.5, meterRegistry.get("cache.tiered.hit.ratio")
+                .tags("cache", "paymentMethodsByBookDto", "tier", "local").gauge().value());
+    }
+
+    @Test
+    @DisplayName("제거하면 두 단계 모두에서 지우고 다른 노드에 무효화 이벤트를 발행한다")
+    void evict_removesBothTiersAndPublishes() {
+        Cache cache = cacheManager.getCache("paymentMethodsByBookDto");
+        cache.put(1L, List.of("카드"));
+
+        cache.evict(1L);
+
+        assertNull(cache.get(1L));
+        assertNull(remote.getCache("paymentMethodsByBookDto").get(1L));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CHANNEL), captor.capture());
+        CacheEvictEvent event = (CacheEvictEvent) captor.getValue();
+        assertEquals("paymentMethodsByBookDto", event.getCacheName());
+        assertEquals("1", event.getKey());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 이벤트는 L1 만 지우고 다음 조회에서 L2 값을 다시 읽는다")
+    void onEvict_clearsLocalOnlyForOtherNodes() {
+        Cache cache = cacheManager.getCache("paymentMethodsByBookDto");
+        cache.put(1L, List.of("카드"));
+        remote.getCache("paymentMethodsByBookDto").put(1L, List.of("카드", "현금"));
+
+        cacheManager.onEvict(CacheEvictEvent.builder().cacheName("paymentMethodsByBookDto").key("1").sourceId("other").build());
+
+        assertEquals(List.of("카드", "현금"), cache.get(1L).get());
+    }
+
+    @Test
+    @DisplayName("로컬 TTL 이 없는 캐시는 L1 없이 Redis 캐시에 단일 로딩만 더해 사용한다")
+    void getCache_withoutLocalTtl_wrapsRemote() {
+        Cache cache = cacheManager.getCache("userBooks");
+
+        assertInstanceOf(SingleFlightCache.class, cache);
+        assertSame(remote.getCache("userBooks").getNativeCache(), cache.getNativeCache());
+    }
+
+    @Test
+    @DisplayName("Redis 전용 캐시도 트랜잭션 안에서 제거하면 커밋 전에 다시 채워진 값을 커밋 후 제거한다")
+    void evict_remoteOnly_inTransaction_evictsAgainAfterCommit() {
+        Cache cache = cacheManager.getCache("userBooks");
+        cache.put(1L, List.of("가계부"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            // 커밋 전 다른 요청이 이전 값을 다시 채움
+            cache.put(1L, List.of("가계부"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(remote.getCache("userBooks").get(1L));
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 loader 를 한 번만 실행하고 결과를 공유한다")
+    void get_withLoader_collapsesConcurrentMisses() throws Exception {
+        // 네 요청 모두 L2 에서 미스한 뒤에 로딩을 끝내도록 L2 조회 미스를 셈
+        CountDownLatch remoteMisses = new CountDownLatch(4);
+        remote = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    protected Object lookup(Object key) {
+                        Object value = super.lookup(key);
+                        if (value == null) {
+                            remoteMisses.countDown();
+                        }
+                        return value;
+                    }
+                };
+            }
+        };
+        cacheManager = new TwoLevelCacheManager(remote,
+                Map.of("paymentMethodsByBookDto", Duration.ofMinutes(1)), 100, redisTemplate, meterRegistry);
+        Cache cache = cacheManager.getCache("paymentMethodsByBookDto");
+        AtomicInteger loads = new AtomicInteger();
+        Callable<List<String>> loader = () -> {
+            loads.incrementAndGet();
+            assertTrue(remoteMisses.await(5, TimeUnit.SECONDS));
+            return List.of("카드");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get(1L, loader)));
+            }
+
+            for (Future<List<String>> result : results) {
+                assertEquals(List.of("카드"), result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(List.of("카드"), remote.getCache("paymentMethodsByBookDto").get(1L).get());
+    }
+}
@@ -0,0 +1,78 @@
+package garabu.garabuServer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import garabu.garabuServer.dto.CategoryDto;
+import garabu.garabuServer.event.BookEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedRedisSerializerTest {
+
+    private final ObjectMapper redisObjectMapper = new RedisConfig().redisObjectMapper();
+    private final VersionedRedisSerializer smile =
+            new VersionedRedisSerializer(redisObjectMapper, VersionedRedisSerializer.Format.SMILE);
+
+    @Test
+    @DisplayName("Smile 로 쓴 캐시 목록은 헤더가 붙고 JSON 보다 작으며 같은 값으로 복원된다")
+    void smile_roundTripIsSmallerThanJson() {
+        List<CategoryDto> categories = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            categories.add(new CategoryDto(i, "카테고리" + i, "🍽️", true, null, null));
+        }
+
+        byte[] bytes = smile.serialize(categories);
+        byte[] jsonBytes = new GenericJackson2JsonRedisSerializer(redisObjectMapper).serialize(categories);
+
+        assertEquals(VersionedRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(VersionedRedisSerializer.VERSION, bytes[1]);
+        assertTrue(bytes.length < jsonBytes.length);
+        assertEquals(categories, smile.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("헤더 없는 기존 JSON 값도 읽을 수 있다 (롤링 배포)")
+    void deserialize_readsLegacyJson() {
+        BookEvent event = BookEvent.ledgerCreated(1L, 7L, new HashMap<>(Map.of("description", "점심")));
+        byte[] legacy = new GenericJackson2JsonRedisSerializer(redisObjectMapper).serialize(event);
+
+        BookEvent read = (BookEvent) smile.deserialize(legacy);
+
+        assertEquals(event.getEventType(), read.getEventType());
+        assertEquals(Map.of("description", "점심"), read.getData());
+    }
+
+    @Test
+    @DisplayName("JSON 쓰기 모드는 헤더 없이 기존 형식으로 쓴다")
+    void jsonWriteFormat_writesLegacyJson() {
+        VersionedRedisSerializer json = new VersionedRedisSerializer(redisObjectMapper, VersionedRedisSerializer.Format.JSON);
+
+        byte[] bytes = json.serialize(BookEvent.ledgerDeleted(1L, 7L, 3L));
+
+        assertEquals('{', bytes[0]);
+        assertInstanceOf(BookEvent.class, smile.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("캐시 null 표시는 같은 인스턴스로 복원된다")
+    void nullValue_keepsIdentity() {
+        assertSame(NullValue.INSTANCE, smile.deserialize(smile.serialize(NullValue.INSTANCE)));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전은 예외를 던진다")
+    void deserialize_unknownVersion() {
+        byte[] bytes = {VersionedRedisSerializer.MAGIC, 9, VersionedRedisSerializer.CODEC_SMILE};
+
+        assertThrows(SerializationException.class, () -> smile.deserialize(bytes));
+    }
+}
@@ -0,0 +1,169 @@
+package garabu.garabuServer.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookEventLogTest {
+
+    private static final byte[] KEY = "sse:book-events:7".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAYLOAD = {1, 2, 3};
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisSerializer<Object> serializer;
+
+    private BookEventLog eventLog;
+
+    @BeforeEach
+    void setUp() {
+        eventLog = new BookEventLog(redisTemplate, 500, 3_600_000);
+        lenient().when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("기록과 개수/기간 압축, 만료 설정, 채널 발행을 스크립트 한 번으로 처리한다")
+    void appendAndPublish_usesSingleScriptCall() {
+        RedisScriptingCommands scripting = mock(RedisScriptingCommands.class);
+        BookEvent event = BookEvent.builder().bookId(7L).build();
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+        when(serializer.serialize(event)).thenReturn(PAYLOAD);
+        when(connection.scriptingCommands()).thenReturn(scripting);
+        List<byte[]> keysAndArgs = new ArrayList<>();
+        when(scripting.eval(any(byte[].class), eq(ReturnType.VALUE), eq(1), any(byte[][].class)))
+                .thenAnswer(invocation -> {
+                    // 가변 인자는 펼쳐져 전달됨: script, returnType, numKeys, key, args...
+                    Object[] arguments = invocation.getArguments();
+                    for (int i = 3; i < arguments.length; i++) {
+                        keysAndArgs.add((byte[]) arguments[i]);
+                    }
+                    return "1700000000000-0".getBytes(StandardCharsets.UTF_8);
+                });
+
+        String id = eventLog.appendAndPublish(event, "book-events:7");
+
+        assertEquals("1700000000000-0", id);
+        assertEquals(6, keysAndArgs.size());
+        assertArrayEquals(KEY, keysAndArgs.get(0));
+        assertArrayEquals(PAYLOAD, keysAndArgs.get(1));
+        assertEquals("500", text(keysAndArgs.get(2)));
+        assertEquals("3600000", text(keysAndArgs.get(4)));
+        assertEquals("book-events:7", text(keysAndArgs.get(5)));
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+        verify(connection, never()).streamCommands();
+        verify(connection, never()).keyCommands();
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    @Test
+    @DisplayName("발행 메시지 앞의 스트림 ID를 분리하고, ID가 없는 메시지는 그대로 둔다")
+    void published_parse() {
+        byte[] body = "1700000000000-3\n".getBytes(StandardCharsets.UTF_8);
+        byte[] message = new byte[body.length + PAYLOAD.length];
+        System.arraycopy(body, 0, message, 0, body.length);
+        System.arraycopy(PAYLOAD, 0, message, body.length, PAYLOAD.length);
+
+        BookEventLog.Published published = BookEventLog.Published.parse(message);
+        assertEquals("1700000000000-3", published.getId());
+        assertArrayEquals(PAYLOAD, published.getPayload());
+
+        byte[] json = "{\"bookId\":7}".getBytes(StandardCharsets.UTF_8);
+        BookEventLog.Published legacy = BookEventLog.Published.parse(json);
+        assertNull(legacy.getId());
+        assertArrayEquals(json, legacy.getPayload());
+    }
+
+    @Test
+    @DisplayName("남은 가장 오래된 이벤트가 lastEventId 바로 다음 이벤트이면 gap 없이 재전송한다")
+    void readAfter_oldestIsSuccessor_noGap() {
+        RedisStreamCommands streams = givenStream("1700000000000-3");
+        BookEvent event = BookEvent.builder().bookId(7L).build();
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+        when(serializer.deserialize(PAYLOAD)).thenReturn(event);
+        when(streams.xRange(eq(KEY), eq(Range.rightUnbounded(Range.Bound.exclusive("1700000000000-2"))), any()))
+                .thenReturn(List.of(record("1700000000000-3")));
+
+        BookEventLog.Replay replay = eventLog.readAfter(7L, "1700000000000-2");
+
+        assertFalse(replay.isGap());
+        assertEquals(1, replay.getEntries().size());
+        assertEquals("1700000000000-3", replay.getEntries().get(0).getEvent().getEventId());
+    }
+
+    @Test
+    @DisplayName("남은 가장 오래된 이벤트가 lastEventId 바로 다음보다 뒤면 gap 으로 표시한다")
+    void readAfter_oldestBeyondSuccessor_gap() {
+        RedisStreamCommands streams = givenStream("1700000000000-4");
+
+        BookEventLog.Replay replay = eventLog.readAfter(7L, "1700000000000-2");
+
+        assertTrue(replay.isGap());
+        verify(streams, times(1)).xRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("lastEventId 가 아직 남아 있으면 그 이후 이벤트만 재전송한다")
+    void readAfter_lastEventRetained() {
+        RedisStreamCommands streams = givenStream("1700000000000-0");
+        when(streams.xRange(eq(KEY), eq(Range.rightUnbounded(Range.Bound.exclusive("1700000000000-2"))), any()))
+                .thenReturn(List.of());
+
+        BookEventLog.Replay replay = eventLog.readAfter(7L, "1700000000000-2");
+
+        assertFalse(replay.isGap());
+        assertTrue(replay.getEntries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("스트림 ID의 다음 ID는 시퀀스를 1 증가시킨다")
+    void successor_incrementsSequence() {
+        assertEquals("1700000000000-10", BookEventLog.successor("1700000000000-9"));
+        assertTrue(BookEventLog.compareIds(BookEventLog.successor("5-0"), "5-0") > 0);
+    }
+
+    private RedisStreamCommands givenStream(String oldestId) {
+        RedisStreamCommands streams = mock(RedisStreamCommands.class);
+        when(connection.streamCommands()).thenReturn(streams);
+        when(streams.xRange(eq(KEY), eq(Range.unbounded()), any()))
+                .thenReturn(List.of(record(oldestId)));
+        return streams;
+    }
+
+    private static ByteRecord record(String id) {
+        return StreamRecords.rawBytes(Map.of("event".getBytes(StandardCharsets.UTF_8), PAYLOAD))
+                .withStreamKey(KEY)
+                .withId(RecordId.of(id));
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
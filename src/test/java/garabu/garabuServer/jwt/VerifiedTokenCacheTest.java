@@ -0,0 +1,96 @@
+package garabu.garabuServer.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "garabu-test-secret-key-0123456789-abcdefghij".getBytes(StandardCharsets.UTF_8));
+
+    private JWTUtil jwtUtil;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JWTUtil(SECRET));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtUtil, meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("한 번 검증된 토큰은 재요청 시 서명 검증 없이 캐시된 클레임을 반환한다")
+    void verify_cachesVerifiedClaims() {
+        String token = jwtUtil.createJwt("access", "user1", "ROLE_USER", 60_000L);
+
+        VerifiedJwt first = cache.verify(token);
+        VerifiedJwt second = cache.verify(token);
+
+        assertSame(first, second);
+        assertEquals("access", second.getCategory());
+        assertEquals("user1", second.getUsername());
+        assertEquals("ROLE_USER", second.getRole());
+        assertNotNull(second.getJti());
+        verify(jwtUtil, times(1)).verify(token);
+        assertEquals(1.0, meterRegistry.get("jwt.claims.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.claims.cache.requests").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException을 던지고 캐시하지 않는다")
+    void verify_expiredToken() {
+        String token = jwtUtil.createJwt("access", "user1", "ROLE_USER", -1_000L);
+
+        assertThrows(ExpiredJwtException.class, () -> cache.verify(token));
+        assertThrows(ExpiredJwtException.class, () -> cache.verify(token));
+        verify(jwtUtil, times(2)).verify(token);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부된다")
+    void verify_invalidSignature() {
+        String otherSecret = Base64.getEncoder().encodeToString(
+                "another-secret-key-for-garabu-0123456789xyz".getBytes(StandardCharsets.UTF_8));
+        String token = new JWTUtil(otherSecret).createJwt("access", "user1", "ROLE_USER", 60_000L);
+
+        assertThrows(JwtException.class, () -> cache.verify(token));
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 일부 항목만 내보내 최대 항목 수 이하로 유지하고 검증 결과는 그대로 반환한다")
+    void verify_boundsSizeIncrementally() {
+        SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache smallCache = new VerifiedTokenCache(jwtUtil, smallRegistry, 2);
+
+        for (int i = 0; i < 5; i++) {
+            String token = jwtUtil.createJwt("access", "user" + i, "ROLE_USER", 60_000L);
+            assertEquals("user" + i, smallCache.verify(token).getUsername());
+        }
+        smallCache.evictExpired();
+
+        assertTrue(smallRegistry.get("jwt.claims.cache.size").gauge().value() <= 2);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp 가 지나면 다시 검증한다")
+    void verify_expiresAtTokenExp() throws InterruptedException {
+        String token = jwtUtil.createJwt("access", "user1", "ROLE_USER", 1_500L);
+
+        cache.verify(token);
+        Thread.sleep(2_000);
+
+        assertThrows(ExpiredJwtException.class, () -> cache.verify(token));
+        verify(jwtUtil, times(2)).verify(token);
+    }
+}
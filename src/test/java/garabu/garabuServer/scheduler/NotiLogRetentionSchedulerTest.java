@@ -0,0 +1,130 @@
+package garabu.garabuServer.scheduler;
+
+import garabu.garabuServer.repository.NotiLogArchiveRepository;
+import garabu.garabuServer.service.NotiLogRetentionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotiLogRetentionSchedulerTest {
+
+    @Mock
+    private NotiLogRetentionService retentionService;
+    @Mock
+    private NotiLogArchiveRepository archiveRepository;
+
+    private NotiLogRetentionScheduler scheduler(boolean archiveEnabled, int maxChunks) {
+        // 청크 크기 100, 청크 사이 대기 없음
+        return new NotiLogRetentionScheduler(retentionService, 30, 365, archiveEnabled, 100, maxChunks, 0);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 차지 않을 때까지 보관 이동 후 보관 기간이 지난 보관 이력을 삭제한다")
+    void purge_runsChunksUntilPartial() {
+        when(retentionService.archiveChunk(any(), eq(100), eq(true))).thenReturn(100, 100, 40);
+        when(retentionService.purgeArchiveChunk(any(), eq(100))).thenReturn(0);
+
+        scheduler(true, 10).purgeNotificationLogs();
+
+        verify(retentionService, times(3)).archiveChunk(any(), eq(100), eq(true));
+        verify(retentionService).purgeArchiveChunk(any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("한 번에 처리하는 청크 수를 넘으면 다음 실행으로 미룬다")
+    void run_stopsAtMaxChunks() {
+        NotiLogRetentionScheduler scheduler = scheduler(true, 3);
+
+        int processed = scheduler.run(() -> 100);
+
+        assertEquals(300, processed);
+    }
+
+    @Test
+    @DisplayName("청크 처리에 실패하면 그때까지 처리한 건수만 반환하고 멈춘다")
+    void run_stopsOnFailure() {
+        NotiLogRetentionScheduler scheduler = scheduler(true, 10);
+        int[] calls = {0};
+
+        int processed = scheduler.run(() -> {
+            if (++calls[0] == 2) {
+                throw new IllegalStateException("lock wait timeout");
+            }
+            return 100;
+        });
+
+        assertEquals(100, processed);
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    @DisplayName("보관을 끄면 운영 테이블에서 삭제만 하고 보관 테이블은 건드리지 않는다")
+    void purge_withoutArchive() {
+        when(retentionService.archiveChunk(any(), eq(100), eq(false))).thenReturn(10);
+
+        scheduler(false, 10).purgeNotificationLogs();
+
+        verify(retentionService, never()).purgeArchiveChunk(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("보관을 켜면 청크마다 보관 테이블로 복사한 뒤 운영 테이블에서 삭제하고 보관 기간이 지난 이력도 지운다")
+    void purge_archivesChunksEndToEnd() {
+        when(archiveRepository.findExpiredNoticeNos(any(), eq(2))).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(archiveRepository.findExpiredArchivedNoticeNos(any(), eq(2))).thenReturn(List.of(9L));
+
+        chunkScheduler(true).purgeNotificationLogs();
+
+        InOrder order = inOrder(archiveRepository);
+        order.verify(archiveRepository).copyToArchive(List.of(1L, 2L));
+        order.verify(archiveRepository).deleteFromHot(List.of(1L, 2L));
+        order.verify(archiveRepository).copyToArchive(List.of(3L));
+        order.verify(archiveRepository).deleteFromHot(List.of(3L));
+        order.verify(archiveRepository).deleteFromArchive(List.of(9L));
+        verify(archiveRepository, times(2)).findExpiredNoticeNos(any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("보관을 끄면 청크를 운영 테이블에서 삭제만 하고 보관 테이블은 조회하지 않는다")
+    void purge_deletesChunksWithoutArchiveTables() {
+        when(archiveRepository.findExpiredNoticeNos(any(), eq(2))).thenReturn(List.of(1L));
+
+        chunkScheduler(false).purgeNotificationLogs();
+
+        verify(archiveRepository).deleteFromHot(List.of(1L));
+        verify(archiveRepository, never()).copyToArchive(any());
+        verify(archiveRepository, never()).findExpiredArchivedNoticeNos(any(), anyInt());
+        verify(archiveRepository, never()).deleteFromArchive(any());
+    }
+
+    @Test
+    @DisplayName("보관 테이블로 복사하지 못하면 운영 테이블에서 삭제하지 않고 멈춘다")
+    void purge_keepsHotRowsWhenCopyFails() {
+        when(archiveRepository.findExpiredNoticeNos(any(), eq(2))).thenReturn(List.of(1L, 2L));
+        when(archiveRepository.copyToArchive(List.of(1L, 2L)))
+                .thenThrow(new DataAccessResourceFailureException("Table 'noti_send_archive' doesn't exist"));
+        when(archiveRepository.findExpiredArchivedNoticeNos(any(), eq(2))).thenReturn(List.of());
+
+        chunkScheduler(true).purgeNotificationLogs();
+
+        verify(archiveRepository, never()).deleteFromHot(any());
+        verify(archiveRepository, times(1)).findExpiredNoticeNos(any(), anyInt());
+    }
+
+    private NotiLogRetentionScheduler chunkScheduler(boolean archiveEnabled) {
+        // 실제 보관 서비스로 청크를 처리, 청크 크기 2
+        return new NotiLogRetentionScheduler(new NotiLogRetentionService(archiveRepository),
+                30, 365, archiveEnabled, 2, 10, 0);
+    }
+}
@@ -0,0 +1,63 @@
+package garabu.garabuServer.scheduler;
+
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.domain.NotificationOutboxType;
+import garabu.garabuServer.service.NotificationOutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxWorkerTest {
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    private NotificationOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new NotificationOutboxWorker(outboxService, 1, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 별도 트랜잭션으로 실패를 기록해 재시도되게 한다")
+    void poll_recordsFailure() {
+        NotificationOutbox outbox = NotificationOutbox.of(NotificationOutboxType.NEW_TRANSACTION, 100L, 1L);
+        outbox.setId(7L);
+        IllegalStateException failure = new IllegalStateException("FCM 발송 실패");
+        when(outboxService.claim(anyInt())).thenReturn(List.of(outbox));
+        doThrow(failure).when(outboxService).process(7L);
+
+        worker.poll();
+
+        verify(outboxService, timeout(5000)).recordFailure(7L, failure);
+    }
+
+    @Test
+    @DisplayName("발송에 성공하면 실패를 기록하지 않는다")
+    void poll_success() {
+        NotificationOutbox outbox = NotificationOutbox.of(NotificationOutboxType.NEW_TRANSACTION, 101L, 1L);
+        outbox.setId(8L);
+        when(outboxService.claim(anyInt())).thenReturn(List.of(outbox));
+
+        worker.poll();
+
+        verify(outboxService, timeout(5000)).process(8L);
+        verify(outboxService, never()).recordFailure(any(), any());
+    }
+}
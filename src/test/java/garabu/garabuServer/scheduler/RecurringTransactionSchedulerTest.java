@@ -0,0 +1,149 @@
+package garabu.garabuServer.scheduler;
+
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.RecurrenceType;
+import garabu.garabuServer.domain.RecurringTransaction;
+import garabu.garabuServer.repository.RecurringExecutionRepository;
+import garabu.garabuServer.repository.RecurringTransactionRepository;
+import garabu.garabuServer.service.CategoryService;
+import garabu.garabuServer.service.LedgerService;
+import garabu.garabuServer.service.NotificationService;
+import garabu.garabuServer.service.PaymentService;
+import garabu.garabuServer.service.RecurringTransactionExecutionService;
+import garabu.garabuServer.service.RecurringTransactionExecutionService.ExecutedTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionSchedulerTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Mock
+    private RecurringTransactionExecutionService executionService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private RecurringExecutionRepository recurringExecutionRepository;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    private RecurringTransactionScheduler scheduler;
+
+    private final LocalDate today = LocalDate.of(2025, 3, 1);
+
+    @BeforeEach
+    void setUp() {
+        // 워커 1개로 청크 순서를 고정
+        scheduler = new RecurringTransactionScheduler(
+                recurringTransactionRepository, executionService, notificationService, 1, 2, 10);
+    }
+
+    @Test
+    @DisplayName("점유할 거래가 없을 때까지 청크를 반복 실행하고 실행된 거래만 알림을 보낸다")
+    void run_executesChunksUntilNothingClaimed() {
+        when(executionService.claim(eq(today), anyString(), eq(2), any(), eq(false)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(executionService.executeChunk(eq(List.of(1L, 2L)), anyString()))
+                .thenReturn(List.of(executed(1L), executed(2L)));
+        when(executionService.executeChunk(eq(List.of(3L)), anyString()))
+                .thenReturn(List.of(executed(3L)));
+
+        int executed = scheduler.run(today, false);
+
+        assertEquals(3, executed);
+        verify(notificationService, times(3)).sendRecurringTransactionNotification(eq(7L), anyString(), eq(10000));
+    }
+
+    @Test
+    @DisplayName("청크가 실패하면 건별로 다시 실행하고 실패한 거래만 점유를 해제한다")
+    void run_isolatesFailedTransaction() {
+        when(executionService.claim(eq(today), anyString(), eq(2), any(), eq(false)))
+                .thenReturn(List.of(1L, 2L), List.of());
+        when(executionService.executeChunk(eq(List.of(1L, 2L)), anyString()))
+                .thenThrow(new RuntimeException("가계부에 카테고리가 없습니다"));
+        when(executionService.executeChunk(eq(List.of(1L)), anyString()))
+                .thenReturn(List.of(executed(1L)));
+        when(executionService.executeChunk(eq(List.of(2L)), anyString()))
+                .thenThrow(new RuntimeException("가계부에 카테고리가 없습니다"));
+
+        int executed = scheduler.run(today, false);
+
+        assertEquals(1, executed);
+        verify(executionService).releaseFailed(eq(2L), anyString(), any());
+        verify(executionService, never()).releaseFailed(eq(1L), anyString(), any());
+        verify(notificationService, times(1)).sendRecurringTransactionNotification(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("자동 생성을 끈 반복거래는 밀린 회차가 있어도 기록을 만들지 않고 점유만 해제한다")
+    void run_skipsAutoCreateDisabled() {
+        RecurringTransactionExecutionService realExecutionService = new RecurringTransactionExecutionService(
+                recurringTransactionRepository, recurringExecutionRepository, ledgerService, categoryService, paymentService);
+        RecurringTransactionScheduler scheduler = new RecurringTransactionScheduler(
+                recurringTransactionRepository, realExecutionService, notificationService, 1, 2, 10);
+        LocalDate now = LocalDate.now();
+        RecurringTransaction transaction = recurring(now.minusDays(2));
+        when(recurringTransactionRepository.findClaimable(eq(now), any(), eq(2)))
+                .thenReturn(List.of(transaction), List.of());
+        when(recurringTransactionRepository.findClaimedWithBook(eq(List.of(1L)), anyString()))
+                .thenAnswer(invocation -> {
+                    // 점유 후 실행 전에 사용자가 자동 생성을 끔
+                    transaction.setAutoCreate(false);
+                    return List.of(transaction);
+                });
+
+        int executed = scheduler.run(now, false);
+
+        assertEquals(0, executed);
+        verify(ledgerService, never()).registLedgers(anyList());
+        verify(recurringExecutionRepository, never()).insertAll(argThat(pending -> !pending.isEmpty()));
+        verifyNoInteractions(notificationService);
+        assertNull(transaction.getClaimedBy());
+        assertEquals(now.minusDays(2), transaction.getNextExecutionDate());
+        assertEquals(0, transaction.getExecutionCount());
+    }
+
+    private RecurringTransaction recurring(LocalDate nextExecutionDate) {
+        Member owner = new Member();
+        owner.setId(7L);
+        Book book = new Book();
+        book.setId(10L);
+        book.setOwner(owner);
+        RecurringTransaction transaction = RecurringTransaction.create(book, "월세", AmountType.EXPENSE,
+                new BigDecimal("10000"), RecurrenceType.DAILY, nextExecutionDate.minusDays(1));
+        transaction.setId(1L);
+        transaction.setNextExecutionDate(nextExecutionDate);
+        transaction.setLastExecutionDate(nextExecutionDate.minusDays(1));
+        transaction.setExecutionCount(0);
+        return transaction;
+    }
+
+    private ExecutedTransaction executed(Long id) {
+        return new ExecutedTransaction(id, 1, 7L, "월세", 10000);
+    }
+}
@@ -0,0 +1,162 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.Asset;
+import garabu.garabuServer.domain.AssetType;
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.repository.AssetJpaRepository;
+import garabu.garabuServer.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자산 잔액 동시 갱신 스트레스 테스트 (H2)
+ * 여러 스레드가 같은 자산에 동시에 기록해도 최종 잔액이 정확히 맞는지 확인합니다.
+ */
+@DataJpaTest
+@Import(AssetBalanceService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AssetBalanceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetBalanceConcurrencyTest.class);
+
+    private static final int THREADS = 8;
+    private static final int OPS_PER_THREAD = 250;
+
+    @Configuration
+    @EntityScan(basePackageClasses = Asset.class)
+    @EnableJpaRepositories(basePackageClasses = AssetJpaRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {AssetJpaRepository.class, BookRepository.class}))
+    static class TestConfig {
+    }
+
+    @Autowired private AssetBalanceService assetBalanceService;
+    @Autowired private AssetJpaRepository assetJpaRepository;
+    @Autowired private BookRepository bookRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        book = tx.execute(status -> {
+            Book newBook = new Book();
+            newBook.setTitle("공동 가계부");
+            return bookRepository.save(newBook);
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 수입/지출을 반영해도 갱신이 유실되지 않고 최종 잔액이 정확하다")
+    void concurrentDeltas_exactFinalBalance() throws Exception {
+        long initialBalance = 1_000_000L;
+        Long assetId = createAsset(AssetType.DEBIT_CARD, initialBalance);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                long applied = 0;
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    // 수입 +1,000 과 지출 -700 을 번갈아 반영
+                    long delta = i % 2 == 0 ? 1_000L : -700L;
+                    tx.executeWithoutResult(status ->
+                            assetBalanceService.applyDelta(assetJpaRepository.findById(assetId).orElseThrow(), delta));
+                    applied += delta;
+                }
+                return applied;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        long expectedDelta = 0;
+        for (Future<Long> result : results) {
+            // 각 스레드는 실패 없이 모든 증감을 반영
+            long applied = result.get(30, TimeUnit.SECONDS);
+            assertEquals((OPS_PER_THREAD / 2) * 300L, applied);
+            expectedDelta += applied;
+        }
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        long finalBalance = assetJpaRepository.findById(assetId).orElseThrow().getBalance();
+        int ops = THREADS * OPS_PER_THREAD;
+        log.info("자산 잔액 동시 갱신 - 스레드: {}, 처리: {}건 / {}ms ({} ops/s), 최종 잔액: {}",
+                THREADS, ops, elapsedMs, ops * 1000L / elapsedMs, finalBalance);
+        assertEquals(initialBalance + expectedDelta, finalBalance);
+        assertEquals(initialBalance + THREADS * (OPS_PER_THREAD / 2) * 300L, finalBalance);
+    }
+
+    @Test
+    @DisplayName("신용카드가 아닌 자산은 잔액이 부족하면 반영하지 않는다")
+    void applyDelta_insufficientBalance() {
+        Long assetId = createAsset(AssetType.CASH, 500L);
+
+        assertThrows(IllegalArgumentException.class, () -> tx.executeWithoutResult(status ->
+                assetBalanceService.applyDelta(assetJpaRepository.findById(assetId).orElseThrow(), -1_000L)));
+
+        assertEquals(500L, assetJpaRepository.findById(assetId).orElseThrow().getBalance());
+    }
+
+    @Test
+    @DisplayName("신용카드는 잔액이 음수가 될 수 있다")
+    void applyDelta_creditCardAllowsNegative() {
+        Long assetId = createAsset(AssetType.CREDIT_CARD, 0L);
+
+        tx.executeWithoutResult(status ->
+                assetBalanceService.applyDelta(assetJpaRepository.findById(assetId).orElseThrow(), -30_000L));
+
+        assertEquals(-30_000L, assetJpaRepository.findById(assetId).orElseThrow().getBalance());
+    }
+
+    @Test
+    @DisplayName("잔액 반영 전에 읽은 자산 엔티티를 저장해도 잔액을 덮어쓰지 않는다")
+    void saveStaleAsset_keepsBalance() {
+        Long assetId = createAsset(AssetType.CASH, 10_000L);
+        Asset stale = assetJpaRepository.findById(assetId).orElseThrow();
+
+        tx.executeWithoutResult(status ->
+                assetBalanceService.applyDelta(assetJpaRepository.findById(assetId).orElseThrow(), 5_000L));
+        stale.updateInfo("생활비 통장", null, null, null, null);
+        tx.executeWithoutResult(status -> assetJpaRepository.save(stale));
+
+        Asset saved = assetJpaRepository.findById(assetId).orElseThrow();
+        assertEquals("생활비 통장", saved.getName());
+        assertEquals(15_000L, saved.getBalance());
+    }
+
+    private Long createAsset(AssetType type, long balance) {
+        return tx.execute(status -> assetJpaRepository.save(new Asset("공용 카드", type, balance, book)).getId());
+    }
+}
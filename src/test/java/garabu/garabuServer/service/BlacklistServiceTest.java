@@ -0,0 +1,122 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.event.BlacklistEvent;
+import garabu.garabuServer.event.BlacklistEventListener;
+import garabu.garabuServer.jwt.JWTConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private BlacklistService service(BlacklistNearCache nearCache) {
+        return new BlacklistService(redisTemplate, nearCache, refreshTokenService);
+    }
+
+    @Test
+    @DisplayName("블랙리스트에 추가하면 로컬에서 바로 거부하고 다른 노드에 이벤트를 발행한다")
+    void addToBlacklist_rejectsLocallyAndPublishes() {
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, Object> valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        BlacklistService service = service(new BlacklistNearCache(60_000));
+
+        service.addToBlacklist("jti-1", "logout", 60_000L);
+
+        assertTrue(service.isBlacklisted("jti-1"));
+        verify(redisTemplate, never()).hasKey(any());
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(JWTConstants.BLACKLIST_CHANNEL), event.capture());
+        assertEquals(List.of("jti-1"), ((BlacklistEvent) event.getValue()).getJtis());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 블랙리스트 이벤트를 받으면 Redis 조회 없이 거부한다")
+    void eventListener_propagatesRevoke() {
+        BlacklistNearCache nearCache = new BlacklistNearCache(60_000);
+        BlacklistEvent event = BlacklistEvent.builder()
+                .jtis(List.of("jti-2"))
+                .expiresAt(System.currentTimeMillis() + 60_000)
+                .build();
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = mock(RedisSerializer.class);
+        Message message = mock(Message.class);
+        byte[] body = new byte[]{1};
+        when(message.getBody()).thenReturn(body);
+        doReturn(serializer).when(redisTemplate).getValueSerializer();
+        when(serializer.deserialize(body)).thenReturn(event);
+
+        new BlacklistEventListener(nearCache, redisTemplate).onMessage(message, null);
+
+        assertTrue(service(nearCache).isBlacklisted("jti-2"));
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @Test
+    @DisplayName("이벤트가 유실되어도 로컬에 없는 토큰은 Redis로 확인해 거부하고 이후에는 로컬에서 거부한다")
+    void isBlacklisted_fallsBackToRedisAfterLostMessage() {
+        // 정상 확인 결과를 기억하지 않는 설정: 로컬 미스는 항상 Redis 조회
+        BlacklistService service = service(new BlacklistNearCache(0));
+        when(redisTemplate.hasKey(JWTConstants.BLACKLIST_PREFIX + "jti-3")).thenReturn(false, true);
+
+        assertFalse(service.isBlacklisted("jti-3"));
+        // 다른 노드에서 폐기했지만 이벤트는 도착하지 않음
+        assertTrue(service.isBlacklisted("jti-3"));
+        assertTrue(service.isBlacklisted("jti-3"));
+
+        verify(redisTemplate, times(2)).hasKey(JWTConstants.BLACKLIST_PREFIX + "jti-3");
+    }
+
+    @Test
+    @DisplayName("Redis에서 정상으로 확인한 토큰은 짧은 시간 동안 다시 조회하지 않는다")
+    void isBlacklisted_cachesCleanResultBriefly() {
+        BlacklistService service = service(new BlacklistNearCache(60_000));
+        when(redisTemplate.hasKey(JWTConstants.BLACKLIST_PREFIX + "jti-4")).thenReturn(false);
+
+        assertFalse(service.isBlacklisted("jti-4"));
+        assertFalse(service.isBlacklisted("jti-4"));
+
+        verify(redisTemplate, times(1)).hasKey(any());
+    }
+
+    @Test
+    @DisplayName("정상으로 기억한 토큰도 블랙리스트 이벤트를 받으면 즉시 거부한다")
+    void isBlacklisted_revokeOverridesCleanResult() {
+        BlacklistNearCache nearCache = new BlacklistNearCache(60_000);
+        BlacklistService service = service(nearCache);
+        when(redisTemplate.hasKey(JWTConstants.BLACKLIST_PREFIX + "jti-5")).thenReturn(false);
+
+        assertFalse(service.isBlacklisted("jti-5"));
+        nearCache.addAll(List.of("jti-5"), null);
+
+        assertTrue(service.isBlacklisted("jti-5"));
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 안전하게 거부한다")
+    void isBlacklisted_failsClosed() {
+        BlacklistService service = service(new BlacklistNearCache(60_000));
+        when(redisTemplate.hasKey(any())).thenThrow(new IllegalStateException("connection refused"));
+
+        assertTrue(service.isBlacklisted("jti-6"));
+    }
+}
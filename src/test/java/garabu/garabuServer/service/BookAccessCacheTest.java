@@ -0,0 +1,131 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.BookRole;
+import garabu.garabuServer.event.BookAccessEvent;
+import garabu.garabuServer.repository.UserBookJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookAccessCacheTest {
+
+    @Mock
+    private UserBookJpaRepository userBookJpaRepository;
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private BookAccessCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookAccessCache(userBookJpaRepository, redisTemplate, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("권한이 있으면 TTL 동안 다시 조회하지 않는다")
+    void findRole_cachesGrantedRole() {
+        when(userBookJpaRepository.findBookRole(10L, 1L)).thenReturn(Optional.of(BookRole.EDITOR));
+
+        assertEquals(Optional.of(BookRole.EDITOR), cache.findRole(10L, 1L));
+        assertEquals(Optional.of(BookRole.EDITOR), cache.findRole(10L, 1L));
+
+        verify(userBookJpaRepository, times(1)).findBookRole(10L, 1L);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("권한 없음은 요청 간에 캐시하지 않아 참여 직후 바로 접근할 수 있다")
+    void findRole_doesNotCacheMissingRole() {
+        when(userBookJpaRepository.findBookRole(10L, 1L))
+                .thenReturn(Optional.empty(), Optional.of(BookRole.VIEWER));
+
+        assertTrue(cache.findRole(10L, 1L).isEmpty());
+        assertEquals(Optional.of(BookRole.VIEWER), cache.findRole(10L, 1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 무효화하면 바로 제거하고 다른 노드에 이벤트를 발행한다")
+    void invalidate_withoutTransaction_publishes() {
+        when(userBookJpaRepository.findBookRole(10L, 1L))
+                .thenReturn(Optional.of(BookRole.EDITOR), Optional.of(BookRole.VIEWER));
+        cache.findRole(10L, 1L);
+
+        cache.invalidate(10L, 1L);
+
+        assertEquals(Optional.of(BookRole.VIEWER), cache.findRole(10L, 1L));
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(BookAccessCache.CHANNEL), captor.capture());
+        BookAccessEvent event = (BookAccessEvent) captor.getValue();
+        assertEquals(10L, event.getBookId());
+        assertEquals(1L, event.getMemberId());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다시 채워진 값도 커밋 후 제거하고 그때 발행한다")
+    void invalidate_inTransaction_evictsAgainAfterCommit() {
+        when(userBookJpaRepository.findBookRole(10L, 1L))
+                .thenReturn(Optional.of(BookRole.EDITOR), Optional.of(BookRole.EDITOR), Optional.of(BookRole.VIEWER));
+        cache.findRole(10L, 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(10L, 1L);
+            // 커밋 전 다른 요청이 이전 역할을 다시 채움
+            cache.findRole(10L, 1L);
+            verify(redisTemplate, never()).convertAndSend(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(Optional.of(BookRole.VIEWER), cache.findRole(10L, 1L));
+        verify(redisTemplate).convertAndSend(eq(BookAccessCache.CHANNEL), any(BookAccessEvent.class));
+    }
+
+    @Test
+    @DisplayName("조회 중에 제거되면 조회 결과를 캐시하지 않는다")
+    void findRole_evictedDuringLoad_notCached() {
+        when(userBookJpaRepository.findBookRole(10L, 1L))
+                .thenAnswer(invocation -> {
+                    // 다른 노드의 권한 변경 이벤트가 조회 중에 도착
+                    cache.evict(10L, 1L);
+                    return Optional.of(BookRole.EDITOR);
+                })
+                .thenReturn(Optional.of(BookRole.VIEWER));
+
+        assertEquals(Optional.of(BookRole.EDITOR), cache.findRole(10L, 1L));
+
+        assertEquals(0, cache.size());
+        assertEquals(Optional.of(BookRole.VIEWER), cache.findRole(10L, 1L));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 전체를 비우지 않고 일부만 제거한다")
+    void findRole_overMaxSize_evictsIncrementally() {
+        cache = new BookAccessCache(userBookJpaRepository, redisTemplate, 60_000, 2);
+        when(userBookJpaRepository.findBookRole(eq(10L), any())).thenReturn(Optional.of(BookRole.EDITOR));
+
+        cache.findRole(10L, 1L);
+        cache.findRole(10L, 2L);
+        cache.findRole(10L, 3L);
+        cache.cleanup();
+
+        assertEquals(2, cache.size());
+    }
+}
@@ -4,7 +4,6 @@ import garabu.garabuServer.domain.*;
 import garabu.garabuServer.exception.BookAccessException;
 import garabu.garabuServer.exception.InsufficientPermissionException;
 import garabu.garabuServer.repository.CategoryJpaRepository;
-import garabu.garabuServer.repository.UserBookJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,7 +31,7 @@ class CategoryServicePermissionTest {
     private MemberService memberService;
     
     @Mock
-    private UserBookJpaRepository userBookJpaRepository;
+    private BookAccessCache bookAccessCache;
     
     @InjectMocks
     private CategoryService categoryService;
@@ -81,8 +80,8 @@ class CategoryServicePermissionTest {
     void validateBookAccess_Success_Owner() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(ownerUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(ownerUserBook.getBookRole()));
         
         // When & Then
         assertDoesNotThrow(() -> categoryService.validateBookAccess(testBook));
@@ -93,8 +92,8 @@ class CategoryServicePermissionTest {
     void validateBookAccess_Success_Editor() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(editorUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(editorUserBook.getBookRole()));
         
         // When & Then
         assertDoesNotThrow(() -> categoryService.validateBookAccess(testBook));
@@ -105,8 +104,8 @@ class CategoryServicePermissionTest {
     void validateBookAccess_Success_Viewer() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(viewerUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(viewerUserBook.getBookRole()));
         
         // When & Then
         assertDoesNotThrow(() -> categoryService.validateBookAccess(testBook));
@@ -117,7 +116,7 @@ class CategoryServicePermissionTest {
     void validateBookAccess_Fail_NoPermission() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
                 .thenReturn(Optional.empty());
         
         // When & Then
@@ -132,8 +131,8 @@ class CategoryServicePermissionTest {
     void validateBookEditAccess_Success_Owner() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(ownerUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(ownerUserBook.getBookRole()));
         
         // When & Then
         assertDoesNotThrow(() -> categoryService.validateBookEditAccess(testBook));
@@ -144,8 +143,8 @@ class CategoryServicePermissionTest {
     void validateBookEditAccess_Success_Editor() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(editorUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(editorUserBook.getBookRole()));
         
         // When & Then
         assertDoesNotThrow(() -> categoryService.validateBookEditAccess(testBook));
@@ -156,8 +155,8 @@ class CategoryServicePermissionTest {
     void validateBookEditAccess_Fail_Viewer() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(viewerUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(viewerUserBook.getBookRole()));
         
         // When & Then
         InsufficientPermissionException exception = assertThrows(InsufficientPermissionException.class, 
@@ -172,7 +171,7 @@ class CategoryServicePermissionTest {
     void validateBookEditAccess_Fail_NoPermission() {
         // Given
         when(memberService.getCurrentMember()).thenReturn(testMember);
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
                 .thenReturn(Optional.empty());
         
         // When & Then
@@ -186,8 +185,8 @@ class CategoryServicePermissionTest {
     @DisplayName("사용자 권한 조회 테스트")
     void getUserBookRole_Test() {
         // Given
-        when(userBookJpaRepository.findByBookIdAndMemberId(testBook.getId(), testMember.getId()))
-                .thenReturn(Optional.of(ownerUserBook));
+        when(bookAccessCache.findRole(testBook.getId(), testMember.getId()))
+                .thenReturn(Optional.of(ownerUserBook.getBookRole()));
         
         // When
         BookRole role = categoryService.getUserBookRole(testBook, testMember);
@@ -200,8 +199,8 @@ class CategoryServicePermissionTest {
     @DisplayName("권한 확인 테스트 - OWNER는 모든 권한 보유")
     void hasPermission_Owner_AllPermissions() {
         // Given
-        when(userBookJpaRepository.findByBookIdAndMemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(ownerUserBook));
+        when(bookAccessCache.findRole(anyLong(), anyLong()))
+                .thenReturn(Optional.of(ownerUserBook.getBookRole()));
         
         // When & Then
         assertTrue(categoryService.hasPermission(testBook, testMember, BookRole.VIEWER));
@@ -213,8 +212,8 @@ class CategoryServicePermissionTest {
     @DisplayName("권한 확인 테스트 - EDITOR는 VIEWER, EDITOR 권한만 보유")
     void hasPermission_Editor_LimitedPermissions() {
         // Given
-        when(userBookJpaRepository.findByBookIdAndMemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(editorUserBook));
+        when(bookAccessCache.findRole(anyLong(), anyLong()))
+                .thenReturn(Optional.of(editorUserBook.getBookRole()));
         
         // When & Then
         assertTrue(categoryService.hasPermission(testBook, testMember, BookRole.VIEWER));
@@ -226,8 +225,8 @@ class CategoryServicePermissionTest {
     @DisplayName("권한 확인 테스트 - VIEWER는 VIEWER 권한만 보유")
     void hasPermission_Viewer_ViewOnlyPermission() {
         // Given
-        when(userBookJpaRepository.findByBookIdAndMemberId(anyLong(), anyLong()))
-                .thenReturn(Optional.of(viewerUserBook));
+        when(bookAccessCache.findRole(anyLong(), anyLong()))
+                .thenReturn(Optional.of(viewerUserBook.getBookRole()));
         
         // When & Then
         assertTrue(categoryService.hasPermission(testBook, testMember, BookRole.VIEWER));
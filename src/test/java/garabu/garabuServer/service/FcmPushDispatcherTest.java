@@ -0,0 +1,240 @@
+package garabu.garabuServer.service;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import garabu.garabuServer.domain.FcmUserToken;
+import garabu.garabuServer.domain.NotiSend;
+import garabu.garabuServer.domain.NotiSendList;
+import garabu.garabuServer.repository.FcmTokenRepository;
+import garabu.garabuServer.repository.NotiSendListBatchRepository;
+import garabu.garabuServer.repository.NotiSendListRepository;
+import garabu.garabuServer.repository.NotiSendRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmPushDispatcherTest {
+
+    private static final String APP_ID = "garabu-app";
+
+    @Mock private FcmService fcmService;
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private FcmTokenService fcmTokenService;
+    @Mock private NotiSendRepository notiSendRepository;
+    @Mock private NotiSendListRepository notiSendListRepository;
+    @Mock private NotiSendListBatchRepository notiSendListBatchRepository;
+
+    private FcmPushDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        FcmTokenCache fcmTokenCache = new FcmTokenCache(fcmTokenRepository, null, 300, 1000);
+        dispatcher = new FcmPushDispatcher(fcmService, fcmTokenCache, fcmTokenService, notiSendRepository,
+                notiSendListRepository, notiSendListBatchRepository, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("토큰은 한 번에 조회하고 500건 단위로 배치 발송한 뒤 결과를 일괄 반영한다")
+    void send_batchesTargets() throws Exception {
+        List<NotiSendList> targets = new ArrayList<>();
+        List<FcmUserToken> tokens = new ArrayList<>();
+        for (long i = 1; i <= 501; i++) {
+            targets.add(NotiSendList.builder().sendListId(i).appId(APP_ID).noticeNo(1L)
+                    .userId(String.valueOf(i)).successYn("N").build());
+            tokens.add(FcmUserToken.builder().tokenId(i).appId(APP_ID)
+                    .userId(String.valueOf(i)).fcmToken("token-" + i).useAt("Y").build());
+        }
+        when(notiSendListRepository.findByAppIdAndNoticeNo(APP_ID, 1L)).thenReturn(targets);
+        when(fcmTokenRepository.findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(eq(APP_ID), eq("Y"), anyCollection()))
+                .thenReturn(tokens);
+        when(fcmService.buildMessage(anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(mock(Message.class));
+        when(fcmService.sendEach(anyList())).thenAnswer(invocation -> successResponse(
+                ((List<?>) invocation.getArgument(0)).size()));
+        NotiSend notiSend = NotiSend.builder().noticeNo(1L).build();
+        when(notiSendRepository.findById(1L)).thenReturn(Optional.of(notiSend));
+
+        dispatcher.send(new FcmPushDispatcher.PushJob(APP_ID, 1L, "제목", "내용", null));
+
+        verify(fcmTokenRepository, times(1))
+                .findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(eq(APP_ID), eq("Y"), anyCollection());
+        ArgumentCaptor<List<Message>> batches = ArgumentCaptor.forClass(List.class);
+        verify(fcmService, times(2)).sendEach(batches.capture());
+        assertEquals(500, batches.getAllValues().get(0).size());
+        assertEquals(1, batches.getAllValues().get(1).size());
+        verify(notiSendListBatchRepository, times(1)).updateResults(targets);
+        assertTrue(targets.stream().allMatch(t -> "Y".equals(t.getSuccessYn())));
+        assertEquals(501, notiSend.getPushSuccessCnt());
+        assertEquals(0, notiSend.getPushFailCnt());
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 대상자는 발송하지 않고 실패로 기록한다")
+    void send_missingToken() throws Exception {
+        NotiSendList withToken = NotiSendList.builder().sendListId(1L).appId(APP_ID).noticeNo(2L)
+                .userId("10").successYn("N").build();
+        NotiSendList withoutToken = NotiSendList.builder().sendListId(2L).appId(APP_ID).noticeNo(2L)
+                .userId("20").successYn("N").build();
+        when(notiSendListRepository.findByAppIdAndNoticeNo(APP_ID, 2L)).thenReturn(List.of(withToken, withoutToken));
+        // 같은 사용자의 토큰이 여러 개면 tokenId 가 큰 (먼저 조회된) 토큰 사용
+        when(fcmTokenRepository.findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(eq(APP_ID), eq("Y"), anyCollection()))
+                .thenReturn(List.of(
+                        FcmUserToken.builder().tokenId(5L).userId("10").fcmToken("latest").build(),
+                        FcmUserToken.builder().tokenId(3L).userId("10").fcmToken("old").build()));
+        when(fcmService.buildMessage(eq("latest"), anyString(), anyString(), anyMap()))
+                .thenReturn(mock(Message.class));
+        when(fcmService.sendEach(anyList())).thenAnswer(invocation -> successResponse(1));
+        when(notiSendRepository.findById(2L)).thenReturn(Optional.empty());
+
+        dispatcher.send(new FcmPushDispatcher.PushJob(APP_ID, 2L, "제목", "내용", "open"));
+
+        assertEquals("Y", withToken.getSuccessYn());
+        assertEquals("N", withoutToken.getSuccessYn());
+        assertEquals("FCM 토큰 없음", withoutToken.getFailMsg());
+        verify(fcmService, never()).buildMessage(eq("old"), anyString(), anyString(), anyMap());
+        verify(notiSendListBatchRepository).updateResults(List.of(withToken, withoutToken));
+    }
+
+    @Test
+    @DisplayName("UNREGISTERED 토큰과 다른 메시지가 성공한 배치의 INVALID_ARGUMENT 토큰은 사용 안 함으로 표시하고 다음 발송에서 제외한다")
+    void send_marksDeadTokens() throws Exception {
+        List<NotiSendList> targets = List.of(
+                NotiSendList.builder().sendListId(1L).appId(APP_ID).noticeNo(3L).userId("1").successYn("N").build(),
+                NotiSendList.builder().sendListId(2L).appId(APP_ID).noticeNo(3L).userId("2").successYn("N").build(),
+                NotiSendList.builder().sendListId(3L).appId(APP_ID).noticeNo(3L).userId("3").successYn("N").build());
+        when(notiSendListRepository.findByAppIdAndNoticeNo(APP_ID, 3L)).thenReturn(targets);
+        when(fcmTokenRepository.findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(eq(APP_ID), eq("Y"), anyCollection()))
+                .thenReturn(List.of(
+                        FcmUserToken.builder().tokenId(1L).userId("1").fcmToken("ok").build(),
+                        FcmUserToken.builder().tokenId(2L).userId("2").fcmToken("uninstalled").build(),
+                        FcmUserToken.builder().tokenId(3L).userId("3").fcmToken("malformed").build()));
+        when(fcmService.buildMessage(anyString(), anyString(), anyString(), anyMap()))
+                .thenReturn(mock(Message.class));
+        List<SendResponse> results = List.of(
+                successResult(),
+                failedResult(MessagingErrorCode.UNREGISTERED),
+                failedResult(MessagingErrorCode.INVALID_ARGUMENT));
+        BatchResponse response = mock(BatchResponse.class);
+        when(response.getResponses()).thenReturn(results);
+        when(response.getSuccessCount()).thenReturn(1);
+        when(fcmService.sendEach(anyList())).thenReturn(response);
+        when(notiSendRepository.findById(3L)).thenReturn(Optional.empty());
+
+        dispatcher.send(new FcmPushDispatcher.PushJob(APP_ID, 3L, "제목", "내용", null));
+
+        verify(fcmTokenService).markTokensDead(APP_ID, Map.of("2", "uninstalled", "3", "malformed"));
+        assertEquals("Y", targets.get(0).getSuccessYn());
+        assertEquals("N", targets.get(1).getSuccessYn());
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면 버리지 않고 호출 스레드에서 직접 발송한다")
+    void dispatch_runsOnCallerWhenQueueIsFull() throws Exception {
+        dispatcher.shutdown();
+        // 워커 1개, 대기열 1칸
+        dispatcher = new FcmPushDispatcher(fcmService, new FcmTokenCache(fcmTokenRepository, null, 300, 1000),
+                fcmTokenService, notiSendRepository, notiSendListRepository, notiSendListBatchRepository, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> overflowThread = new AtomicReference<>();
+        when(notiSendListRepository.findByAppIdAndNoticeNo(APP_ID, 1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(notiSendListRepository.findByAppIdAndNoticeNo(APP_ID, 3L)).thenAnswer(invocation -> {
+            overflowThread.set(Thread.currentThread());
+            return List.of();
+        });
+
+        dispatcher.dispatch(new FcmPushDispatcher.PushJob(APP_ID, 1L, "제목", "내용", null));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(new FcmPushDispatcher.PushJob(APP_ID, 2L, "제목", "내용", null));
+        dispatcher.dispatch(new FcmPushDispatcher.PushJob(APP_ID, 3L, "제목", "내용", null));
+
+        assertSame(Thread.currentThread(), overflowThread.get());
+        release.countDown();
+        verify(notiSendListRepository, timeout(5000)).findByAppIdAndNoticeNo(APP_ID, 2L);
+    }
+
+    @Test
+    @DisplayName("모든 메시지가 INVALID_ARGUMENT 면 메시지 오류일 수 있으므로 토큰을 정리하지 않는다")
+    void isDeadToken_invalidArgumentNeedsAcceptedPayload() {
+        FirebaseMessagingException invalid = mock(FirebaseMessagingException.class);
+        when(invalid.getMessagingErrorCode()).thenReturn(MessagingErrorCode.INVALID_ARGUMENT);
+
+        assertFalse(FcmPushDispatcher.isDeadToken(invalid, false));
+        assertTrue(FcmPushDispatcher.isDeadToken(invalid, true));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 토큰은 캐시에서 사용하고 토큰 변경 시 다시 조회한다")
+    void tokenCache_reloadsAfterEvict() {
+        FcmTokenCache cache = new FcmTokenCache(fcmTokenRepository, null, 300, 1000);
+        when(fcmTokenRepository.findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(eq(APP_ID), eq("Y"), anyCollection()))
+                .thenReturn(List.of(FcmUserToken.builder().tokenId(1L).userId("1").fcmToken("token-1").build()));
+
+        assertEquals(Map.of("1", "token-1"), cache.findTokens(APP_ID, List.of("1", "2")));
+        assertEquals(Map.of("1", "token-1"), cache.findTokens(APP_ID, List.of("1", "2")));
+        verify(fcmTokenRepository, times(1))
+                .findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(eq(APP_ID), eq("Y"), anyCollection());
+
+        cache.evict(APP_ID, "2");
+        cache.findTokens(APP_ID, List.of("1", "2"));
+        verify(fcmTokenRepository).findByAppIdAndUseAtAndUserIdInOrderByTokenIdDesc(APP_ID, "Y", List.of("2"));
+    }
+
+    private static SendResponse successResult() {
+        SendResponse result = mock(SendResponse.class);
+        when(result.isSuccessful()).thenReturn(true);
+        return result;
+    }
+
+    private static SendResponse failedResult(MessagingErrorCode code) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(code);
+        SendResponse result = mock(SendResponse.class);
+        when(result.isSuccessful()).thenReturn(false);
+        when(result.getException()).thenReturn(exception);
+        return result;
+    }
+
+    private static BatchResponse successResponse(int size) {
+        List<SendResponse> responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            SendResponse response = mock(SendResponse.class);
+            when(response.isSuccessful()).thenReturn(true);
+            responses.add(response);
+        }
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(responses);
+        when(batchResponse.getSuccessCount()).thenReturn(size);
+        return batchResponse;
+    }
+}
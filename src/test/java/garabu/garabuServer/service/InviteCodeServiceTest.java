@@ -0,0 +1,125 @@
+package garabu.garabuServer.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InviteCodeServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private InviteCodeService inviteCodeService;
+
+    @BeforeEach
+    void setUp() {
+        inviteCodeService = new InviteCodeService(redisTemplate, false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursorOf(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        Iterator<String> iterator = List.of(keys).iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    @Test
+    @DisplayName("인덱스가 가리키는 코드가 유효하면 KEYS/SCAN 없이 재사용한다")
+    void generateBookInviteCode_reusesIndexedCode() {
+        when(valueOperations.get("BOOK_INVITE_INDEX:1:EDITOR")).thenReturn("12345678");
+        when(valueOperations.get("BOOK_INVITE:12345678"))
+                .thenReturn(new InviteCodeService.BookInviteData(1L, "EDITOR"));
+        when(redisTemplate.getExpire("BOOK_INVITE:12345678", TimeUnit.MINUTES)).thenReturn(20L);
+
+        String code = inviteCodeService.generateBookInviteCode(1L, "EDITOR");
+
+        assertEquals("12345678", code);
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).scan(any());
+        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("새 코드를 만들면 코드와 같은 TTL 로 인덱스를 저장한다")
+    void generateFriendInviteCode_writesIndex() {
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+
+        String code = inviteCodeService.generateFriendInviteCode(7L);
+
+        verify(valueOperations).set("FRIEND_INVITE:" + code, 7L, 30L, TimeUnit.MINUTES);
+        verify(valueOperations).set("FRIEND_INVITE_INDEX:7", code, 30L, TimeUnit.MINUTES);
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("마이그레이션 완료 표시가 있으면 인덱스가 없어도 SCAN 하지 않는다")
+    void generateBookInviteCode_skipsScanAfterMigration() {
+        InviteCodeService service = new InviteCodeService(redisTemplate, true);
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(redisTemplate.hasKey("INVITE_CODE_INDEX_MIGRATED")).thenReturn(true);
+
+        service.generateBookInviteCode(1L, "EDITOR");
+
+        verify(redisTemplate, never()).scan(any());
+        verify(valueOperations).set(eq("BOOK_INVITE_INDEX:1:EDITOR"), anyString(), eq(30L), eq(TimeUnit.MINUTES));
+    }
+
+    @Test
+    @DisplayName("마이그레이션은 기존 코드의 인덱스를 코드 TTL 로 채우고 완료 표시를 남긴다")
+    void migrateIndexes_backfillsAndMarksComplete() {
+        InviteCodeService service = new InviteCodeService(redisTemplate, true);
+        when(redisTemplate.hasKey("INVITE_CODE_INDEX_MIGRATED")).thenReturn(false);
+        Cursor<String> bookCursor = cursorOf("BOOK_INVITE:11111111");
+        Cursor<String> friendCursor = cursorOf("FRIEND_INVITE:22222222");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(bookCursor, friendCursor);
+        when(valueOperations.get("BOOK_INVITE:11111111")).thenReturn(new InviteCodeService.BookInviteData(1L, "EDITOR"));
+        when(valueOperations.get("FRIEND_INVITE:22222222")).thenReturn(7);
+        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.SECONDS))).thenReturn(600L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(600L), eq(TimeUnit.SECONDS))).thenReturn(true);
+
+        int indexed = service.migrateIndexes();
+
+        assertEquals(2, indexed);
+        verify(valueOperations).setIfAbsent("BOOK_INVITE_INDEX:1:EDITOR", "11111111", 600L, TimeUnit.SECONDS);
+        verify(valueOperations).setIfAbsent("FRIEND_INVITE_INDEX:7", "22222222", 600L, TimeUnit.SECONDS);
+        verify(valueOperations).set(eq("INVITE_CODE_INDEX_MIGRATED"), anyString());
+
+        // 완료 후에는 다시 SCAN 하지 않음
+        assertEquals(0, service.migrateIndexes());
+        verify(redisTemplate, times(2)).scan(any());
+    }
+
+    @Test
+    @DisplayName("코드를 삭제하면 그 코드를 가리키는 인덱스도 삭제한다")
+    void deleteCode_removesIndex() {
+        when(valueOperations.get("FRIEND_INVITE:12345678")).thenReturn(7);
+        when(valueOperations.get("FRIEND_INVITE_INDEX:7")).thenReturn("12345678");
+
+        inviteCodeService.deleteCode("12345678", "FRIEND");
+
+        verify(redisTemplate).delete("FRIEND_INVITE_INDEX:7");
+        verify(redisTemplate).delete("FRIEND_INVITE:12345678");
+    }
+}
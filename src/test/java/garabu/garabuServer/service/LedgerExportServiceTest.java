@@ -0,0 +1,67 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.AmountType;
+import garabu.garabuServer.dto.LedgerExportRow;
+import garabu.garabuServer.dto.LedgerSearchConditionDTO;
+import garabu.garabuServer.mapper.LedgerMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerExportServiceTest {
+
+    @Mock
+    private LedgerMapper ledgerMapper;
+
+    @InjectMocks
+    private LedgerExportService ledgerExportService;
+
+    @Test
+    @DisplayName("커서를 순회하며 CSV 로 쓰고 특수문자가 있는 값은 따옴표로 감싼 뒤 커서를 닫는다")
+    @SuppressWarnings("unchecked")
+    void exportCsv_streamsRowsAndClosesCursor() throws Exception {
+        LedgerSearchConditionDTO cond = new LedgerSearchConditionDTO(1L, null, null, null, null, null);
+        Cursor<LedgerExportRow> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(List.of(
+                row(LocalDate.of(2025, 3, 1), 12000L, AmountType.EXPENSE, "식비", "카드", "점심, \"회사\"", null),
+                row(LocalDate.of(2025, 3, 2), 3000L, AmountType.INCOME, "급여", "이체", "=SUM(A1)", "여러\n줄")
+        ).iterator());
+        when(ledgerMapper.streamLedgersForExport(cond)).thenReturn(cursor);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = ledgerExportService.exportCsv(cond, out);
+
+        assertEquals(2, rows);
+        assertEquals("\uFEFF" + LedgerExportService.CSV_HEADER + "\r\n"
+                        + "2025-03-01,12000,EXPENSE,식비,카드,\"점심, \"\"회사\"\"\",,\r\n"
+                        + "2025-03-02,3000,INCOME,급여,이체,'=SUM(A1),\"여러\n줄\",\r\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(cursor).close();
+    }
+
+    private static LedgerExportRow row(LocalDate date, Long amount, AmountType type, String category,
+                                       String payment, String description, String memo) {
+        LedgerExportRow row = new LedgerExportRow();
+        row.setDate(date);
+        row.setAmount(amount);
+        row.setAmountType(type);
+        row.setCategory(category);
+        row.setPayment(payment);
+        row.setDescription(description);
+        row.setMemo(memo);
+        return row;
+    }
+}
@@ -0,0 +1,193 @@
+package garabu.garabuServer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import garabu.garabuServer.domain.*;
+import garabu.garabuServer.dto.LedgerImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerImportServiceTest {
+
+    @Mock private LedgerService ledgerService;
+    @Mock private CategoryService categoryService;
+    @Mock private PaymentService paymentService;
+
+    private LedgerImportService importService;
+    private Book book;
+    private Member member;
+    private Category food;
+    private PaymentMethod card;
+
+    @BeforeEach
+    void setUp() {
+        importService = new LedgerImportService(ledgerService, categoryService, paymentService,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 2, 100);
+
+        book = new Book();
+        book.setId(1L);
+        member = new Member();
+        member.setId(7L);
+
+        food = new Category();
+        food.setId(10L);
+        food.setCategory("식비");
+        food.setIsDefault(true);
+
+        card = new PaymentMethod("카드", book);
+        card.setId(20L);
+
+        when(categoryService.findCombinedCategories(book)).thenReturn(List.of(food));
+        when(paymentService.findByBookWithAsset(book)).thenReturn(List.of(card));
+    }
+
+    @Test
+    @DisplayName("CSV 는 배치 크기 단위로 저장하고 잘못된 행은 줄 번호와 함께 오류로 남긴다")
+    void importCsv_batchesAndReportsRowErrors() throws Exception {
+        List<List<Ledger>> batches = new ArrayList<>();
+        when(ledgerService.registLedgers(eq(book), anyList(), anyCollection())).thenAnswer(invocation -> {
+            List<Ledger> batch = new ArrayList<>(invocation.getArgument(1));
+            batches.add(batch);
+            return batch.size();
+        });
+
+        String csv = """
+                date,amount,amountType,category,payment,description,memo
+                2025-03-01,"12,000",지출,식비,카드,"점심, 회사 근처",
+                2025-03-02,abc,EXPENSE,식비,카드,저녁,
+                2025-03-03,5000,EXPENSE,간식,카드,커피,
+                2025-03-04,8000,EXPENSE,식비,카드,"여러 줄
+                메모 내용",메모
+                2025-03-05,3000,INCOME,식비,카드,환불,
+                """;
+
+        LedgerImportResult result = importService.importLedgers(book, member, body(csv), LedgerImportService.Format.CSV);
+
+        assertEquals(5, result.getTotalRows());
+        assertEquals(3, result.getImportedRows());
+        assertEquals(2, result.getFailedRows());
+        assertEquals(3, result.getErrors().get(0).getLine());
+        assertEquals(4, result.getErrors().get(1).getLine());
+        assertEquals("해당 가계부에 존재하지 않는 카테고리입니다: 간식", result.getErrors().get(1).getMessage());
+
+        assertEquals(2, batches.size());
+        Ledger first = batches.get(0).get(0);
+        assertEquals(12000L, first.getAmount());
+        assertEquals("점심, 회사 근처", first.getDescription());
+        assertEquals(AmountType.EXPENSE, first.getAmountType());
+        assertSame(food, first.getCategory());
+        assertSame(card, first.getPaymentMethod());
+        assertEquals("여러 줄\n메모 내용", batches.get(0).get(1).getDescription());
+        assertEquals(LocalDate.of(2025, 3, 5), batches.get(1).get(0).getDate());
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 없는 결제수단을 한 번만 생성해 배치와 함께 저장하고 같은 이름은 재사용한다")
+    void importNdjson_createsMissingPaymentOnce() throws Exception {
+        PaymentMethod cash = new PaymentMethod("현금", book);
+        when(paymentService.newPaymentForBook(book, "현금")).thenReturn(cash);
+        List<List<PaymentMethod>> newPayments = new ArrayList<>();
+        when(ledgerService.registLedgers(eq(book), anyList(), anyCollection())).thenAnswer(invocation -> {
+            newPayments.add(new ArrayList<>(invocation.getArgument(2)));
+            return ((List<?>) invocation.getArgument(1)).size();
+        });
+
+        String ndjson = """
+                {"date":"2025-03-01","amount":1000,"amountType":"EXPENSE","category":"식비","payment":"현금","description":"a"}
+
+                {"date":"2025-03-02","amount":2000,"amountType":"EXPENSE","category":"식비","payment":"현금","description":"b"}
+                {"date":"2025-03-02",
+                """;
+
+        LedgerImportResult result = importService.importLedgers(book, member, body(ndjson), LedgerImportService.Format.NDJSON);
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        verify(paymentService, times(1)).newPaymentForBook(book, "현금");
+        verify(paymentService, never()).createPaymentForBook(any(), anyString());
+        assertEquals(List.of(List.of(cash)), newPayments);
+        verify(categoryService, never()).findByBookAndCategory(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("배치가 롤백되면 그 배치에서 만든 결제수단은 다음 배치에서 다시 생성한다")
+    void importCsv_rejectedBatchDiscardsNewPayment() throws Exception {
+        PaymentMethod rolledBack = new PaymentMethod("현금", book);
+        PaymentMethod recreated = new PaymentMethod("현금", book);
+        when(paymentService.newPaymentForBook(book, "현금")).thenReturn(rolledBack, recreated);
+        List<List<PaymentMethod>> newPayments = new ArrayList<>();
+        when(ledgerService.registLedgers(eq(book), anyList(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    newPayments.add(new ArrayList<>(invocation.getArgument(2)));
+                    throw new IllegalArgumentException("잔액이 부족합니다.");
+                })
+                .thenAnswer(invocation -> {
+                    newPayments.add(new ArrayList<>(invocation.getArgument(2)));
+                    return ((List<?>) invocation.getArgument(1)).size();
+                });
+
+        String csv = """
+                date,amount,amountType,category,payment,description
+                2025-03-01,1000,EXPENSE,식비,현금,a
+                2025-03-02,1000,EXPENSE,식비,카드,b
+                2025-03-03,1000,EXPENSE,식비,현금,c
+                """;
+
+        LedgerImportResult result = importService.importLedgers(book, member, body(csv), LedgerImportService.Format.CSV);
+
+        assertEquals(1, result.getImportedRows());
+        assertEquals(2, result.getFailedRows());
+        assertEquals(List.of(List.of(rolledBack), List.of(recreated)), newPayments);
+    }
+
+    @Test
+    @DisplayName("배치 잔액 반영이 실패하면 배치의 모든 행을 실패로 기록한다")
+    void importCsv_batchRejected() throws Exception {
+        when(ledgerService.registLedgers(eq(book), anyList(), anyCollection()))
+                .thenThrow(new IllegalArgumentException("잔액이 부족합니다."));
+
+        String csv = """
+                date,amount,amountType,category,payment,description
+                2025-03-01,1000,EXPENSE,식비,카드,a
+                """;
+
+        LedgerImportResult result = importService.importLedgers(book, member, body(csv), LedgerImportService.Format.CSV);
+
+        assertEquals(0, result.getImportedRows());
+        assertEquals(1, result.getFailedRows());
+        assertEquals("잔액이 부족합니다.", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 컬럼이 없으면 가져오기를 거부한다")
+    void importCsv_missingHeader() {
+        String csv = "date,amount\n2025-03-01,1000\n";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+                importService.importLedgers(book, member, body(csv), LedgerImportService.Format.CSV));
+
+        assertTrue(e.getMessage().contains("amountType"));
+        verify(ledgerService, never()).registLedgers(any(), anyList(), anyCollection());
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
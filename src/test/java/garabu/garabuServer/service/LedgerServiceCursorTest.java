@@ -0,0 +1,146 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.dto.LedgerCursor;
+import garabu.garabuServer.dto.LedgerCursorPageDTO;
+import garabu.garabuServer.dto.LedgerDTO;
+import garabu.garabuServer.dto.LedgerSearchConditionDTO;
+import garabu.garabuServer.mapper.LedgerMapper;
+import garabu.garabuServer.repository.LedgerJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceCursorTest {
+
+    @Mock
+    private LedgerJpaRepository ledgerJpaRepository;
+
+    @Mock
+    private LedgerMapper ledgerMapper;
+
+    @InjectMocks
+    private LedgerService ledgerService;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        book = new Book();
+        book.setId(1L);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 size+1 건을 조회해 다음 페이지 여부와 마지막 기록 커서를 만든다")
+    void findLedgersByBookWithCursor_firstPage() {
+        when(ledgerJpaRepository.findFirstIdsByBook(book, PageRequest.of(0, 3))).thenReturn(List.of(30L, 20L, 10L));
+        when(ledgerJpaRepository.findByIdsWithFetch(List.of(30L, 20L)))
+                .thenReturn(List.of(ledger(30L, 3), ledger(20L, 2)));
+
+        LedgerCursorPageDTO page = ledgerService.findLedgersByBookWithCursor(book, null, 2, false);
+
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        LedgerCursor next = LedgerCursor.decode(page.getNextCursor());
+        assertEquals(LocalDate.of(2025, 3, 2), next.getDate());
+        assertEquals(20L, next.getId());
+        assertNull(page.getTotalElements());
+        verify(ledgerJpaRepository, never()).countByBook(any());
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 그 위치 이후부터 seek 하고 마지막 페이지는 다음 커서가 없다")
+    void findLedgersByBookWithCursor_seeksAfterCursor() {
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2025, 3, 2), 20L);
+        when(ledgerJpaRepository.findIdsByBookAfterCursor(book, cursor.getDate(), 20L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(10L));
+        when(ledgerJpaRepository.findByIdsWithFetch(List.of(10L))).thenReturn(List.of(ledger(10L, 1)));
+        when(ledgerJpaRepository.countByBook(book)).thenReturn(3L);
+
+        LedgerCursorPageDTO page = ledgerService.findLedgersByBookWithCursor(book, cursor, 2, true);
+
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(3L, page.getTotalElements());
+        verify(ledgerJpaRepository, never()).findFirstIdsByBook(any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 기록을 다시 조회하지 않는다")
+    void findLedgersByBookWithCursor_emptyPage() {
+        when(ledgerJpaRepository.findFirstIdsByBook(eq(book), any())).thenReturn(List.of());
+
+        LedgerCursorPageDTO page = ledgerService.findLedgersByBookWithCursor(book, null, 20, false);
+
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasNext());
+        verify(ledgerJpaRepository, never()).findByIdsWithFetch(any());
+    }
+
+    @Test
+    @DisplayName("검색 커서 조회는 커서 위치와 size+1 을 매퍼에 넘기고 초과분을 잘라낸다")
+    void searchLedgersWithCursor_passesCursorToMapper() {
+        LedgerSearchConditionDTO cond = new LedgerSearchConditionDTO();
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2025, 3, 5), 50L);
+        when(ledgerMapper.searchLedgersByCursor(cond, cursor.getDate(), 50L, 3L))
+                .thenReturn(List.of(ledger(40L, 4), ledger(35L, 4), ledger(30L, 3)));
+        when(ledgerMapper.countSearchLedgers(cond)).thenReturn(12L);
+
+        LedgerCursorPageDTO page = ledgerService.searchLedgersWithCursor(cond, cursor, 2, true);
+
+        assertEquals(List.of(40L, 35L), page.getContent().stream().map(LedgerDTO::getId).toList());
+        assertTrue(page.isHasNext());
+        assertEquals(35L, LedgerCursor.decode(page.getNextCursor()).getId());
+        assertEquals(12L, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("첫 검색 페이지는 커서 없이 조회하고 전체 건수를 계산하지 않는다")
+    void searchLedgersWithCursor_firstPageWithoutTotal() {
+        LedgerSearchConditionDTO cond = new LedgerSearchConditionDTO();
+        when(ledgerMapper.searchLedgersByCursor(cond, null, null, 21L)).thenReturn(List.of(ledger(1L, 1)));
+
+        LedgerCursorPageDTO page = ledgerService.searchLedgersWithCursor(cond, null, 20, false);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getTotalElements());
+        verify(ledgerMapper, never()).countSearchLedgers(any());
+    }
+
+    @Test
+    @DisplayName("커서 토큰은 인코딩/디코딩 후 같은 위치를 가리키고, 잘못된 토큰은 예외를 던진다")
+    void ledgerCursor_roundTrip() {
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2024, 12, 31), 987654321L);
+
+        LedgerCursor decoded = LedgerCursor.decode(cursor.encode());
+
+        assertEquals(cursor.getDate(), decoded.getDate());
+        assertEquals(cursor.getId(), decoded.getId());
+        assertNull(LedgerCursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> LedgerCursor.decode("not-a-cursor"));
+    }
+
+    private Ledger ledger(Long id, int day) {
+        Ledger ledger = new Ledger();
+        ledger.setId(id);
+        ledger.setBook(book);
+        ledger.setDate(LocalDate.of(2025, 3, day));
+        ledger.setAmount(1000L);
+        return ledger;
+    }
+}
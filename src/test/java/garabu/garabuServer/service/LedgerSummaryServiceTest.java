@@ -0,0 +1,145 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.*;
+import garabu.garabuServer.repository.LedgerMonthlySummaryRepository;
+import garabu.garabuServer.repository.LedgerSummaryVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerSummaryServiceTest {
+
+    @Mock
+    private LedgerMonthlySummaryRepository summaryRepository;
+
+    @Mock
+    private LedgerSummaryVersionRepository versionRepository;
+
+    @InjectMocks
+    private LedgerSummaryService ledgerSummaryService;
+
+    private Book book;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        book = new Book();
+        book.setId(1L);
+
+        category = new Category();
+        category.setId(10L);
+    }
+
+    @Test
+    @DisplayName("기록 생성 시 해당 월/유형/카테고리 집계에 금액과 건수를 더한다")
+    void recordCreated_appliesPositiveDelta() {
+        Ledger ledger = ledger(AmountType.EXPENSE, 15000L, category);
+
+        ledgerSummaryService.recordCreated(ledger);
+
+        verify(summaryRepository).applyDelta(1L, "2025-03", "EXPENSE", 10L, 15000L, 1L);
+    }
+
+    @Test
+    @DisplayName("기록 삭제 시 집계에서 금액과 건수를 뺀다")
+    void recordDeleted_appliesNegativeDelta() {
+        Ledger ledger = ledger(AmountType.INCOME, 3000000L, category);
+
+        ledgerSummaryService.recordDeleted(ledger);
+
+        verify(summaryRepository).applyDelta(1L, "2025-03", "INCOME", 10L, -3000000L, -1L);
+    }
+
+    @Test
+    @DisplayName("카테고리가 없는 기록은 카테고리 0으로 집계한다")
+    void recordCreated_withoutCategory() {
+        Ledger ledger = ledger(AmountType.TRANSFER, 5000L, null);
+
+        ledgerSummaryService.recordCreated(ledger);
+
+        verify(summaryRepository).applyDelta(1L, "2025-03", "TRANSFER",
+                LedgerMonthlySummary.NO_CATEGORY, 5000L, 1L);
+    }
+
+    @Test
+    @DisplayName("금액이 없는 기록은 집계하지 않는다")
+    void recordCreated_skipsIncompleteLedger() {
+        Ledger ledger = ledger(AmountType.EXPENSE, null, category);
+
+        ledgerSummaryService.recordCreated(ledger);
+
+        verify(summaryRepository, never()).applyDelta(anyLong(), anyString(), anyString(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("월간 합계는 정규화된 년월로 집계 테이블에서 조회한다")
+    void getMonthlyTotal_normalizesMonth() {
+        when(summaryRepository.sumTotalAmount(1L, "2025-03", AmountType.EXPENSE)).thenReturn(42000L);
+
+        long total = ledgerSummaryService.getMonthlyTotal(1L, "2025-3", AmountType.EXPENSE);
+
+        assertEquals(42000L, total);
+    }
+
+    @Test
+    @DisplayName("재구축 버전이 낮은 가계부는 잠근 뒤 다시 계산하고 버전을 기록한다")
+    void rebuildBook_rebuildsOutdatedBook() {
+        when(summaryRepository.lockBook(1L)).thenReturn(List.of(1L));
+        when(versionRepository.findVersion(1L)).thenReturn(Optional.of(1));
+
+        boolean rebuilt = ledgerSummaryService.rebuildBook(1L, 2);
+
+        assertTrue(rebuilt);
+        verify(summaryRepository).deleteAllByBookId(1L);
+        verify(summaryRepository).rebuildFromLedgers(1L);
+        verify(versionRepository).markVersion(1L, 2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재구축 중인 가계부는 건너뛴다")
+    void rebuildBook_skipsLockedBook() {
+        when(summaryRepository.lockBook(1L)).thenReturn(List.of());
+
+        boolean rebuilt = ledgerSummaryService.rebuildBook(1L, 1);
+
+        assertFalse(rebuilt);
+        verify(summaryRepository, never()).deleteAllByBookId(anyLong());
+        verify(summaryRepository, never()).rebuildFromLedgers(anyLong());
+    }
+
+    @Test
+    @DisplayName("잠금을 기다리는 사이 다른 인스턴스가 재구축을 마쳤으면 다시 계산하지 않는다")
+    void rebuildBook_skipsAlreadyRebuiltBook() {
+        when(summaryRepository.lockBook(1L)).thenReturn(List.of(1L));
+        when(versionRepository.findVersion(1L)).thenReturn(Optional.of(2));
+
+        boolean rebuilt = ledgerSummaryService.rebuildBook(1L, 2);
+
+        assertFalse(rebuilt);
+        verify(summaryRepository, never()).deleteAllByBookId(anyLong());
+        verify(versionRepository, never()).markVersion(anyLong(), anyInt());
+    }
+
+    private Ledger ledger(AmountType amountType, Long amount, Category category) {
+        Ledger ledger = new Ledger();
+        ledger.setBook(book);
+        ledger.setDate(LocalDate.of(2025, 3, 15));
+        ledger.setAmountType(amountType);
+        ledger.setAmount(amount);
+        ledger.setCategory(category);
+        return ledger;
+    }
+}
@@ -0,0 +1,213 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.NotificationDigest;
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.domain.NotificationOutboxType;
+import garabu.garabuServer.domain.NotificationPreference;
+import garabu.garabuServer.domain.UserBook;
+import garabu.garabuServer.repository.LedgerJpaRepository;
+import garabu.garabuServer.repository.MemberJPARepository;
+import garabu.garabuServer.repository.NotificationDigestRepository;
+import garabu.garabuServer.repository.NotificationOutboxRepository;
+import garabu.garabuServer.repository.NotificationPreferenceRepository;
+import garabu.garabuServer.repository.UserBookJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestServiceTest {
+
+    @Mock
+    private NotificationDigestRepository digestRepository;
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+    @Mock
+    private NotificationPreferenceRepository preferenceRepository;
+    @Mock
+    private UserBookJpaRepository userBookJpaRepository;
+    @Mock
+    private LedgerJpaRepository ledgerJpaRepository;
+    @Mock
+    private MemberJPARepository memberRepository;
+    @Mock
+    private PushNotificationService pushNotificationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDigestService digestService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        digestService = new NotificationDigestService(digestRepository, outboxRepository, preferenceRepository,
+                userBookJpaRepository, ledgerJpaRepository, memberRepository, pushNotificationService,
+                meterRegistry, 60);
+    }
+
+    @Test
+    @DisplayName("묶음 시간이 0 인 수신자는 즉시 발송하고 나머지는 묶음을 열어 발송을 예약한다")
+    void deferRecipients_opensDigest() {
+        Ledger ledger = ledger(100L);
+        givenMembers(1L, 2L, 3L);
+        when(preferenceRepository.findByMemberIdIn(List.of(2L, 3L)))
+                .thenReturn(List.of(preference(2L, 0), preference(3L, null)));
+        when(digestRepository.upsert(10L, 3L, 100L, 1L)).thenReturn(1);
+        when(digestRepository.lastInsertId()).thenReturn(55L);
+
+        List<Long> immediate = digestService.deferRecipients(ledger, 1L);
+
+        assertEquals(List.of(2L), immediate);
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        NotificationOutbox outbox = captor.getValue();
+        assertEquals(NotificationOutboxType.NEW_TRANSACTION_DIGEST, outbox.getType());
+        assertEquals(55L, outbox.getAggregateId());
+        assertEquals(Duration.ofSeconds(60), Duration.between(outbox.getCreatedAt(), outbox.getNextAttemptAt()));
+        assertEquals(1.0, meterRegistry.counter("notification.transaction.recipients", "delivery", "deferred").count());
+    }
+
+    @Test
+    @DisplayName("열린 묶음이 있으면 건수만 증가시키고 발송을 다시 예약하지 않는다")
+    void deferRecipients_incrementsOpenDigest() {
+        Ledger ledger = ledger(101L);
+        givenMembers(1L, 3L);
+        when(preferenceRepository.findByMemberIdIn(List.of(3L))).thenReturn(List.of(preference(3L, 300)));
+        // ON DUPLICATE KEY UPDATE 로 기존 행을 갱신하면 영향 받은 행 수는 2
+        when(digestRepository.upsert(10L, 3L, 101L, 1L)).thenReturn(2);
+
+        List<Long> immediate = digestService.deferRecipients(ledger, 1L);
+
+        assertTrue(immediate.isEmpty());
+        verify(digestRepository, never()).lastInsertId();
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("묶음 시간을 설정하지 않은 수신자는 서버 기본값이 없으면 즉시 발송한다")
+    void deferRecipients_defaultWindowSendsImmediately() {
+        digestService = new NotificationDigestService(digestRepository, outboxRepository, preferenceRepository,
+                userBookJpaRepository, ledgerJpaRepository, memberRepository, pushNotificationService,
+                meterRegistry, 0);
+        Ledger ledger = ledger(102L);
+        givenMembers(1L, 3L);
+        when(preferenceRepository.findByMemberIdIn(List.of(3L))).thenReturn(List.of(preference(3L, null)));
+
+        List<Long> immediate = digestService.deferRecipients(ledger, 1L);
+
+        assertEquals(List.of(3L), immediate);
+        verifyNoInteractions(digestRepository, outboxRepository);
+    }
+
+    @Test
+    @DisplayName("여러 건이 묶였으면 N건 알림 한 건을 보내고 묶음을 삭제한다")
+    void flush_sendsDigest() {
+        NotificationDigest digest = digest(55L, 4);
+        when(digestRepository.findByIdForUpdate(55L)).thenReturn(Optional.of(digest));
+
+        digestService.flush(55L);
+
+        verify(pushNotificationService).sendTransactionDigestNotification(10L, 3L, 4);
+        verify(pushNotificationService, never()).sendNewTransactionNotification(any(), any(), anyCollection());
+        verify(digestRepository).delete(digest);
+        assertEquals(4.0, meterRegistry.summary("notification.transaction.digest.size").totalAmount());
+    }
+
+    @Test
+    @DisplayName("한 건만 묶였으면 기존 새 거래 알림 형식으로 보낸다")
+    void flush_sendsSingleAsTransactionNotification() {
+        NotificationDigest digest = digest(56L, 1);
+        Ledger ledger = ledger(100L);
+        Member author = new Member();
+        when(digestRepository.findByIdForUpdate(56L)).thenReturn(Optional.of(digest));
+        when(ledgerJpaRepository.findById(100L)).thenReturn(Optional.of(ledger));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+
+        digestService.flush(56L);
+
+        verify(pushNotificationService).sendNewTransactionNotification(ledger, author, List.of(3L));
+        verify(pushNotificationService, never()).sendTransactionDigestNotification(any(), any(), anyInt());
+        verify(digestRepository).delete(digest);
+    }
+
+    @Test
+    @DisplayName("발송 요청에 실패하면 묶음을 삭제하지 않고 예외를 전달해 재시도되게 한다")
+    void flush_keepsDigestWhenSendFails() {
+        NotificationDigest digest = digest(58L, 3);
+        when(digestRepository.findByIdForUpdate(58L)).thenReturn(Optional.of(digest));
+        doThrow(new IllegalArgumentException("해당 앱이 존재하지 않습니다: garabu-app"))
+                .when(pushNotificationService).sendTransactionDigestNotification(10L, 3L, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> digestService.flush(58L));
+
+        verify(digestRepository, never()).delete(any());
+        assertEquals(0.0, meterRegistry.counter("notification.transaction.digests").count());
+    }
+
+    @Test
+    @DisplayName("이미 발송된 묶음은 다시 보내지 않는다")
+    void flush_ignoresMissingDigest() {
+        when(digestRepository.findByIdForUpdate(57L)).thenReturn(Optional.empty());
+
+        digestService.flush(57L);
+
+        verifyNoInteractions(pushNotificationService);
+    }
+
+    private void givenMembers(Long... memberIds) {
+        List<UserBook> userBooks = Arrays.stream(memberIds).map(id -> {
+            Member member = new Member();
+            member.setId(id);
+            UserBook userBook = new UserBook();
+            userBook.setMember(member);
+            return userBook;
+        }).toList();
+        when(userBookJpaRepository.findByBookId(10L)).thenReturn(userBooks);
+    }
+
+    private static Ledger ledger(Long id) {
+        Book book = new Book();
+        book.setId(10L);
+        Ledger ledger = new Ledger();
+        ledger.setId(id);
+        ledger.setBook(book);
+        return ledger;
+    }
+
+    private static NotificationPreference preference(Long memberId, Integer digestSeconds) {
+        Member member = new Member();
+        member.setId(memberId);
+        NotificationPreference preference = new NotificationPreference(member);
+        preference.setTransactionDigestSeconds(digestSeconds);
+        return preference;
+    }
+
+    private static NotificationDigest digest(Long id, int count) {
+        NotificationDigest digest = BeanUtils.instantiateClass(NotificationDigest.class);
+        ReflectionTestUtils.setField(digest, "id", id);
+        ReflectionTestUtils.setField(digest, "bookId", 10L);
+        ReflectionTestUtils.setField(digest, "recipientId", 3L);
+        ReflectionTestUtils.setField(digest, "pendingCount", count);
+        ReflectionTestUtils.setField(digest, "lastLedgerId", 100L);
+        ReflectionTestUtils.setField(digest, "lastActorId", 1L);
+        return digest;
+    }
+}
@@ -0,0 +1,160 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.Book;
+import garabu.garabuServer.domain.Ledger;
+import garabu.garabuServer.domain.Member;
+import garabu.garabuServer.domain.NotificationOutbox;
+import garabu.garabuServer.domain.NotificationOutboxStatus;
+import garabu.garabuServer.domain.NotificationOutboxType;
+import garabu.garabuServer.repository.LedgerJpaRepository;
+import garabu.garabuServer.repository.MemberJPARepository;
+import garabu.garabuServer.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+    @Mock
+    private LedgerJpaRepository ledgerJpaRepository;
+    @Mock
+    private MemberJPARepository memberRepository;
+    @Mock
+    private PushNotificationService pushNotificationService;
+    @Mock
+    private NotificationDigestService digestService;
+
+    @InjectMocks
+    private NotificationOutboxService outboxService;
+
+    private NotificationOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        outbox = NotificationOutbox.of(NotificationOutboxType.NEW_TRANSACTION, 100L, 1L);
+        outbox.setId(7L);
+        outbox.setStatus(NotificationOutboxStatus.PROCESSING);
+        lenient().when(outboxRepository.findById(7L)).thenReturn(Optional.of(outbox));
+    }
+
+    @Test
+    @DisplayName("발송에 성공하면 DONE 으로 표시한다")
+    void process_marksDone() {
+        Ledger ledger = givenLedger();
+        Member author = givenAuthor();
+        when(digestService.deferRecipients(ledger, 1L)).thenReturn(List.of(2L));
+
+        outboxService.process(7L);
+
+        verify(pushNotificationService).sendNewTransactionNotification(ledger, author, List.of(2L));
+        assertEquals(NotificationOutboxStatus.DONE, outbox.getStatus());
+        assertNotNull(outbox.getProcessedAt());
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 예외를 던져 발송 트랜잭션을 롤백하고 DONE 으로 표시하지 않는다")
+    void process_propagatesSendFailure() {
+        Ledger ledger = givenLedger();
+        Member author = givenAuthor();
+        when(digestService.deferRecipients(ledger, 1L)).thenReturn(List.of(2L));
+        doThrow(new IllegalArgumentException("해당 앱이 존재하지 않습니다: garabu-app"))
+                .when(pushNotificationService).sendNewTransactionNotification(ledger, author, List.of(2L));
+
+        assertThrows(IllegalArgumentException.class, () -> outboxService.process(7L));
+
+        assertEquals(NotificationOutboxStatus.PROCESSING, outbox.getStatus());
+        assertNull(outbox.getProcessedAt());
+    }
+
+    @Test
+    @DisplayName("실패를 기록하면 시도 횟수를 늘리고 백오프 후 재시도하도록 대기 상태로 되돌린다")
+    void recordFailure_schedulesRetry() {
+        LocalDateTime before = LocalDateTime.now();
+
+        outboxService.recordFailure(7L, new IllegalStateException("FCM 발송 실패"));
+
+        assertEquals(NotificationOutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertEquals("FCM 발송 실패", outbox.getLastError());
+        // 첫 실패는 2초 후 재시도
+        assertFalse(outbox.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달할 때까지 재시도하고 이후 FAILED 로 남긴다")
+    void recordFailure_failsAfterMaxAttempts() {
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            // 워커가 다시 가져간 상태
+            outbox.setStatus(NotificationOutboxStatus.PROCESSING);
+
+            outboxService.recordFailure(7L, new IllegalStateException("FCM 발송 실패"));
+
+            assertEquals(attempt, outbox.getAttempts());
+            assertEquals(attempt < 3 ? NotificationOutboxStatus.PENDING : NotificationOutboxStatus.FAILED,
+                    outbox.getStatus());
+        }
+        assertNotNull(outbox.getProcessedAt());
+    }
+
+    @Test
+    @DisplayName("이미 다른 상태로 바뀐 항목은 실패를 기록하지 않는다")
+    void recordFailure_ignoresNonProcessing() {
+        outbox.setStatus(NotificationOutboxStatus.DONE);
+
+        outboxService.recordFailure(7L, new IllegalStateException("commit failed"));
+
+        assertEquals(NotificationOutboxStatus.DONE, outbox.getStatus());
+        assertEquals(0, outbox.getAttempts());
+    }
+
+    @Test
+    @DisplayName("멈춘 항목은 최대 시도 횟수 기준으로 FAILED 처리한 뒤 나머지만 다시 대기시킨다")
+    void housekeeping_failsExhaustedStaleRows() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(5);
+        LocalDateTime processedBefore = LocalDateTime.now().minusDays(7);
+
+        outboxService.housekeeping(staleBefore, processedBefore);
+
+        InOrder order = inOrder(outboxRepository);
+        order.verify(outboxRepository).failStale(eq(NotificationOutboxStatus.FAILED),
+                eq(NotificationOutboxStatus.PROCESSING), eq(staleBefore), eq(3), anyString(), any());
+        order.verify(outboxRepository).releaseStale(
+                NotificationOutboxStatus.PENDING, NotificationOutboxStatus.PROCESSING, staleBefore);
+        verify(outboxRepository).deleteProcessedBefore(NotificationOutboxStatus.DONE, processedBefore);
+    }
+
+    private Ledger givenLedger() {
+        Book book = new Book();
+        book.setId(10L);
+        Ledger ledger = new Ledger();
+        ledger.setId(100L);
+        ledger.setBook(book);
+        when(ledgerJpaRepository.findById(100L)).thenReturn(Optional.of(ledger));
+        return ledger;
+    }
+
+    private Member givenAuthor() {
+        Member author = new Member();
+        author.setId(1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(author));
+        return author;
+    }
+}
@@ -0,0 +1,143 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.*;
+import garabu.garabuServer.repository.RecurringExecutionRepository;
+import garabu.garabuServer.repository.RecurringTransactionRepository;
+import garabu.garabuServer.service.RecurringTransactionExecutionService.ExecutedTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 반복거래 밀린 회차 실행 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionExecutionServiceTest {
+
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Mock
+    private RecurringExecutionRepository recurringExecutionRepository;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @InjectMocks
+    private RecurringTransactionExecutionService executionService;
+
+    private final LocalDate today = LocalDate.now();
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = new Member();
+        owner.setId(7L);
+        owner.setName("홍길동");
+
+        book = new Book();
+        book.setId(10L);
+        book.setOwner(owner);
+    }
+
+    @Test
+    @DisplayName("밀린 회차를 한 번에 생성하고 이미 실행된 회차는 건너뛴다")
+    void executeChunk_catchesUpMissedOccurrences() {
+        RecurringTransaction transaction = recurring(today.minusDays(2));
+        when(recurringTransactionRepository.findClaimedWithBook(List.of(1L), "runner"))
+                .thenReturn(List.of(transaction));
+        when(recurringExecutionRepository.findExecutedKeys(Set.of(1L), today.minusDays(2)))
+                .thenReturn(Set.of(RecurringExecutionRepository.key(1L, today.minusDays(2))));
+        when(categoryService.findByBookAndCategory(book, "기타")).thenReturn(new Category("기타", "📦", true));
+        when(paymentService.findByBookAndPayment(book, "현금")).thenReturn(mock(PaymentMethod.class));
+
+        List<ExecutedTransaction> executed = executionService.executeChunk(List.of(1L), "runner");
+
+        assertEquals(1, executed.size());
+        assertEquals(2, executed.get(0).getOccurrences());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Ledger>> ledgers = ArgumentCaptor.forClass(List.class);
+        verify(ledgerService).registLedgers(ledgers.capture());
+        assertEquals(List.of(today.minusDays(1), today),
+                ledgers.getValue().stream().map(Ledger::getDate).toList());
+        verify(recurringExecutionRepository).insertAll(Map.of(1L, List.of(today.minusDays(1), today)));
+
+        assertEquals(today.plusDays(1), transaction.getNextExecutionDate());
+        assertEquals(today, transaction.getLastExecutionDate());
+        assertEquals(3, transaction.getExecutionCount());
+        assertNull(transaction.getClaimedBy());
+    }
+
+    @Test
+    @DisplayName("최대 실행 횟수까지만 생성하고 도달하면 비활성화한다")
+    void executeChunk_stopsAtMaxExecutions() {
+        RecurringTransaction transaction = recurring(today.minusDays(5));
+        transaction.setMaxExecutions(2);
+        when(recurringTransactionRepository.findClaimedWithBook(List.of(1L), "runner"))
+                .thenReturn(List.of(transaction));
+        when(recurringExecutionRepository.findExecutedKeys(anyCollection(), any())).thenReturn(Set.of());
+        when(categoryService.findByBookAndCategory(book, "기타")).thenReturn(new Category("기타", "📦", true));
+        when(paymentService.findByBookAndPayment(book, "현금")).thenReturn(mock(PaymentMethod.class));
+
+        executionService.executeChunk(List.of(1L), "runner");
+
+        verify(recurringExecutionRepository).insertAll(Map.of(1L, List.of(today.minusDays(5), today.minusDays(4))));
+        assertFalse(transaction.getIsActive());
+        assertNull(transaction.getNextExecutionDate());
+    }
+
+    @Test
+    @DisplayName("반복거래에 지정된 카테고리와 결제수단으로 기록을 만들고 기본값은 조회하지 않는다")
+    void executeChunk_usesTransactionCategoryAndPayment() {
+        RecurringTransaction transaction = recurring(today);
+        Category category = new Category("통신비", "📱", true);
+        PaymentMethod paymentMethod = mock(PaymentMethod.class);
+        transaction.setCategory(category);
+        transaction.setPaymentMethod(paymentMethod);
+        when(recurringTransactionRepository.findClaimedWithBook(List.of(1L), "runner"))
+                .thenReturn(List.of(transaction));
+        when(recurringExecutionRepository.findExecutedKeys(anyCollection(), any())).thenReturn(Set.of());
+
+        executionService.executeChunk(List.of(1L), "runner");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Ledger>> ledgers = ArgumentCaptor.forClass(List.class);
+        verify(ledgerService).registLedgers(ledgers.capture());
+        assertSame(category, ledgers.getValue().get(0).getCategory());
+        assertSame(paymentMethod, ledgers.getValue().get(0).getPaymentMethod());
+        verifyNoInteractions(categoryService, paymentService);
+    }
+
+    private RecurringTransaction recurring(LocalDate nextExecutionDate) {
+        RecurringTransaction transaction = RecurringTransaction.create(book, "구독료", AmountType.EXPENSE,
+                new BigDecimal("10000"), RecurrenceType.DAILY, nextExecutionDate.minusDays(1));
+        transaction.setId(1L);
+        transaction.setNextExecutionDate(nextExecutionDate);
+        transaction.setLastExecutionDate(nextExecutionDate.minusDays(1));
+        transaction.setExecutionCount(0);
+        transaction.setClaimedBy("runner");
+        return transaction;
+    }
+}
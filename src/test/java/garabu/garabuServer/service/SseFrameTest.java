@@ -0,0 +1,65 @@
+package garabu.garabuServer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseFrameTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("id/event/data 라인을 SSE 형식으로 한 번에 인코딩한다")
+    void of_encodesEventFrame() {
+        SseFrame frame = SseFrame.of("1700000000000-0", "LEDGER_CREATED", Map.of("bookId", 1), objectMapper);
+
+        assertEquals("id:1700000000000-0\nevent:LEDGER_CREATED\ndata:{\"bookId\":1}\n\n", text(frame));
+    }
+
+    @Test
+    @DisplayName("id가 없으면 id 라인을 생략한다")
+    void of_withoutId() {
+        SseFrame frame = SseFrame.of(null, "NOTIFICATION", "hello", objectMapper);
+
+        assertEquals("event:NOTIFICATION\ndata:\"hello\"\n\n", text(frame));
+    }
+
+    @Test
+    @DisplayName("여러 번 build 해도 같은 바이트 배열을 공유한다")
+    void build_isReusable() {
+        SseFrame frame = SseFrame.of("1-0", "LEDGER_DELETED", 10L, objectMapper);
+
+        Set<ResponseBodyEmitter.DataWithMediaType> first = frame.build();
+        Set<ResponseBodyEmitter.DataWithMediaType> second = frame.build();
+
+        assertSame(first, second);
+        assertSame(first.iterator().next().getData(), second.iterator().next().getData());
+    }
+
+    @Test
+    @DisplayName("heartbeat 주석 프레임을 인코딩한다")
+    void comment_encodesComment() {
+        assertEquals(":heartbeat\n\n", text(SseFrame.comment("heartbeat")));
+    }
+
+    @Test
+    @DisplayName("인코딩된 프레임은 수정할 수 없다")
+    void frame_isImmutable() {
+        SseFrame frame = SseFrame.comment("heartbeat");
+
+        assertThrows(UnsupportedOperationException.class, () -> frame.id("1-0"));
+        assertThrows(UnsupportedOperationException.class, () -> frame.data("x"));
+    }
+
+    private static String text(SseFrame frame) {
+        byte[] bytes = (byte[]) frame.build().iterator().next().getData();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,160 @@
+package garabu.garabuServer.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseOutboundQueueTest {
+
+    private SseEmitter emitter;
+    private Counter droppedCounter;
+    private ManualExecutor executor;
+    private int closeCalls;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+        droppedCounter = new SimpleMeterRegistry().counter("sse.outbound.dropped");
+        executor = new ManualExecutor();
+        closeCalls = 0;
+    }
+
+    private SseOutboundQueue queue(int capacity, SseOutboundQueue.OverflowPolicy policy) {
+        return new SseOutboundQueue(emitter, capacity, policy, executor, droppedCounter, () -> closeCalls++);
+    }
+
+    @Test
+    @DisplayName("offer 는 전송하지 않고 드레인 작업 하나만 예약하며, 드레인은 넣은 순서대로 전송한다")
+    void offer_defersSendToSingleDrain() throws IOException {
+        SseOutboundQueue queue = queue(10, SseOutboundQueue.OverflowPolicy.DROP_OLDEST);
+        SseEmitter.SseEventBuilder first = SseEmitter.event().name("first");
+        SseEmitter.SseEventBuilder second = SseEmitter.event().name("second");
+
+        assertTrue(queue.offer(first));
+        assertTrue(queue.offer(second));
+
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(1, executor.pending());
+        assertEquals(2, queue.depth());
+
+        executor.runAll();
+
+        ArgumentCaptor<SseEmitter.SseEventBuilder> sent = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(2)).send(sent.capture());
+        assertEquals(List.of(first, second), sent.getAllValues());
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책은 큐가 가득 차면 가장 오래된 이벤트를 버린다")
+    void dropOldest_discardsHead() throws IOException {
+        SseOutboundQueue queue = queue(2, SseOutboundQueue.OverflowPolicy.DROP_OLDEST);
+        SseEmitter.SseEventBuilder e1 = SseEmitter.event().name("e1");
+        SseEmitter.SseEventBuilder e2 = SseEmitter.event().name("e2");
+        SseEmitter.SseEventBuilder e3 = SseEmitter.event().name("e3");
+
+        queue.offer(e1);
+        queue.offer(e2);
+        queue.offer(e3);
+        executor.runAll();
+
+        ArgumentCaptor<SseEmitter.SseEventBuilder> sent = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(2)).send(sent.capture());
+        assertEquals(List.of(e2, e3), sent.getAllValues());
+        assertEquals(1.0, droppedCounter.count());
+    }
+
+    @Test
+    @DisplayName("COALESCE 정책은 밀린 이벤트를 resync 이벤트 하나로 대체한다")
+    void coalesce_replacesBacklogWithResync() {
+        SseOutboundQueue queue = queue(2, SseOutboundQueue.OverflowPolicy.COALESCE);
+
+        queue.offer(SseEmitter.event().name("e1"));
+        queue.offer(SseEmitter.event().name("e2"));
+        queue.offer(SseEmitter.event().name("e3"));
+
+        // resync + e3
+        assertEquals(2, queue.depth());
+        assertEquals(2.0, droppedCounter.count());
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책은 큐가 가득 차면 연결을 종료하고 정리 콜백을 한 번만 호출한다")
+    void disconnect_completesEmitter() {
+        SseOutboundQueue queue = queue(1, SseOutboundQueue.OverflowPolicy.DISCONNECT);
+
+        assertTrue(queue.offer(SseEmitter.event().name("e1")));
+        assertFalse(queue.offer(SseEmitter.event().name("e2")));
+        assertFalse(queue.offer(SseEmitter.event().name("e3")));
+
+        verify(emitter).complete();
+        assertEquals(1, closeCalls);
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 큐를 닫고 정리 콜백을 호출하며 이후 이벤트는 받지 않는다")
+    void drain_terminatesOnSendFailure() throws IOException {
+        SseOutboundQueue queue = queue(10, SseOutboundQueue.OverflowPolicy.DROP_OLDEST);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        queue.offer(SseEmitter.event().name("e1"));
+        queue.offer(SseEmitter.event().name("e2"));
+        executor.runAll();
+
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(1, closeCalls);
+        assertFalse(queue.offer(SseEmitter.event().name("e3")));
+        assertEquals(0, executor.pending());
+    }
+
+    @Test
+    @DisplayName("close 후에는 남은 이벤트를 보내지 않는다")
+    void close_discardsPending() throws IOException {
+        SseOutboundQueue queue = queue(10, SseOutboundQueue.OverflowPolicy.DROP_OLDEST);
+        queue.offer(SseEmitter.event().name("e1"));
+
+        queue.close();
+        executor.runAll();
+
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(0, closeCalls);
+    }
+
+    /**
+     * 예약된 드레인 작업을 테스트에서 직접 실행하는 실행기
+     */
+    private static class ManualExecutor implements Executor {
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.addLast(command);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.pollFirst()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package garabu.garabuServer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import garabu.garabuServer.domain.BookRole;
+import garabu.garabuServer.event.BookEventLog;
+import garabu.garabuServer.event.SseTopicSubscriptionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SseServiceTest {
+
+    @Mock
+    private UserBookService userBookService;
+    @Mock
+    private ObjectProvider<SseTopicSubscriptionManager> subscriptionManagerProvider;
+    @Mock
+    private SseTopicSubscriptionManager subscriptionManager;
+    @Mock
+    private BookEventLog bookEventLog;
+
+    private SseService sseService;
+
+    @BeforeEach
+    void setUp() {
+        sseService = new SseService(new ObjectMapper(), userBookService, subscriptionManagerProvider,
+                new SimpleMeterRegistry(), bookEventLog);
+        ReflectionTestUtils.setField(sseService, "queueCapacity", 16);
+        ReflectionTestUtils.setField(sseService, "overflowPolicy", SseOutboundQueue.OverflowPolicy.DROP_OLDEST);
+        sseService.registerMetrics();
+        when(subscriptionManagerProvider.getObject()).thenReturn(subscriptionManager);
+        when(userBookService.findRole(eq(10L), anyLong())).thenReturn(Optional.of(BookRole.EDITOR));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseService.shutdown();
+    }
+
+    @Test
+    @DisplayName("가계부 채널 구독에 실패하면 다음 구독자가 다시 구독한다")
+    void subscribe_retriesFailedChannelSubscription() {
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .doNothing()
+                .when(subscriptionManager).subscribeBook(10L);
+
+        sseService.subscribe(10L, 1L, null);
+        sseService.subscribe(10L, 2L, null);
+        sseService.subscribe(10L, 3L, null);
+
+        // 첫 구독 실패 후 한 번만 다시 구독
+        verify(subscriptionManager, times(2)).subscribeBook(10L);
+    }
+
+    @Test
+    @DisplayName("구독에 성공하면 이후 구독자는 채널을 다시 구독하지 않는다")
+    void subscribe_subscribesChannelOnce() {
+        sseService.subscribe(10L, 1L, null);
+        sseService.subscribe(10L, 2L, null);
+
+        verify(subscriptionManager, times(1)).subscribeBook(10L);
+    }
+}
@@ -0,0 +1,180 @@
+package garabu.garabuServer.service;
+
+import garabu.garabuServer.domain.*;
+import garabu.garabuServer.dto.LedgerCursor;
+import garabu.garabuServer.dto.tag.TagMatchMode;
+import garabu.garabuServer.dto.tag.TagSearchResponse;
+import garabu.garabuServer.repository.BookRepository;
+import garabu.garabuServer.repository.LedgerJpaRepository;
+import garabu.garabuServer.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TagService 태그 검색/병합 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TagServiceTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookAccessCache bookAccessCache;
+
+    @Mock
+    private LedgerJpaRepository ledgerRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private TagService tagService;
+
+    private Tag groceries;
+    private Tag weekend;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member();
+        member.setId(1L);
+
+        book = new Book();
+        book.setId(10L);
+
+        groceries = new Tag(book, "장보기", "#00FF00");
+        groceries.setId(100L);
+        weekend = new Tag(book, "주말", "#0000FF");
+        weekend.setId(200L);
+
+        when(memberService.getCurrentMember()).thenReturn(member);
+        when(bookAccessCache.findRole(10L, 1L)).thenReturn(Optional.of(BookRole.EDITOR));
+    }
+
+    private void givenSearchTags() {
+        when(bookRepository.findById(10L)).thenReturn(Optional.of(book));
+        when(tagRepository.findByBookIdAndNameIn(eq(10L), anyCollection())).thenReturn(List.of(weekend, groceries));
+    }
+
+    @Test
+    @DisplayName("ALL 조건은 모든 태그 수를 요구 개수로 DB 에서 페이지를 조회한다")
+    void searchTransactionsByTag_allMatchPagesInDatabase() {
+        givenSearchTags();
+        Pageable pageable = PageRequest.of(1, 2);
+        when(ledgerRepository.findIdsByTags(eq(10L), eq(List.of(100L, 200L)), eq(2L), any()))
+                .thenReturn(new PageImpl<>(List.of(3L), pageable, 3));
+        when(ledgerRepository.findByIdsWithCategory(List.of(3L)))
+                .thenReturn(List.of(ledger(3L, LocalDate.of(2025, 1, 10))));
+
+        TagSearchResponse response = tagService.searchTransactionsByTag(
+                10L, List.of("장보기", "주말"), TagMatchMode.ALL, pageable);
+
+        assertEquals(List.of("장보기", "주말"), response.getTagNames());
+        assertEquals("장보기", response.getTagName());
+        assertEquals(1, response.getTransactions().size());
+        assertEquals("식비", response.getTransactions().get(0).getCategoryName());
+        assertEquals(3L, response.getTotalElements());
+        assertEquals(2, response.getTotalPages());
+        assertFalse(response.getHasNext());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 1건 더 읽어 다음 커서를 만들고 전체 건수는 요청 시에만 센다")
+    void searchTransactionsByTagWithCursor_returnsNextCursor() {
+        givenSearchTags();
+        LedgerCursor cursor = new LedgerCursor(LocalDate.of(2025, 1, 31), 50L);
+        when(ledgerRepository.findIdsByTagsAfterCursor(eq(10L), eq(List.of(100L)), eq(1L),
+                eq(cursor.getDate()), eq(50L), any()))
+                .thenReturn(List.of(40L, 30L, 20L));
+        when(ledgerRepository.findByIdsWithCategory(List.of(40L, 30L)))
+                .thenReturn(List.of(ledger(40L, LocalDate.of(2025, 1, 20)), ledger(30L, LocalDate.of(2025, 1, 15))));
+
+        TagSearchResponse response = tagService.searchTransactionsByTagWithCursor(
+                10L, List.of("장보기"), TagMatchMode.ANY, cursor, 2, false);
+
+        assertTrue(response.getHasNext());
+        assertEquals(2, response.getTransactions().size());
+        assertEquals(new LedgerCursor(LocalDate.of(2025, 1, 15), 30L).encode(), response.getNextCursor());
+        assertNull(response.getTotalElements());
+        verify(ledgerRepository, never()).countByTags(anyLong(), anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 태그가 있으면 예외를 던진다")
+    void searchTransactionsByTag_unknownTag() {
+        givenSearchTags();
+        assertThrows(IllegalArgumentException.class, () -> tagService.searchTransactionsByTag(
+                10L, List.of("장보기", "없는태그"), TagMatchMode.ANY, PageRequest.of(0, 20)));
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    @Test
+    @DisplayName("태그 병합은 연결 테이블에서 복사/삭제 후 사용 횟수를 재계산한다")
+    void mergeTags_setBased() {
+        when(tagRepository.findById(100L)).thenReturn(Optional.of(groceries));
+        when(tagRepository.findById(200L)).thenReturn(Optional.of(weekend));
+
+        tagService.mergeTags(100L, 200L);
+
+        var inOrder = inOrder(tagRepository);
+        inOrder.verify(tagRepository).copyLedgerTags(100L, 200L);
+        inOrder.verify(tagRepository).deleteLedgerTags(100L);
+        inOrder.verify(tagRepository).refreshUsageCount(200L);
+        inOrder.verify(tagRepository).deleteById(100L);
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    @Test
+    @DisplayName("같은 태그끼리는 병합할 수 없다")
+    void mergeTags_sameTag() {
+        when(tagRepository.findById(100L)).thenReturn(Optional.of(groceries));
+
+        assertThrows(IllegalArgumentException.class, () -> tagService.mergeTags(100L, 100L));
+        verify(tagRepository, never()).deleteLedgerTags(anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 거래 태그 추가는 중복 ID 를 제거해 한 번의 INSERT 로 처리한다")
+    void addTagToTransactions_singleInsert() {
+        when(tagRepository.findById(100L)).thenReturn(Optional.of(groceries));
+        when(tagRepository.insertLedgerTags(100L, 10L, List.of(1L, 2L, 3L))).thenReturn(2);
+
+        var response = tagService.addTagToTransactions(100L, List.of(1L, 2L, 2L, 3L));
+
+        assertEquals(3, response.getRequestedCount());
+        assertEquals(2, response.getTaggedCount());
+        verify(tagRepository).insertLedgerTags(100L, 10L, List.of(1L, 2L, 3L));
+        verify(tagRepository).refreshUsageCount(100L);
+        verifyNoInteractions(ledgerRepository);
+    }
+
+    private Ledger ledger(Long id, LocalDate date) {
+        Category category = new Category("식비", "🍽️", true);
+        Ledger ledger = new Ledger();
+        ledger.setId(id);
+        ledger.setDate(date);
+        ledger.setAmount(10000L);
+        ledger.setCategory(category);
+        return ledger;
+    }
+}
@@ -41,6 +41,12 @@ class UserBookServiceTest {
     @Mock
     private BookSharingNotificationService notificationService;
     
+    @Mock
+    private BookAccessCache bookAccessCache;
+    
+    @Mock
+    private BookService bookService;
+    
     @InjectMocks
     private UserBookService userBookService;
     
@@ -154,6 +160,7 @@ class UserBookServiceTest {
         // then
         verify(userBookJpaRepository).save(any(UserBook.class));
         verify(notificationService).sendBookInvitationNotification(invitedUser, book, owner.getName(), role);
+        verify(bookService).evictUserBooksCache(List.of("invited"));
     }
     
     @Test
@@ -253,6 +260,8 @@ class UserBookServiceTest {
         // then
         verify(notificationService).sendMemberRemovedNotification(invitedUser, book, owner.getName());
         verify(userBookJpaRepository).deleteByBookIdAndMemberId(bookId, memberId);
+        verify(bookAccessCache).invalidate(bookId, memberId);
+        verify(bookService).evictUserBooksCache(List.of("invited"));
     }
     
     @Test
@@ -275,5 +284,6 @@ class UserBookServiceTest {
         
         verify(notificationService, never()).sendMemberRemovedNotification(any(), any(), any());
         verify(userBookJpaRepository, never()).deleteByBookIdAndMemberId(anyLong(), anyLong());
+        verify(bookAccessCache, never()).invalidate(anyLong(), anyLong());
     }
 }
\ No newline at end of file